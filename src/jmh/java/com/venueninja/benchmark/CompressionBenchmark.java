@@ -0,0 +1,93 @@
+package com.venueninja.benchmark;
+
+import com.venueninja.config.CompressionProperties;
+import com.venueninja.controller.VenueJsonRenderer;
+import com.venueninja.model.SeatRecommendation;
+import com.venueninja.model.Venue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * CPU cost of serving the venue list gzipped: deflating on every request (what container-level
+ * compression does) versus handing out the cached variant, against the uncompressed body.
+ * Setup prints the bytes on the wire for each level so the trade-off can be read side by side.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompressionBenchmark {
+
+    private static final int RECOMMENDATIONS_PER_VENUE = 10;
+
+    @Param({"10", "200"})
+    public int venues;
+
+    @Param({"1", "6", "9"})
+    public int level;
+
+    private VenueJsonRenderer renderer;
+    private VenueJsonRenderer.RenderedJson rendered;
+
+    @Setup
+    public void render() {
+        CompressionProperties compression = new CompressionProperties();
+        compression.setLevel(level);
+        renderer = new VenueJsonRenderer(Jackson2ObjectMapperBuilder.json().build(), compression);
+        List<Venue> catalog = new ArrayList<>();
+        for (int i = 0; i < venues; i++) {
+            List<SeatRecommendation> recommendations = new ArrayList<>();
+            for (int j = 0; j < RECOMMENDATIONS_PER_VENUE; j++) {
+                recommendations.add(new SeatRecommendation("Section " + j, "Category " + (j % 4),
+                        "Reason for seat " + j, "$" + (40 + j * 10), "Tip number " + j));
+            }
+            catalog.add(new Venue("venue-" + i, "Venue " + i, recommendations));
+        }
+        rendered = renderer.render(catalog);
+        System.out.printf("%n%d venues, level %d: identity %,d bytes, gzip %,d bytes%n",
+                venues, level, rendered.body().length, renderer.negotiate(rendered, "gzip").body().length);
+    }
+
+    @Benchmark
+    public byte[] identity() {
+        return renderer.negotiate(rendered, null).body();
+    }
+
+    @Benchmark
+    public byte[] gzipPerRequest() throws IOException {
+        byte[] body = rendered.body();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        Deflater deflater = new Deflater(level, true);
+        try (DeflaterOutputStream gzip = new DeflaterOutputStream(out, deflater, 8192)) {
+            gzip.write(body);
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] gzipCached() {
+        return renderer.negotiate(rendered, "gzip").body();
+    }
+}
@@ -0,0 +1,75 @@
+package com.venueninja.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.venueninja.exception.BadRequestException;
+import com.venueninja.exception.GlobalExceptionHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
+import org.springframework.web.servlet.NoHandlerFoundException;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link GlobalExceptionHandler} error paths: building the exception, mapping it to an
+ * error body and serializing that body, as happens for every failed request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExceptionHandlerBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        handler = new GlobalExceptionHandler();
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @Benchmark
+    public byte[] venueNotFound() throws Exception {
+        RuntimeException ex = new RuntimeException("Venue not found with id: missing");
+        return objectMapper.writeValueAsBytes(handler.handleRuntimeException(ex).getBody());
+    }
+
+    @Benchmark
+    public byte[] badRequest() throws Exception {
+        BadRequestException ex = new BadRequestException("Invalid pagination cursor");
+        return objectMapper.writeValueAsBytes(handler.handleBadRequest(ex).getBody());
+    }
+
+    @Benchmark
+    public byte[] noHandlerFound() throws Exception {
+        NoHandlerFoundException ex = new NoHandlerFoundException("GET", "/missing", HttpHeaders.EMPTY);
+        return objectMapper.writeValueAsBytes(handler.handleNoHandlerFoundException(ex).getBody());
+    }
+
+    @Benchmark
+    public byte[] methodNotSupported() throws Exception {
+        HttpRequestMethodNotSupportedException ex =
+                new HttpRequestMethodNotSupportedException("DELETE", List.of("GET"));
+        return objectMapper.writeValueAsBytes(handler.handleMethodNotSupported(ex).getBody());
+    }
+
+    @Benchmark
+    public byte[] unexpectedError() throws Exception {
+        IllegalStateException ex = new IllegalStateException("boom");
+        return objectMapper.writeValueAsBytes(handler.handleGenericException(ex).getBody());
+    }
+}
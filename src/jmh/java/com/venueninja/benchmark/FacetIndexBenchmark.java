@@ -0,0 +1,89 @@
+package com.venueninja.benchmark;
+
+import com.venueninja.model.FacetCounts;
+import com.venueninja.model.SeatRecommendation;
+import com.venueninja.model.Venue;
+import com.venueninja.search.FacetIndex;
+import com.venueninja.search.FacetQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Facet counting over the in-memory bitset index, unfiltered and with price and category filters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FacetIndexBenchmark {
+
+    private static final int RECOMMENDATIONS_PER_VENUE = 20;
+    private static final String[] CATEGORIES = {"Lower Bowl", "Upper Bowl", "Club", "Premium", "Budget Shade",
+        "Bleachers", "Suite", "Field"};
+
+    @Param({"1000", "10000", "100000"})
+    public int recommendations;
+
+    private FacetIndex index;
+    private Venue updated;
+
+    @Setup
+    public void buildIndex() {
+        Random random = new Random(42);
+        index = new FacetIndex();
+        for (int i = 0; i < recommendations / RECOMMENDATIONS_PER_VENUE; i++) {
+            index.index(venue("venue-" + i, random));
+        }
+        updated = venue("venue-0", random);
+    }
+
+    @Benchmark
+    public FacetCounts unfiltered() {
+        // Served from the memoized counts after the first call
+        return index.count(new FacetQuery("USD", null, null, null, null));
+    }
+
+    @Benchmark
+    public FacetCounts priceRange() {
+        return index.count(new FacetQuery("USD", 5_000L, 15_000L, null, null));
+    }
+
+    @Benchmark
+    public FacetCounts categoryAndPrice() {
+        return index.count(new FacetQuery("USD", null, 10_000L, "Upper Bowl", null));
+    }
+
+    @Benchmark
+    public FacetIndex reindexVenue() {
+        index.index(updated);
+        return index;
+    }
+
+    private static Venue venue(String id, Random random) {
+        List<SeatRecommendation> seats = new ArrayList<>();
+        for (int j = 0; j < RECOMMENDATIONS_PER_VENUE; j++) {
+            SeatRecommendation seat = new SeatRecommendation(String.valueOf(100 + j),
+                    CATEGORIES[random.nextInt(CATEGORIES.length)], "Reason", null, "Tip");
+            seat.setPriceMinor(1_000L + random.nextInt(60_000));
+            seat.setCurrency("USD");
+            seats.add(seat);
+        }
+        return new Venue(id, "Venue " + id, seats);
+    }
+}
@@ -0,0 +1,86 @@
+package com.venueninja.benchmark;
+
+import com.venueninja.model.SeatRecommendation;
+import com.venueninja.model.Venue;
+import com.venueninja.search.InvertedIndex;
+import com.venueninja.search.SearchHit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query and incremental update cost of the in-memory search index, scaled by catalog size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchIndexBenchmark {
+
+    private static final int RECOMMENDATIONS_PER_VENUE = 20;
+    private static final String[] WORDS = {"budget", "premium", "quiet", "lively", "shaded", "family", "views",
+        "legroom", "sightlines", "atmosphere", "acoustics", "access", "bring", "avoid", "binoculars", "sunscreen",
+        "earplugs", "cushions", "snacks", "tacos"};
+
+    @Param({"1000", "10000", "100000"})
+    public int recommendations;
+
+    private InvertedIndex index;
+    private Venue updated;
+    private int query;
+
+    @Setup
+    public void buildIndex() {
+        Random random = new Random(42);
+        index = new InvertedIndex();
+        for (int i = 0; i < recommendations / RECOMMENDATIONS_PER_VENUE; i++) {
+            index.index(venue("venue-" + i, random));
+        }
+        updated = venue("venue-0", random);
+    }
+
+    @Benchmark
+    public List<SearchHit> singleTerm() {
+        return index.search(WORDS[query++ % WORDS.length], 10);
+    }
+
+    @Benchmark
+    public List<SearchHit> multiTerm() {
+        int next = query++;
+        return index.search(WORDS[next % WORDS.length] + " " + WORDS[(next * 7 + 3) % WORDS.length], 10);
+    }
+
+    @Benchmark
+    public InvertedIndex reindexVenue() {
+        index.index(updated);
+        return index;
+    }
+
+    private static Venue venue(String id, Random random) {
+        List<SeatRecommendation> seats = new ArrayList<>();
+        for (int j = 0; j < RECOMMENDATIONS_PER_VENUE; j++) {
+            seats.add(new SeatRecommendation(String.valueOf(100 + j), "Category " + (j % 4),
+                    word(random) + " " + word(random), "$" + (40 + j * 10), word(random) + " " + word(random)));
+        }
+        return new Venue(id, "Venue " + id, seats);
+    }
+
+    private static String word(Random random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+}
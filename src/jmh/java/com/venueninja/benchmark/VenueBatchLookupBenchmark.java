@@ -0,0 +1,98 @@
+package com.venueninja.benchmark;
+
+import com.venueninja.VenueNinjaApplication;
+import com.venueninja.model.SeatRecommendation;
+import com.venueninja.model.Venue;
+import com.venueninja.model.VenueLookup;
+import com.venueninja.model.VenueView;
+import com.venueninja.repository.VenueRepository;
+import com.venueninja.service.VenueService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * One batched {@link VenueService#getVenues} call against N {@link VenueService#getVenue}
+ * calls for the same ids, against H2 with the venue cache disabled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VenueBatchLookupBenchmark {
+
+    private static final int VENUES = 200;
+
+    @Param({"3", "20", "100"})
+    public int ids;
+
+    private ConfigurableApplicationContext context;
+    private VenueService venueService;
+    private List<String> lookupIds;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(VenueNinjaApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                // Passed as arguments so they win over application.properties
+                .run("--spring.cache.type=none",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN");
+        VenueRepository venueRepository = context.getBean(VenueRepository.class);
+        venueRepository.deleteAll();
+        List<Venue> venues = new ArrayList<>();
+        for (int i = 0; i < VENUES; i++) {
+            List<SeatRecommendation> recommendations = new ArrayList<>();
+            for (int j = 0; j < 5; j++) {
+                recommendations.add(new SeatRecommendation("Section " + j, "Category " + j, "Reason " + j,
+                        "$" + (40 + j * 10), "Tip " + j));
+            }
+            venues.add(new Venue("venue-" + i, "Venue " + i, recommendations));
+        }
+        venueRepository.saveAll(venues);
+        venueService = context.getBean(VenueService.class);
+        lookupIds = IntStream.range(0, ids).mapToObj(i -> "venue-" + (i * 7 % VENUES)).toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public VenueLookup batchLookup() {
+        return venueService.getVenues(lookupIds);
+    }
+
+    @Benchmark
+    public List<VenueView> singleLookups() {
+        List<VenueView> venues = new ArrayList<>(lookupIds.size());
+        for (String id : lookupIds) {
+            venues.add(venueService.getVenue(id));
+        }
+        return venues;
+    }
+}
@@ -0,0 +1,68 @@
+package com.venueninja.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.venueninja.model.SeatRecommendation;
+import com.venueninja.model.Venue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of venue graphs, scaled by catalog size and recommendations per venue.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VenueSerializationBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int venues;
+
+    @Param({"0", "3", "25"})
+    public int recommendationsPerVenue;
+
+    private ObjectMapper objectMapper;
+    private List<Venue> catalog;
+
+    @Setup
+    public void buildCatalog() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        catalog = new ArrayList<>();
+        for (int i = 0; i < venues; i++) {
+            List<SeatRecommendation> recommendations = new ArrayList<>();
+            for (int j = 0; j < recommendationsPerVenue; j++) {
+                SeatRecommendation recommendation = new SeatRecommendation("Section " + j, "Category " + (j % 4),
+                        "Reason for seat " + j, "$" + (40 + j * 10), "Tip number " + j);
+                recommendation.setId((long) i * recommendationsPerVenue + j);
+                recommendations.add(recommendation);
+            }
+            catalog.add(new Venue("venue-" + i, "Venue " + i, recommendations));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeVenue() throws Exception {
+        return objectMapper.writeValueAsBytes(catalog.get(0));
+    }
+
+    @Benchmark
+    public byte[] serializeCatalog() throws Exception {
+        return objectMapper.writeValueAsBytes(catalog);
+    }
+}
@@ -0,0 +1,77 @@
+package com.venueninja.benchmark;
+
+import com.venueninja.VenueNinjaApplication;
+import com.venueninja.model.VenueView;
+import com.venueninja.repository.VenueRepository;
+import com.venueninja.service.VenueService;
+import com.venueninja.testdata.TestDataBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link VenueService} read paths against the H2 test database, with the venue cache
+ * both enabled and disabled so the persistence cost is visible on its own.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VenueServiceBenchmark {
+
+    @Param({"caffeine", "none"})
+    public String cacheType;
+
+    private ConfigurableApplicationContext context;
+    private VenueService venueService;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(VenueNinjaApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                // Passed as arguments so they win over application.properties
+                .run("--spring.cache.type=" + cacheType,
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN");
+        VenueRepository venueRepository = context.getBean(VenueRepository.class);
+        venueRepository.deleteAll();
+        venueRepository.saveAll(TestDataBuilder.createAllTestVenues());
+        venueService = context.getBean(VenueService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public VenueView getVenue() {
+        return venueService.getVenue("msg");
+    }
+
+    @Benchmark
+    public List<VenueView> getAllVenues() {
+        return venueService.getAllVenues();
+    }
+}
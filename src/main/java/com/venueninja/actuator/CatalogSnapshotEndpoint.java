@@ -0,0 +1,54 @@
+package com.venueninja.actuator;
+
+import com.venueninja.config.CatalogSnapshotProperties;
+import com.venueninja.service.VenueCatalogSnapshot;
+import com.venueninja.service.VenueCatalogSnapshotService;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint for inspecting the catalog snapshot ({@code GET /actuator/catalogsnapshot})
+ * and forcing a rebuild ({@code POST /actuator/catalogsnapshot}).
+ */
+@Component
+@Endpoint(id = "catalogsnapshot")
+public class CatalogSnapshotEndpoint {
+
+    private final VenueCatalogSnapshotService snapshotService;
+    private final CatalogSnapshotProperties properties;
+
+    public CatalogSnapshotEndpoint(VenueCatalogSnapshotService snapshotService, CatalogSnapshotProperties properties) {
+        this.snapshotService = snapshotService;
+        this.properties = properties;
+    }
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return describe(snapshotService.current());
+    }
+
+    @WriteOperation
+    public Map<String, Object> refresh() {
+        return describe(snapshotService.refresh());
+    }
+
+    private Map<String, Object> describe(VenueCatalogSnapshot snapshot) {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", properties.isEnabled());
+        status.put("serving", snapshotService.isServing());
+        status.put("refreshInterval", properties.getRefreshInterval().toString());
+        if (snapshot != null) {
+            status.put("loadedAt", snapshot.loadedAt());
+            status.put("ageMillis", Duration.between(snapshot.loadedAt(), Instant.now()).toMillis());
+            status.put("venueCount", snapshot.venues().size());
+        }
+        return status;
+    }
+}
@@ -0,0 +1,66 @@
+package com.venueninja.actuator;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint reporting Hibernate second-level cache statistics per region
+ * ({@code GET /actuator/hibernatecache}) and evicting every region ({@code POST /actuator/hibernatecache}).
+ * Counts require {@code hibernate.generate_statistics}, which application.properties turns on.
+ */
+@Component
+@Endpoint(id = "hibernatecache")
+public class HibernateCacheEndpoint {
+
+    private final SessionFactoryImplementor sessionFactory;
+
+    public HibernateCacheEndpoint(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    }
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        Statistics statistics = sessionFactory.getStatistics();
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled());
+        status.put("statisticsEnabled", statistics.isStatisticsEnabled());
+        status.put("hitRatio", hitRatio(statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount()));
+
+        Map<String, Object> regions = new LinkedHashMap<>();
+        Arrays.stream(statistics.getSecondLevelCacheRegionNames()).sorted().forEach(name -> {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(name);
+            if (region != null) {
+                Map<String, Object> counts = new LinkedHashMap<>();
+                counts.put("hits", region.getHitCount());
+                counts.put("misses", region.getMissCount());
+                counts.put("puts", region.getPutCount());
+                counts.put("hitRatio", hitRatio(region.getHitCount(), region.getMissCount()));
+                counts.put("elementsInMemory", region.getElementCountInMemory());
+                regions.put(name, counts);
+            }
+        });
+        status.put("regions", regions);
+        return status;
+    }
+
+    @WriteOperation
+    public Map<String, Object> evict() {
+        sessionFactory.getCache().evictAllRegions();
+        return status();
+    }
+
+    private static double hitRatio(long hits, long misses) {
+        return hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+    }
+}
@@ -0,0 +1,24 @@
+package com.venueninja.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Enables the read-through venue caches. Size, TTL and stats recording are
+ * configured through {@code spring.cache.caffeine.spec}.
+ */
+@Configuration
+@EnableCaching(order = CacheConfig.CACHE_ORDER)
+public class CacheConfig {
+
+    /**
+     * Caching runs innermost, inside the service timers (see {@link MetricsConfig#SERVICE_TIMER_ORDER}).
+     */
+    public static final int CACHE_ORDER = Ordered.LOWEST_PRECEDENCE;
+
+    public static final String VENUES_CACHE = "venues";
+    public static final String VENUE_CACHE = "venue";
+    public static final String VENUE_PAGES_CACHE = "venuePages";
+    public static final String VENUE_SUMMARY_PAGES_CACHE = "venueSummaryPages";
+}
@@ -0,0 +1,185 @@
+package com.venueninja.config;
+
+import com.venueninja.model.DisplayPrice;
+import com.venueninja.model.SeatRecommendation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HexFormat;
+
+/**
+ * Applies the catalog seed script once the schema is in place and before the application serves
+ * or indexes anything.
+ *
+ * <p>The SHA-256 of the applied script is kept in {@code catalog_seed_state}. A start with an
+ * unchanged script only reads and hashes the file and compares one row, so restarts do not get
+ * slower as the seed grows. The script and the new hash are written in one transaction, with the
+ * state row locked so concurrently starting instances apply a changed seed only once.
+ *
+ * <p>The script only inserts display prices; they are normalized here with {@link DisplayPrice},
+ * the same parser the entities use, so a bare "$" is read in the venue's currency.
+ */
+@Component
+public class CatalogSeedLoader implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogSeedLoader.class);
+    private static final String SEED_NAME = "catalog";
+
+    private final DataSource dataSource;
+    private final CatalogSeedProperties properties;
+    private final ResourceLoader resourceLoader;
+
+    public CatalogSeedLoader(DataSource dataSource, CatalogSeedProperties properties, ResourceLoader resourceLoader) {
+        this.dataSource = dataSource;
+        this.properties = properties;
+        this.resourceLoader = resourceLoader;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        load();
+    }
+
+    /**
+     * Applies the seed unless the mode says otherwise. Returns whether the script ran.
+     */
+    public boolean load() {
+        if (properties.getMode() == CatalogSeedProperties.Mode.NEVER) {
+            return false;
+        }
+        byte[] script = readScript();
+        String hash = sha256(script);
+        boolean tracked = properties.getMode() == CatalogSeedProperties.Mode.CHANGED;
+        try (Connection connection = dataSource.getConnection()) {
+            if (tracked) {
+                ensureStateRow(connection);
+            }
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                if (tracked && hash.equals(lockAppliedHash(connection))) {
+                    connection.rollback();
+                    log.debug("Catalog seed {} unchanged, skipping", properties.getLocation());
+                    return false;
+                }
+                long started = System.nanoTime();
+                ScriptUtils.executeSqlScript(connection,
+                        new EncodedResource(new ByteArrayResource(script), StandardCharsets.UTF_8));
+                normalizePrices(connection);
+                if (tracked) {
+                    storeHash(connection, hash);
+                }
+                connection.commit();
+                log.info("Applied catalog seed {} in {} ms", properties.getLocation(),
+                        (System.nanoTime() - started) / 1_000_000);
+                return true;
+            } catch (SQLException | RuntimeException ex) {
+                connection.rollback();
+                throw ex;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Failed to apply catalog seed " + properties.getLocation(), ex);
+        }
+    }
+
+    private byte[] readScript() {
+        try {
+            return resourceLoader.getResource(properties.getLocation()).getContentAsByteArray();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot read catalog seed " + properties.getLocation(), ex);
+        }
+    }
+
+    // Created with an empty hash outside the seed transaction, so there is always a row to lock
+    private static void ensureStateRow(Connection connection) throws SQLException {
+        try (PreparedStatement exists = connection.prepareStatement(
+                "select 1 from catalog_seed_state where name = ?")) {
+            exists.setString(1, SEED_NAME);
+            try (ResultSet row = exists.executeQuery()) {
+                if (row.next()) {
+                    return;
+                }
+            }
+        }
+        try (PreparedStatement insert = connection.prepareStatement(
+                "insert into catalog_seed_state (name, sha256, applied_at) values (?, '', ?)")) {
+            insert.setString(1, SEED_NAME);
+            insert.setTimestamp(2, Timestamp.from(Instant.EPOCH));
+            insert.executeUpdate();
+        } catch (SQLException ex) {
+            // Another instance inserted it first
+            log.debug("Catalog seed state row already created", ex);
+        }
+    }
+
+    private static String lockAppliedHash(Connection connection) throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement(
+                "select sha256 from catalog_seed_state where name = ? for update")) {
+            select.setString(1, SEED_NAME);
+            try (ResultSet row = select.executeQuery()) {
+                return row.next() ? row.getString(1) : null;
+            }
+        }
+    }
+
+    private static void normalizePrices(Connection connection) throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement(
+                     "select r.id, r.estimated_price, coalesce(r.currency, v.currency) from seat_recommendation r "
+                             + "join venue v on v.id = r.venue_id where r.price_minor is null");
+             PreparedStatement update = connection.prepareStatement(
+                     "update seat_recommendation set price_minor = ?, currency = ? where id = ?");
+             ResultSet rows = select.executeQuery()) {
+            while (rows.next()) {
+                long id = rows.getLong(1);
+                String fallback = rows.getString(3) != null ? rows.getString(3) : SeatRecommendation.DEFAULT_CURRENCY;
+                DisplayPrice price = DisplayPrice.parse(rows.getString(2)).orElse(null);
+                if (price == null) {
+                    continue;
+                }
+                update.setLong(1, price.minor());
+                update.setString(2, price.currencyOr(fallback));
+                update.setLong(3, id);
+                update.addBatch();
+            }
+            update.executeBatch();
+        }
+    }
+
+    private static void storeHash(Connection connection, String hash) throws SQLException {
+        try (PreparedStatement update = connection.prepareStatement(
+                "update catalog_seed_state set sha256 = ?, applied_at = ? where name = ?")) {
+            update.setString(1, hash);
+            update.setTimestamp(2, Timestamp.from(Instant.now()));
+            update.setString(3, SEED_NAME);
+            update.executeUpdate();
+        }
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.venueninja.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for loading the catalog seed script on startup.
+ */
+@ConfigurationProperties(prefix = "venueninja.catalog.seed")
+public class CatalogSeedProperties {
+
+    public enum Mode {
+        /** Apply the script when its hash differs from the one last applied to the database. */
+        CHANGED,
+        /** Apply the script on every start, e.g. against schemas recreated for each test context. */
+        ALWAYS,
+        /** Never apply the script. */
+        NEVER
+    }
+
+    private Mode mode = Mode.CHANGED;
+
+    /**
+     * Seed script; re-applying it must be safe, so it replaces the venues it owns.
+     */
+    private String location = "classpath:db/seed/catalog_seed.sql";
+
+    public Mode getMode() { return mode; }
+    public void setMode(Mode mode) { this.mode = mode; }
+
+    public String getLocation() { return location; }
+    public void setLocation(String location) { this.location = location; }
+}
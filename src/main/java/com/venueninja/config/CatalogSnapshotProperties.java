@@ -0,0 +1,28 @@
+package com.venueninja.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the in-memory catalog snapshot read mode.
+ */
+@ConfigurationProperties(prefix = "venueninja.catalog.snapshot")
+public class CatalogSnapshotProperties {
+
+    /**
+     * Serve venue reads from an in-memory snapshot instead of the database.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Delay between background snapshot rebuilds.
+     */
+    private Duration refreshInterval = Duration.ofMinutes(5);
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public Duration getRefreshInterval() { return refreshInterval; }
+    public void setRefreshInterval(Duration refreshInterval) { this.refreshInterval = refreshInterval; }
+}
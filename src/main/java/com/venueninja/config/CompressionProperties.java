@@ -0,0 +1,35 @@
+package com.venueninja.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Gzip settings for pre-rendered venue responses.
+ */
+@ConfigurationProperties(prefix = "venueninja.compression")
+public class CompressionProperties {
+
+    /**
+     * Whether venue responses are served gzip-encoded to clients that accept it.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Bodies smaller than this are always sent uncompressed; gzip overhead outweighs the savings.
+     */
+    private DataSize minResponseSize = DataSize.ofKilobytes(1);
+
+    /**
+     * Deflate level from 1 (fastest) to 9 (smallest). Variants are compressed once per data change.
+     */
+    private int level = 6;
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public DataSize getMinResponseSize() { return minResponseSize; }
+    public void setMinResponseSize(DataSize minResponseSize) { this.minResponseSize = minResponseSize; }
+
+    public int getLevel() { return level; }
+    public void setLevel(int level) { this.level = level; }
+}
@@ -0,0 +1,42 @@
+package com.venueninja.config;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Settings for the streaming catalog export.
+ */
+@ConfigurationProperties(prefix = "venueninja.export")
+@Validated
+public class ExportProperties {
+
+    /**
+     * Rows fetched per JDBC round trip while streaming the export cursor.
+     */
+    @Min(1)
+    private int fetchSize = 500;
+
+    /**
+     * Number of venues written between explicit flushes to the client.
+     */
+    @Min(1)
+    private int flushEvery = 100;
+
+    /**
+     * How long one export may stream before the request times out. Applies to the export only;
+     * other async requests keep the default timeout.
+     */
+    private Duration timeout = Duration.ofMinutes(30);
+
+    public int getFetchSize() { return fetchSize; }
+    public void setFetchSize(int fetchSize) { this.fetchSize = fetchSize; }
+
+    public int getFlushEvery() { return flushEvery; }
+    public void setFlushEvery(int flushEvery) { this.flushEvery = flushEvery; }
+
+    public Duration getTimeout() { return timeout; }
+    public void setTimeout(Duration timeout) { this.timeout = timeout; }
+}
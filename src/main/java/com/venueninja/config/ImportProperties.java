@@ -0,0 +1,27 @@
+package com.venueninja.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the bulk venue import.
+ */
+@ConfigurationProperties(prefix = "venueninja.import")
+public class ImportProperties {
+
+    /**
+     * Venues written per transaction. Each chunk is flushed and detached once committed,
+     * so memory stays bounded by the chunk size rather than the upload size.
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Load chunks with PostgreSQL COPY instead of batched INSERTs. Ignored on other databases.
+     */
+    private boolean postgresCopy = false;
+
+    public int getChunkSize() { return chunkSize; }
+    public void setChunkSize(int chunkSize) { this.chunkSize = chunkSize; }
+
+    public boolean isPostgresCopy() { return postgresCopy; }
+    public void setPostgresCopy(boolean postgresCopy) { this.postgresCopy = postgresCopy; }
+}
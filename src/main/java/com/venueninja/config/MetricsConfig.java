@@ -0,0 +1,71 @@
+package com.venueninja.config;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.aspectj.MethodInvocationProceedingJoinPoint;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.util.function.Supplier;
+
+/**
+ * Application meters beyond what Boot binds on its own. Hikari and Hibernate statistics meters
+ * are auto-configured.
+ *
+ * <p>{@code @Timed} methods are timed by an advisor ordered ahead of the caching advisor, so
+ * cache hits are timed too. Boot's own {@link TimedAspect} bean has no order and would end up
+ * inside the cache, which is why {@code management.observations.annotations.enabled} stays off.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Just ahead of {@link CacheConfig#CACHE_ORDER}, so timers wrap the cache rather than the other way round.
+     */
+    public static final int SERVICE_TIMER_ORDER = CacheConfig.CACHE_ORDER - 1;
+
+    @Bean
+    public RequestStatementMetrics requestStatementMetrics(MeterRegistry meterRegistry) {
+        return new RequestStatementMetrics(meterRegistry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer requestStatementInspector(RequestStatementMetrics requestStatementMetrics) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, requestStatementMetrics);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "venueninja.metrics", name = "service-timers", havingValue = "true",
+                           matchIfMissing = true)
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor serviceTimerAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        // Advisors are created before other beans; resolving the registry now would skip its meter filters
+        Supplier<TimedAspect> timedAspect = SingletonSupplier.of(() -> new TimedAspect(meterRegistry.getObject()));
+        MethodInterceptor interceptor = invocation -> {
+            MethodInvocationProceedingJoinPoint joinPoint =
+                    new MethodInvocationProceedingJoinPoint((ProxyMethodInvocation) invocation);
+            return invocation.getMethod().isAnnotationPresent(Timed.class)
+                    ? timedAspect.get().timedMethod(joinPoint)
+                    : timedAspect.get().timedClass(joinPoint);
+        };
+        ComposablePointcut pointcut = new ComposablePointcut(AnnotationMatchingPointcut.forClassAnnotation(Timed.class))
+                .union(AnnotationMatchingPointcut.forMethodAnnotation(Timed.class));
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut, interceptor);
+        advisor.setOrder(SERVICE_TIMER_ORDER);
+        return advisor;
+    }
+}
@@ -0,0 +1,26 @@
+package com.venueninja.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Page size limits for list endpoints.
+ */
+@ConfigurationProperties(prefix = "venueninja.pagination")
+public class PaginationProperties {
+
+    /**
+     * Page size used when the client does not pass a limit.
+     */
+    private int defaultLimit = 50;
+
+    /**
+     * Largest page size the server will return; larger requested limits are clamped.
+     */
+    private int maxLimit = 100;
+
+    public int getDefaultLimit() { return defaultLimit; }
+    public void setDefaultLimit(int defaultLimit) { this.defaultLimit = defaultLimit; }
+
+    public int getMaxLimit() { return maxLimit; }
+    public void setMaxLimit(int maxLimit) { this.maxLimit = maxLimit; }
+}
@@ -0,0 +1,42 @@
+package com.venueninja.config;
+
+import java.util.function.Supplier;
+
+/**
+ * Routes the read-only transactions started on the current thread to the primary instead of a
+ * replica. Reads whose results are kept after a commit (index and snapshot rebuilds, cache fills)
+ * use it, since a lagging replica would otherwise leave them stale until the next change.
+ * Without replicas configured it has no effect.
+ */
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Boolean> REQUESTED = new ThreadLocal<>();
+
+    private PrimaryReads() {
+    }
+
+    public static <T> T call(Supplier<T> reads) {
+        boolean outermost = REQUESTED.get() == null;
+        if (outermost) {
+            REQUESTED.set(Boolean.TRUE);
+        }
+        try {
+            return reads.get();
+        } finally {
+            if (outermost) {
+                REQUESTED.remove();
+            }
+        }
+    }
+
+    public static void run(Runnable reads) {
+        call(() -> {
+            reads.run();
+            return null;
+        });
+    }
+
+    static boolean requested() {
+        return REQUESTED.get() != null;
+    }
+}
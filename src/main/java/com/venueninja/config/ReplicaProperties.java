@@ -0,0 +1,76 @@
+package com.venueninja.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replicas for read/write DataSource routing. With no replicas configured, every
+ * transaction uses the single {@code spring.datasource} pool as before.
+ */
+@ConfigurationProperties(prefix = "venueninja.datasource")
+public class ReplicaProperties {
+
+    /**
+     * Replica pools that serve read-only transactions, used round-robin.
+     */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * Delay between probes of every replica; a failed probe or connection attempt takes a replica
+     * out of rotation until a later probe succeeds.
+     */
+    private Duration healthCheckInterval = Duration.ofSeconds(10);
+
+    public List<Replica> getReplicas() { return replicas; }
+    public void setReplicas(List<Replica> replicas) { this.replicas = replicas; }
+
+    public Duration getHealthCheckInterval() { return healthCheckInterval; }
+    public void setHealthCheckInterval(Duration healthCheckInterval) { this.healthCheckInterval = healthCheckInterval; }
+
+    public static class Replica {
+
+        /**
+         * JDBC URL of the replica.
+         */
+        private String url;
+
+        /**
+         * Login user; defaults to spring.datasource.username.
+         */
+        private String username;
+
+        /**
+         * Login password; defaults to spring.datasource.password.
+         */
+        private String password;
+
+        /**
+         * Largest number of pooled connections to this replica.
+         */
+        private int maximumPoolSize = 10;
+
+        /**
+         * How long to wait for a connection before failing over; kept short so an unreachable
+         * replica does not stall reads.
+         */
+        private Duration connectionTimeout = Duration.ofSeconds(2);
+
+        public String getUrl() { return url; }
+        public void setUrl(String url) { this.url = url; }
+
+        public String getUsername() { return username; }
+        public void setUsername(String username) { this.username = username; }
+
+        public String getPassword() { return password; }
+        public void setPassword(String password) { this.password = password; }
+
+        public int getMaximumPoolSize() { return maximumPoolSize; }
+        public void setMaximumPoolSize(int maximumPoolSize) { this.maximumPoolSize = maximumPoolSize; }
+
+        public Duration getConnectionTimeout() { return connectionTimeout; }
+        public void setConnectionTimeout(Duration connectionTimeout) { this.connectionTimeout = connectionTimeout; }
+    }
+}
@@ -0,0 +1,154 @@
+package com.venueninja.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out connections for read-only transactions: round-robin over the healthy replica pools,
+ * or the primary when none is available or the thread asked for {@link PrimaryReads}.
+ *
+ * <p>A replica leaves the rotation as soon as a connection attempt fails and rejoins once a
+ * periodic probe gets a valid connection again, so a replica outage costs at most one failed
+ * attempt per request rather than a connection timeout on every read.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+    private static final int PROBE_TIMEOUT_SECONDS = 2;
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter failovers;
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicaPools, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        replicaPools.forEach((name, pool) -> {
+            Replica replica = new Replica(name, pool);
+            replicas.add(replica);
+            Gauge.builder("venueninja.datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .description("Whether the replica is in the read rotation")
+                    .tag("replica", name)
+                    .register(meterRegistry);
+        });
+        this.failovers = Counter.builder("venueninja.datasource.replica.failovers")
+                .description("Read-only connections served by the primary because no replica was available")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(pool -> pool.getConnection(username, password));
+    }
+
+    private Connection route(ConnectionSource source) throws SQLException {
+        if (PrimaryReads.requested()) {
+            return source.connect(primary);
+        }
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(replicas.size(), 1));
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                return source.connect(replica.pool);
+            } catch (SQLFeatureNotSupportedException ex) {
+                // The pool does not take per-call credentials; that says nothing about its health
+                throw ex;
+            } catch (SQLException | RuntimeException ex) {
+                // Hikari reports a pool that cannot start as a RuntimeException on first use
+                markDown(replica, ex);
+            }
+        }
+        failovers.increment();
+        return source.connect(primary);
+    }
+
+    /**
+     * Probes every replica, taking failed ones out of rotation and restoring recovered ones.
+     */
+    @Scheduled(fixedDelayString = "${venueninja.datasource.health-check-interval:PT10S}")
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.pool.getConnection()) {
+                if (connection.isValid(PROBE_TIMEOUT_SECONDS)) {
+                    if (!replica.healthy) {
+                        log.info("Replica {} is healthy again; resuming reads", replica.name);
+                    }
+                    replica.healthy = true;
+                } else {
+                    markDown(replica, null);
+                }
+            } catch (SQLException | RuntimeException ex) {
+                markDown(replica, ex);
+            }
+        }
+    }
+
+    /**
+     * Replica name to whether it is currently in the read rotation, in configuration order.
+     */
+    public Map<String, Boolean> replicaHealth() {
+        Map<String, Boolean> health = new LinkedHashMap<>();
+        replicas.forEach(replica -> health.put(replica.name, replica.healthy));
+        return health;
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (Replica replica : replicas) {
+            if (replica.pool instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private void markDown(Replica replica, Exception cause) {
+        if (replica.healthy) {
+            log.warn("Replica {} is unavailable; routing its reads elsewhere: {}", replica.name,
+                    cause != null ? cause.getMessage() : "connection not valid");
+        }
+        replica.healthy = false;
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+
+        Connection connect(DataSource dataSource) throws SQLException;
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource pool;
+        private volatile boolean healthy = true;
+
+        Replica(String name, DataSource pool) {
+            this.name = name;
+            this.pool = pool;
+        }
+    }
+}
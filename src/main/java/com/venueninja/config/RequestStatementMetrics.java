@@ -0,0 +1,63 @@
+package com.venueninja.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records how many SQL statements Hibernate prepares while serving each request, as the
+ * {@code venueninja.request.statements} distribution tagged with method and URI template.
+ * A jump for one endpoint is the usual sign of an N+1 regression.
+ *
+ * <p>Registered both as a servlet filter, which opens the per-request count, and as Hibernate's
+ * statement inspector, which increments it. Statements prepared outside a request thread, such
+ * as scheduled refreshes or streaming exports, are not counted.
+ */
+public class RequestStatementMetrics extends OncePerRequestFilter implements StatementInspector {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final ThreadLocal<int[]> statements = new ThreadLocal<>();
+    private final MeterRegistry meterRegistry;
+
+    public RequestStatementMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = statements.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        int[] count = new int[1];
+        statements.set(count);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            statements.remove();
+            Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder("venueninja.request.statements")
+                    .description("SQL statements prepared per HTTP request")
+                    .baseUnit("statements")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri != null ? uri.toString() : UNKNOWN_URI)
+                    .register(meterRegistry)
+                    .record(count[0]);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.venueninja.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.venueninja.model.SeatRecommendation;
+import com.venueninja.model.Venue;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import java.net.URI;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * JCache regions for the Hibernate second-level cache, active with the second-level-cache profile.
+ *
+ * <p>Each application context gets its own Caffeine {@link CacheManager} with the regions created
+ * up front and bounded, and hands it to Hibernate directly. The provider's default manager is
+ * shared by every context in the JVM, so one context shutting down would close the regions of
+ * all the others.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.jpa.properties.hibernate.cache.use_second_level_cache", havingValue = "true")
+public class SecondLevelCacheConfig {
+
+    static final long MAXIMUM_ENTRIES_PER_REGION = 10_000;
+    static final List<String> REGIONS = List.of(
+            Venue.class.getName(),
+            Venue.class.getName() + ".recommendations",
+            SeatRecommendation.class.getName());
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager() {
+        CaffeineCachingProvider provider = new CaffeineCachingProvider();
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("venueninja:second-level-cache:" + UUID.randomUUID()), provider.getDefaultClassLoader());
+        for (String region : REGIONS) {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(MAXIMUM_ENTRIES_PER_REGION));
+            cacheManager.createCache(region, configuration);
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheManagerCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> properties.put("hibernate.javax.cache.cache_manager", secondLevelCacheManager);
+    }
+}
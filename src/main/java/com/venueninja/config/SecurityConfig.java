@@ -1,9 +1,13 @@
 package com.venueninja.config;
 
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -11,16 +15,29 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.Arrays;
 
+/**
+ * Reads are public. Writes, i.e. the bulk import and the write operations of the actuator
+ * endpoints, need HTTP Basic credentials with the {@value #ADMIN_ROLE} role, configured with
+ * {@code spring.security.user.*}. Nothing keeps a session, so there is no cookie for CSRF to ride on.
+ */
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
+    static final String ADMIN_ROLE = "ADMIN";
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .csrf(csrf -> csrf.disable())
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .httpBasic(Customizer.withDefaults())
             .authorizeHttpRequests(requests -> requests
+                .requestMatchers(HttpMethod.POST, "/venues/import").hasRole(ADMIN_ROLE)
+                // caches DELETE, catalogsnapshot POST, hibernatecache POST and any later write operation
+                .requestMatchers(EndpointRequest.toAnyEndpoint().withHttpMethod(HttpMethod.POST)).hasRole(ADMIN_ROLE)
+                .requestMatchers(EndpointRequest.toAnyEndpoint().withHttpMethod(HttpMethod.DELETE)).hasRole(ADMIN_ROLE)
                 .anyRequest().permitAll());
 
         return http.build();
@@ -40,6 +57,8 @@ public class SecurityConfig {
 
         config.setAllowedHeaders(Arrays.asList("*"));
         config.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
+        // 👇 Let browser clients read revalidation and pagination headers
+        config.setExposedHeaders(Arrays.asList("ETag", "Link"));
         config.setMaxAge(3600L);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
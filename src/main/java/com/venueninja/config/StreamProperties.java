@@ -0,0 +1,52 @@
+package com.venueninja.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the catalog change feed at {@code GET /venues/stream}.
+ */
+@ConfigurationProperties(prefix = "venueninja.stream")
+public class StreamProperties {
+
+    /**
+     * Most recent changes kept for clients resuming with Last-Event-ID. Older clients get a reset event.
+     */
+    private int replaySize = 1000;
+
+    /**
+     * Threads writing events to subscribers. Idle subscribers hold no thread.
+     */
+    private int senderThreads = 4;
+
+    /**
+     * Time one write may block before the subscriber is considered stalled and disconnected.
+     */
+    private Duration sendTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Interval of comment lines that keep idle connections open through proxies.
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    /**
+     * Lifetime of one stream connection; clients reconnect and resume afterwards.
+     */
+    private Duration timeout = Duration.ofMinutes(30);
+
+    public int getReplaySize() { return replaySize; }
+    public void setReplaySize(int replaySize) { this.replaySize = replaySize; }
+
+    public int getSenderThreads() { return senderThreads; }
+    public void setSenderThreads(int senderThreads) { this.senderThreads = senderThreads; }
+
+    public Duration getSendTimeout() { return sendTimeout; }
+    public void setSendTimeout(Duration sendTimeout) { this.sendTimeout = sendTimeout; }
+
+    public Duration getHeartbeatInterval() { return heartbeatInterval; }
+    public void setHeartbeatInterval(Duration heartbeatInterval) { this.heartbeatInterval = heartbeatInterval; }
+
+    public Duration getTimeout() { return timeout; }
+    public void setTimeout(Duration timeout) { this.timeout = timeout; }
+}
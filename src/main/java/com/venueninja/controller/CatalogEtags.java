@@ -0,0 +1,93 @@
+package com.venueninja.controller;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.venueninja.service.VenueCacheInvalidator;
+import com.venueninja.service.VenueCatalogSnapshotService;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Remembers the ETags last sent for each venue read, so a matching If-None-Match can be
+ * answered with 304 before the service, cache or repository is touched.
+ *
+ * <p>Each entry records the catalog generation it was rendered at and only counts while that
+ * generation is current: the snapshot instance while the snapshot is serving, otherwise the
+ * venue cache generation, which advances after every eviction. Callers read the generation
+ * before loading, so an entry is never newer than the data it describes. Entries also expire
+ * with the venue cache, which bounds how long writes from other instances can go unseen.
+ */
+@Component
+public class CatalogEtags {
+
+    private static final int MAX_ENTRIES = 4096;
+    private static final Duration MAX_AGE = Duration.ofMinutes(10);
+
+    private final VenueCatalogSnapshotService snapshotService;
+    private final VenueCacheInvalidator cacheInvalidator;
+    private final VenueJsonRenderer jsonRenderer;
+    private final Cache<Object, Validator> validators = Caffeine.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .expireAfterWrite(MAX_AGE)
+            .build();
+
+    public CatalogEtags(VenueCatalogSnapshotService snapshotService, VenueCacheInvalidator cacheInvalidator,
+                        VenueJsonRenderer jsonRenderer) {
+        this.snapshotService = snapshotService;
+        this.cacheInvalidator = cacheInvalidator;
+        this.jsonRenderer = jsonRenderer;
+    }
+
+    /**
+     * Token identifying the catalog data currently served; compared by {@code equals}.
+     */
+    public Object currentGeneration() {
+        return snapshotService.isServing() ? snapshotService.current() : cacheInvalidator.generation();
+    }
+
+    /**
+     * The validator remembered for {@code key} if it was taken at {@code generation}, otherwise {@code null}.
+     */
+    public Validator lookup(Object key, Object generation) {
+        Validator validator = validators.getIfPresent(key);
+        return validator != null && validator.generation().equals(generation) ? validator : null;
+    }
+
+    public void remember(Object key, Object generation, VenueJsonRenderer.RenderedJson json) {
+        validators.put(key, new Validator(generation, json.etag(), json.gzipEtag(), jsonRenderer.isCompressible(json)));
+    }
+
+    /**
+     * ETags of both representations of one response, and whether it varies by Accept-Encoding.
+     */
+    public record Validator(Object generation, String etag, String gzipEtag, boolean compressible) {
+
+        /**
+         * ETag of the representation {@link VenueJsonRenderer#negotiate} picks for this Accept-Encoding.
+         */
+        public String etagFor(String acceptEncoding) {
+            return compressible && VenueJsonRenderer.acceptsGzip(acceptEncoding) ? gzipEtag : etag;
+        }
+
+        /**
+         * Weak comparison as used for If-None-Match: any listed tag, with or without W/, or "*".
+         */
+        public boolean matches(String ifNoneMatch, String acceptEncoding) {
+            if (ifNoneMatch == null) {
+                return false;
+            }
+            String current = etagFor(acceptEncoding);
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals("*") || tag.equals(current)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
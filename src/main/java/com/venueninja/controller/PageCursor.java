@@ -0,0 +1,37 @@
+package com.venueninja.controller;
+
+import com.venueninja.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursors. Clients treat them as tokens; internally a cursor is the
+ * URL-safe Base64 form of the last id on the previous page.
+ */
+final class PageCursor {
+
+    private static final String PREFIX = "after:";
+
+    private PageCursor() {}
+
+    static String encode(String afterId) {
+        byte[] raw = (PREFIX + afterId).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    static String decode(String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (raw.startsWith(PREFIX) && raw.length() > PREFIX.length()) {
+                return raw.substring(PREFIX.length());
+            }
+        } catch (IllegalArgumentException ex) {
+            // Fall through to the uniform error below
+        }
+        throw new BadRequestException("Invalid pagination cursor");
+    }
+}
@@ -0,0 +1,28 @@
+package com.venueninja.controller;
+
+import com.venueninja.config.PaginationProperties;
+import com.venueninja.exception.BadRequestException;
+
+/**
+ * Validates the {@code limit} request parameter of list endpoints against the configured
+ * {@link PaginationProperties}.
+ */
+final class PageLimit {
+
+    private PageLimit() {}
+
+    /**
+     * Applies the default to a missing limit and clamps oversized ones to the maximum.
+     *
+     * @throws BadRequestException if the limit is below 1
+     */
+    static int resolve(Integer limit, PaginationProperties pagination) {
+        if (limit == null) {
+            return Math.min(pagination.getDefaultLimit(), pagination.getMaxLimit());
+        }
+        if (limit < 1) {
+            throw new BadRequestException("limit must be at least 1");
+        }
+        return Math.min(limit, pagination.getMaxLimit());
+    }
+}
@@ -0,0 +1,158 @@
+package com.venueninja.controller;
+
+import com.venueninja.config.PaginationProperties;
+import com.venueninja.exception.BadRequestException;
+import com.venueninja.model.FacetCounts;
+import com.venueninja.model.PricedRecommendation;
+import com.venueninja.model.SeatRecommendation;
+import com.venueninja.search.FacetQuery;
+import com.venueninja.service.RecommendationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+@RestController
+@RequestMapping("/recommendations")
+@Tag(name = "Seat Recommendations", description = "APIs for querying seat recommendations across venues")
+public class RecommendationController {
+
+    private static final Pattern CURRENCY_CODE = Pattern.compile("[A-Z]{3}");
+
+    private final RecommendationService recommendationService;
+    private final PaginationProperties pagination;
+
+    public RecommendationController(RecommendationService recommendationService, PaginationProperties pagination) {
+        this.recommendationService = recommendationService;
+        this.pagination = pagination;
+    }
+
+    @GetMapping
+    @Operation(
+        summary = "Find seat recommendations by price",
+        description = "Returns recommendations in one currency within an optional price range, ordered by price. "
+                + "Prices are given in major units, e.g. maxPrice=100 for \"under $100\"."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Matching recommendations",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "Cheapest seats under $100",
+                    value = """
+                    [
+                      {
+                        "id": 17,
+                        "venueId": "citi",
+                        "section": "Bleachers",
+                        "category": "Budget",
+                        "reason": "Cheapest option in the park",
+                        "estimatedPrice": "$40",
+                        "priceMinor": 4000,
+                        "currency": "USD",
+                        "tip": "Bring sunscreen, no shade"
+                      }
+                    ]
+                    """
+                )
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Invalid currency, price range, sort or limit"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public List<PricedRecommendation> findByPrice(
+            @Parameter(description = "ISO 4217 currency code", example = "USD")
+            @RequestParam(defaultValue = SeatRecommendation.DEFAULT_CURRENCY) String currency,
+            @Parameter(description = "Lowest price, inclusive, in major units", example = "0")
+            @RequestParam(required = false) BigDecimal minPrice,
+            @Parameter(description = "Highest price, inclusive, in major units", example = "100")
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @Parameter(description = "\"price\" for cheapest first, \"-price\" for most expensive first")
+            @RequestParam(defaultValue = "price") String sort,
+            @Parameter(description = "Maximum number of results; capped by the server", example = "20")
+            @RequestParam(required = false) Integer limit) {
+        String currencyCode = toCurrencyCode(currency);
+        if (!sort.equals("price") && !sort.equals("-price")) {
+            throw new BadRequestException("sort must be \"price\" or \"-price\"");
+        }
+        return recommendationService.findByPrice(currencyCode, toMinorUnits(minPrice), toMinorUnits(maxPrice),
+                sort.startsWith("-"), PageLimit.resolve(limit, pagination));
+    }
+
+    @GetMapping("/facets")
+    @Operation(
+        summary = "Count seat recommendations by facet",
+        description = "Returns recommendation counts per category, price bucket (major units) and venue for one "
+                + "currency, served from memory. Every filter narrows every facet, e.g. maxPrice=100 gives the "
+                + "category counts under $100."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Facet counts",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "Counts under $100",
+                    value = """
+                    {
+                      "currency": "USD",
+                      "total": 3,
+                      "categories": { "Upper Bowl": 2, "Budget": 1 },
+                      "priceBuckets": { "0-50": 1, "50-100": 2 },
+                      "venues": { "msg": 2, "citi": 1 }
+                    }
+                    """
+                )
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Invalid currency or price range")
+    })
+    public FacetCounts facets(
+            @Parameter(description = "ISO 4217 currency code", example = "USD")
+            @RequestParam(defaultValue = SeatRecommendation.DEFAULT_CURRENCY) String currency,
+            @Parameter(description = "Lowest price, inclusive, in major units", example = "0")
+            @RequestParam(required = false) BigDecimal minPrice,
+            @Parameter(description = "Highest price, inclusive, in major units", example = "100")
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @Parameter(description = "Only count recommendations in this category", example = "Upper Bowl")
+            @RequestParam(required = false) String category,
+            @Parameter(description = "Only count recommendations for this venue", example = "msg")
+            @RequestParam(required = false) String venueId) {
+        return recommendationService.facetCounts(new FacetQuery(toCurrencyCode(currency),
+                toMinorUnits(minPrice), toMinorUnits(maxPrice), category, venueId));
+    }
+
+    private static String toCurrencyCode(String currency) {
+        String currencyCode = currency.toUpperCase(Locale.ROOT);
+        if (!CURRENCY_CODE.matcher(currencyCode).matches()) {
+            throw new BadRequestException("currency must be a three-letter ISO 4217 code");
+        }
+        return currencyCode;
+    }
+
+    private static Long toMinorUnits(BigDecimal price) {
+        if (price == null) {
+            return null;
+        }
+        try {
+            return price.movePointRight(2).longValueExact();
+        } catch (ArithmeticException ex) {
+            throw new BadRequestException("Prices support at most two decimal places");
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.venueninja.controller;
+
+import com.venueninja.config.PaginationProperties;
+import com.venueninja.exception.BadRequestException;
+import com.venueninja.search.SearchHit;
+import com.venueninja.search.VenueSearchIndex;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/search")
+@Tag(name = "Search", description = "Full-text search over venues and seat recommendations")
+public class SearchController {
+
+    private final VenueSearchIndex searchIndex;
+    private final PaginationProperties pagination;
+
+    public SearchController(VenueSearchIndex searchIndex, PaginationProperties pagination) {
+        this.searchIndex = searchIndex;
+        this.pagination = pagination;
+    }
+
+    @GetMapping
+    @Operation(
+        summary = "Search venues and seat recommendations",
+        description = "Matches venue names and recommendation section, category, reason and tip text. "
+                + "Results are ranked by relevance (BM25), best first."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Ranked matches"),
+        @ApiResponse(responseCode = "400", description = "Missing query or invalid limit")
+    })
+    public List<SearchHit> search(
+            @Parameter(description = "Search terms", example = "budget views")
+            @RequestParam String q,
+            @Parameter(description = "Maximum number of results; capped by the server", example = "10")
+            @RequestParam(required = false) Integer limit) {
+        if (q.isBlank()) {
+            throw new BadRequestException("q must not be blank");
+        }
+        return searchIndex.search(q, PageLimit.resolve(limit, pagination));
+    }
+}
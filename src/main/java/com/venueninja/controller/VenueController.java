@@ -1,6 +1,19 @@
 package com.venueninja.controller;
 
-import com.venueninja.model.Venue;
+import com.venueninja.config.ExportProperties;
+import com.venueninja.config.PaginationProperties;
+import com.venueninja.exception.BadRequestException;
+import com.venueninja.model.ImportResult;
+import com.venueninja.model.VenueLookup;
+import com.venueninja.model.VenueLookupRequest;
+import com.venueninja.model.VenuePage;
+import com.venueninja.model.VenueSummaryPage;
+import com.venueninja.model.VenueSuggestion;
+import com.venueninja.model.VenueView;
+import com.venueninja.search.VenueSuggestionIndex;
+import com.venueninja.service.CatalogChangeFeed;
+import com.venueninja.service.VenueExportService;
+import com.venueninja.service.VenueImportService;
 import com.venueninja.service.VenueService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -10,26 +23,65 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.InputStream;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/venues")
 @Tag(name = "Venue Management", description = "APIs for managing venue information and seat recommendations")
 public class VenueController {
 
+    static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    static final String TEXT_CSV = "text/csv";
+    private static final int DEFAULT_SUGGESTIONS = 10;
+    private static final String RECOMMENDATIONS_FIELD = "recommendations";
+    private static final Set<String> SUMMARY_FIELDS = Set.of("id", "name");
+
     private final VenueService venueService;
+    private final VenueExportService exportService;
+    private final VenueImportService importService;
+    private final CatalogChangeFeed changeFeed;
+    private final VenueSuggestionIndex suggestionIndex;
+    private final VenueJsonRenderer jsonRenderer;
+    private final CatalogEtags etags;
+    private final PaginationProperties pagination;
+    private final ExportProperties export;
 
-    public VenueController(VenueService venueService) {
+    public VenueController(VenueService venueService, VenueExportService exportService,
+                           VenueImportService importService, CatalogChangeFeed changeFeed,
+                           VenueSuggestionIndex suggestionIndex, VenueJsonRenderer jsonRenderer,
+                           CatalogEtags etags, PaginationProperties pagination, ExportProperties export) {
         this.venueService = venueService;
+        this.exportService = exportService;
+        this.importService = importService;
+        this.changeFeed = changeFeed;
+        this.suggestionIndex = suggestionIndex;
+        this.jsonRenderer = jsonRenderer;
+        this.etags = etags;
+        this.pagination = pagination;
+        this.export = export;
     }
 
     @GetMapping
     @Operation(
         summary = "Get all venues",
-        description = "Retrieves a list of all available venues with their seat recommendations"
+        description = "Retrieves venues with their seat recommendations, ordered by id. Results are paged; "
+                + "when more venues follow, a Link header with rel=\"next\" carries the cursor for the next page. "
+                + "fields=id,name returns just ids and names without loading recommendations."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -37,7 +89,7 @@ public class VenueController {
             description = "Successfully retrieved venues",
             content = @Content(
                 mediaType = "application/json",
-                schema = @Schema(implementation = Venue.class),
+                schema = @Schema(implementation = VenueView.class),
                 examples = @ExampleObject(
                     name = "Sample Response",
                     value = """
@@ -45,12 +97,15 @@ public class VenueController {
                       {
                         "id": "msg",
                         "name": "Madison Square Garden",
+                        "currency": "USD",
                         "recommendations": [
                           {
                             "section": "104",
                             "category": "Lower Bowl",
                             "reason": "Best resale value & view of stage",
                             "estimatedPrice": "$250",
+                            "priceMinor": 25000,
+                            "currency": "USD",
                             "tip": "Avoid row 20+ due to rigging obstruction"
                           }
                         ]
@@ -60,11 +115,215 @@ public class VenueController {
                 )
             )
         ),
+        @ApiResponse(responseCode = "304", description = "Venues unchanged since the supplied If-None-Match ETag"),
+        @ApiResponse(responseCode = "400", description = "Invalid limit, cursor or fields"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<byte[]> getAllVenues(
+            @Parameter(description = "Maximum number of venues to return; capped by the server", example = "20")
+            @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Opaque cursor taken from the previous page's Link rel=\"next\" header")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "id,name or id,name,recommendations. With id,name only ids and names are "
+                    + "returned and recommendations are not loaded at all; other subsets are rejected",
+                    example = "id,name")
+            @RequestParam(required = false) List<String> fields,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+            String acceptEncoding,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+            String ifNoneMatch) {
+        int pageSize = PageLimit.resolve(limit, pagination);
+        String afterId = PageCursor.decode(cursor);
+
+        if (!includesRecommendations(fields)) {
+            return respond(new PageKey(false, afterId, pageSize), ifNoneMatch, acceptEncoding, () -> {
+                VenueSummaryPage page = venueService.getVenueSummaryPage(afterId, pageSize);
+                return new Loaded(jsonRenderer.render(page.venues()), nextLink(pageSize, page.nextAfterId()));
+            });
+        }
+        return respond(new PageKey(true, afterId, pageSize), ifNoneMatch, acceptEncoding, () -> {
+            VenuePage page = venueService.getVenuePage(afterId, pageSize);
+            return new Loaded(jsonRenderer.render(page.venues()), nextLink(pageSize, page.nextAfterId()));
+        });
+    }
+
+    @GetMapping(params = "ids")
+    @Operation(
+        summary = "Get several venues by ID",
+        description = "Resolves a comma-separated list of venue ids with one batched query. Venues are returned "
+                + "in request order; ids that match no venue are listed in missingIds instead of failing the request."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Venues found and ids not found",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "One unknown id",
+                    value = """
+                    {
+                      "venues": [
+                        { "id": "msg", "name": "Madison Square Garden", "currency": "USD", "recommendations": [] }
+                      ],
+                      "missingIds": ["nope"]
+                    }
+                    """
+                )
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "No ids, or more ids than the server's page size limit")
+    })
+    public VenueLookup getVenuesByIds(
+            @Parameter(description = "Comma-separated venue ids", example = "msg,yankee,citi")
+            @RequestParam List<String> ids) {
+        return venueService.getVenues(validateIds(ids));
+    }
+
+    @PostMapping("/lookup")
+    @Operation(
+        summary = "Get several venues by ID (POST)",
+        description = "Same as GET /venues?ids=, for id lists too long for a URL."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Venues found and ids not found"),
+        @ApiResponse(responseCode = "400", description = "No ids, or more ids than the server's page size limit")
+    })
+    public VenueLookup lookupVenues(@RequestBody VenueLookupRequest request) {
+        return venueService.getVenues(validateIds(request.ids()));
+    }
+
+    @GetMapping("/export")
+    @Operation(
+        summary = "Export all venues",
+        description = "Streams every venue with its seat recommendations as newline-delimited JSON, "
+                + "one venue per line, ordered by id. Intended for bulk sync jobs."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Catalog export stream",
+            content = @Content(mediaType = "application/x-ndjson")
+        ),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<List<Venue>> getAllVenues() {
-        List<Venue> venues = venueService.getAllVenues();
-        return ResponseEntity.ok(venues);
+    public WebAsyncTask<Void> exportVenues(HttpServletResponse response) {
+        // Taking the response marks the request handled, so the task writes the body itself and only
+        // this request gets the long export timeout instead of every async request
+        response.setContentType(NDJSON.toString());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue());
+        return new WebAsyncTask<>(export.getTimeout().toMillis(), () -> {
+            exportService.export(response.getOutputStream());
+            return null;
+        });
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+        summary = "Bulk import venues (JSON)",
+        description = "Loads a JSON array of venues with their seat recommendations, in the shape returned by "
+                + "GET /venues. Venues replace existing venues with the same id. The upload is streamed and "
+                + "committed in chunks with batched inserts; the response reports rows written and rows per second. "
+                + "Requires HTTP Basic credentials with the ADMIN role."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Import finished",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "Import report",
+                    value = """
+                    {
+                      "venues": 2000,
+                      "recommendations": 40000,
+                      "chunks": 4,
+                      "loader": "jdbc-batch",
+                      "elapsedMillis": 3150,
+                      "rowsPerSecond": 13333.3
+                    }
+                    """
+                )
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Malformed input, a venue without id or a duplicate id; "
+                + "chunks committed before the error are kept"),
+        @ApiResponse(responseCode = "401", description = "Missing or wrong admin credentials")
+    })
+    public ImportResult importVenuesJson(@Parameter(hidden = true) InputStream body) {
+        return importService.importJson(body);
+    }
+
+    @PostMapping(value = "/import", consumes = TEXT_CSV)
+    @Operation(
+        summary = "Bulk import venues (CSV)",
+        description = "Same as the JSON import for UTF-8 CSV with the header "
+                + "venue_id,venue_name,section,category,reason,estimated_price,tip and one row per recommendation. "
+                + "A venue's rows must be consecutive."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import finished"),
+        @ApiResponse(responseCode = "400", description = "Wrong header, malformed row or duplicate venue; "
+                + "chunks committed before the error are kept"),
+        @ApiResponse(responseCode = "401", description = "Missing or wrong admin credentials")
+    })
+    public ImportResult importVenuesCsv(@Parameter(hidden = true) InputStream body) {
+        return importService.importCsv(body);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "Stream catalog changes",
+        description = "Server-Sent Events feed of committed venue and recommendation changes. Each catalog-change "
+                + "event carries the new catalog version and the changed venue ids (empty with fullRefresh=true "
+                + "when any venue may have changed); event ids are <server epoch>-<version>. A new stream starts "
+                + "with a catalog-version event. Reconnecting with Last-Event-ID replays missed changes; an id from "
+                + "another server process or older than the replay window gets catalog-reset and the client "
+                + "should reload."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Change stream",
+            content = @Content(
+                mediaType = "text/event-stream",
+                examples = @ExampleObject(
+                    name = "One change",
+                    value = """
+                    id:k3x9q2m7d1-42
+                    event:catalog-change
+                    data:{"version":42,"venueIds":["msg"],"fullRefresh":false}
+                    """
+                )
+            )
+        )
+    })
+    public SseEmitter streamChanges(
+            @Parameter(description = "Id of the last event received, sent automatically by EventSource on reconnect")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return changeFeed.subscribe(lastEventId == null || lastEventId.isBlank() ? null : lastEventId.trim());
+    }
+
+    @GetMapping("/suggest")
+    @Operation(
+        summary = "Autocomplete venue names",
+        description = "Returns venues whose id, name or any word of the name starts with the prefix, ignoring "
+                + "case and accents. Served from memory; id and name-start matches are listed first."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Matching venues"),
+        @ApiResponse(responseCode = "400", description = "Missing prefix or invalid limit")
+    })
+    public List<VenueSuggestion> suggestVenues(
+            @Parameter(description = "What the user has typed so far", example = "madi")
+            @RequestParam String prefix,
+            @Parameter(description = "Maximum number of suggestions; defaults to 10", example = "5")
+            @RequestParam(required = false) Integer limit) {
+        if (prefix.isBlank()) {
+            throw new BadRequestException("prefix must not be blank");
+        }
+        return suggestionIndex.suggest(prefix, limit == null ? DEFAULT_SUGGESTIONS : PageLimit.resolve(limit, pagination));
     }
 
     @GetMapping("/{id}")
@@ -78,16 +337,119 @@ public class VenueController {
             description = "Successfully retrieved venue",
             content = @Content(
                 mediaType = "application/json",
-                schema = @Schema(implementation = Venue.class)
+                schema = @Schema(implementation = VenueView.class)
             )
         ),
+        @ApiResponse(responseCode = "304", description = "Venue unchanged since the supplied If-None-Match ETag"),
         @ApiResponse(responseCode = "404", description = "Venue not found"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<Venue> getVenueById(
+    public ResponseEntity<byte[]> getVenueById(
             @Parameter(description = "Unique identifier of the venue", example = "msg")
-            @PathVariable String id) {
-        Venue venue = venueService.getVenue(id);
-        return ResponseEntity.ok(venue);
+            @PathVariable String id,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+            String acceptEncoding,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+            String ifNoneMatch) {
+        return respond(new VenueKey(id), ifNoneMatch, acceptEncoding,
+                () -> new Loaded(jsonRenderer.render(venueService.getVenue(id)), null));
+    }
+
+    /**
+     * Only the two shapes that are actually served are accepted: id,name and id,name,recommendations,
+     * in any order. Anything else would return fields the client did not ask for.
+     */
+    private static boolean includesRecommendations(List<String> fields) {
+        if (fields == null) {
+            return true;
+        }
+        Set<String> names = new HashSet<>();
+        for (String field : fields) {
+            String name = field.trim();
+            if (!name.equals(RECOMMENDATIONS_FIELD) && !SUMMARY_FIELDS.contains(name)) {
+                throw new BadRequestException("Unknown field: " + name + "; expected id, name or recommendations");
+            }
+            names.add(name);
+        }
+        if (!names.containsAll(SUMMARY_FIELDS)) {
+            throw new BadRequestException("Unsupported fields: " + String.join(",", fields)
+                    + "; use id,name or id,name,recommendations");
+        }
+        return names.contains(RECOMMENDATIONS_FIELD);
+    }
+
+    private static String nextLink(int pageSize, String nextAfterId) {
+        if (nextAfterId == null) {
+            return null;
+        }
+        return ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("limit", pageSize)
+                .replaceQueryParam("cursor", PageCursor.encode(nextAfterId))
+                .toUriString();
+    }
+
+    private List<String> validateIds(List<String> ids) {
+        List<String> cleaned = ids == null ? List.of() : ids.stream()
+                .filter(id -> id != null && !id.isBlank())
+                .map(String::trim)
+                .toList();
+        if (cleaned.isEmpty()) {
+            throw new BadRequestException("ids must contain at least one venue id");
+        }
+        if (cleaned.size() > pagination.getMaxLimit()) {
+            throw new BadRequestException("At most " + pagination.getMaxLimit() + " ids can be looked up at once");
+        }
+        return cleaned;
+    }
+
+    /**
+     * Answers 304 Not Modified from the remembered ETag when If-None-Match matches and the catalog
+     * has not changed since, without loading anything; otherwise loads and renders the body.
+     * Spring still answers 304 itself when the freshly rendered ETag matches. "no-cache" lets
+     * clients keep the body and revalidate, instead of Spring Security's default no-store.
+     * Bodies large enough to compress vary by Accept-Encoding, so caches must key on it.
+     */
+    private ResponseEntity<byte[]> respond(Object key, String ifNoneMatch, String acceptEncoding,
+                                           Supplier<Loaded> loader) {
+        // Read before loading, so the remembered ETag is never newer than the generation it is filed under
+        Object generation = etags.currentGeneration();
+        CatalogEtags.Validator validator = ifNoneMatch == null ? null : etags.lookup(key, generation);
+        if (validator != null && validator.matches(ifNoneMatch, acceptEncoding)) {
+            ResponseEntity.HeadersBuilder<?> notModified = ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(validator.etagFor(acceptEncoding))
+                    .cacheControl(CacheControl.noCache());
+            if (validator.compressible()) {
+                notModified.varyBy(HttpHeaders.ACCEPT_ENCODING);
+            }
+            return notModified.build();
+        }
+
+        Loaded loaded = loader.get();
+        VenueJsonRenderer.RenderedJson rendered = loaded.json();
+        etags.remember(key, generation, rendered);
+        VenueJsonRenderer.Representation representation = jsonRenderer.negotiate(rendered, acceptEncoding);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(representation.etag())
+                .cacheControl(CacheControl.noCache());
+        if (jsonRenderer.isCompressible(rendered)) {
+            response.varyBy(HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (representation.contentEncoding() != null) {
+            response.header(HttpHeaders.CONTENT_ENCODING, representation.contentEncoding());
+        }
+        if (loaded.nextLink() != null) {
+            response.header(HttpHeaders.LINK, "<" + loaded.nextLink() + ">; rel=\"next\"");
+        }
+        return response.body(representation.body());
+    }
+
+    private record Loaded(VenueJsonRenderer.RenderedJson json, String nextLink) {
+    }
+
+    private record PageKey(boolean recommendations, String afterId, int limit) {
+    }
+
+    private record VenueKey(String id) {
     }
 }
@@ -0,0 +1,201 @@
+package com.venueninja.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.venueninja.config.CompressionProperties;
+import com.venueninja.event.CatalogChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps pre-rendered UTF-8 JSON for venue lists, pages and single venues.
+ *
+ * <p>Rendered bodies are keyed by the identity of the object they were produced from. The
+ * service hands out the same instance for as long as its cache entry or snapshot is current,
+ * so Jackson only runs again once the underlying data has actually been reloaded. Keys are
+ * held weakly, so bodies for sources nobody references any more are dropped automatically.
+ *
+ * <p>The gzip variant of a body is compressed on first request and then kept alongside it,
+ * so it too is only rebuilt when the data changes.
+ */
+@Component
+public class VenueJsonRenderer {
+
+    private static final int MAX_RENDERED_BODIES = 1024;
+    static final String GZIP = "gzip";
+
+    private final ObjectMapper objectMapper;
+    private final CompressionProperties compression;
+    private final Cache<Object, RenderedJson> rendered = Caffeine.newBuilder()
+            .weakKeys()
+            .maximumSize(MAX_RENDERED_BODIES)
+            .build();
+    private final Function<Object, RenderedJson> renderFunction = value -> RenderedJson.of(serialize(value));
+
+    public VenueJsonRenderer(ObjectMapper objectMapper, CompressionProperties compression) {
+        this.objectMapper = objectMapper;
+        this.compression = compression;
+    }
+
+    public RenderedJson render(Object source) {
+        return rendered.get(source, renderFunction);
+    }
+
+    /**
+     * Picks the representation of {@code json} to send for the given Accept-Encoding header:
+     * the cached gzip variant when the client accepts gzip and the body is large enough,
+     * otherwise the identity body.
+     */
+    public Representation negotiate(RenderedJson json, String acceptEncoding) {
+        if (compression.isEnabled()
+                && json.body().length >= compression.getMinResponseSize().toBytes()
+                && acceptsGzip(acceptEncoding)) {
+            return new Representation(json.gzipBody(compression.getLevel()), json.gzipEtag(), GZIP);
+        }
+        return new Representation(json.body(), json.etag(), null);
+    }
+
+    /**
+     * True when the body could be served compressed, so the response should carry {@code Vary: Accept-Encoding}.
+     */
+    public boolean isCompressible(RenderedJson json) {
+        return compression.isEnabled() && json.body().length >= compression.getMinResponseSize().toBytes();
+    }
+
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        // Identity keys already catch reloads; this just releases superseded bodies early
+        rendered.invalidateAll();
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to render venue JSON", ex);
+        }
+    }
+
+    /**
+     * Whether an Accept-Encoding header allows gzip: listed (or covered by "*") with a non-zero quality.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean wildcard = null;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.split(";");
+            String coding = tokens[0].trim().toLowerCase(Locale.ROOT);
+            boolean acceptable = quality(tokens) > 0;
+            if (coding.equals(GZIP) || coding.equals("x-gzip")) {
+                return acceptable;
+            }
+            if (coding.equals("*")) {
+                wildcard = acceptable;
+            }
+        }
+        return Boolean.TRUE.equals(wildcard);
+    }
+
+    private static double quality(String[] tokens) {
+        for (int i = 1; i < tokens.length; i++) {
+            String parameter = tokens[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2));
+                } catch (NumberFormatException ex) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * A body ready to write, with its ETag and Content-Encoding ({@code null} for identity).
+     */
+    public record Representation(byte[] body, String etag, String contentEncoding) {
+    }
+
+    /**
+     * A rendered response body and a strong ETag derived from the body's SHA-256 digest,
+     * plus its lazily compressed gzip variant.
+     */
+    public static final class RenderedJson {
+
+        private final byte[] body;
+        private final String etag;
+        private volatile byte[] gzipBody;
+
+        private RenderedJson(byte[] body, String etag) {
+            this.body = body;
+            this.etag = etag;
+        }
+
+        static RenderedJson of(byte[] body) {
+            return new RenderedJson(body, contentHash(body));
+        }
+
+        public byte[] body() { return body; }
+
+        public String etag() { return etag; }
+
+        /**
+         * ETag of the gzip variant. Each encoding is a different representation, so it gets its own tag.
+         */
+        public String gzipEtag() {
+            return etag.substring(0, etag.length() - 1) + "-gzip\"";
+        }
+
+        byte[] gzipBody(int level) {
+            byte[] compressed = gzipBody;
+            if (compressed == null) {
+                // Racing threads may both compress once; either result is identical
+                compressed = gzip(body, level);
+                gzipBody = compressed;
+            }
+            return compressed;
+        }
+
+        private static byte[] gzip(byte[] body, int level) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+            try (GZIPOutputStream gzip = new LeveledGzipOutputStream(out, level)) {
+                gzip.write(body);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return out.toByteArray();
+        }
+
+        private static String contentHash(byte[] body) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+                return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+            } catch (NoSuchAlgorithmException ex) {
+                throw new IllegalStateException("SHA-256 not available", ex);
+            }
+        }
+    }
+
+    private static final class LeveledGzipOutputStream extends GZIPOutputStream {
+
+        LeveledGzipOutputStream(ByteArrayOutputStream out, int level) throws IOException {
+            super(out, 8192);
+            def.setLevel(Math.max(Deflater.BEST_SPEED, Math.min(Deflater.BEST_COMPRESSION, level)));
+        }
+    }
+}
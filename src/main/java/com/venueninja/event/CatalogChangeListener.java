@@ -0,0 +1,80 @@
+package com.venueninja.event;
+
+import com.venueninja.model.SeatRecommendation;
+import com.venueninja.model.Venue;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * JPA entity listener that turns venue and recommendation writes into a single
+ * {@link CatalogChangedEvent}, published after the surrounding transaction commits.
+ */
+@Component
+public class CatalogChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public CatalogChangeListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        String venueId = null;
+        if (entity instanceof Venue venue) {
+            venueId = venue.getId();
+        } else if (entity instanceof SeatRecommendation recommendation) {
+            // Only known once loaded; new recommendations invalidate everything
+            venueId = recommendation.getVenueId();
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eventPublisher.publishEvent(venueId != null
+                    ? new CatalogChangedEvent(Set.of(venueId))
+                    : CatalogChangedEvent.fullRefresh());
+            return;
+        }
+
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.record(venueId);
+    }
+
+    private final class PendingChanges implements TransactionSynchronization {
+
+        private final Set<String> venueIds = new HashSet<>();
+        private boolean fullRefresh;
+
+        void record(String venueId) {
+            if (venueId == null) {
+                fullRefresh = true;
+            } else {
+                venueIds.add(venueId);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(CatalogChangeListener.this);
+            if (status == STATUS_COMMITTED) {
+                eventPublisher.publishEvent(fullRefresh
+                        ? CatalogChangedEvent.fullRefresh()
+                        : new CatalogChangedEvent(venueIds));
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.venueninja.event;
+
+import java.util.Set;
+
+/**
+ * Published once per committed transaction that touched venues or seat recommendations.
+ * An empty id set means the affected venues are unknown and the whole catalog is stale.
+ */
+public record CatalogChangedEvent(Set<String> venueIds) {
+
+    public CatalogChangedEvent {
+        venueIds = Set.copyOf(venueIds);
+    }
+
+    public static CatalogChangedEvent fullRefresh() {
+        return new CatalogChangedEvent(Set.of());
+    }
+
+    public boolean isFullRefresh() {
+        return venueIds.isEmpty();
+    }
+}
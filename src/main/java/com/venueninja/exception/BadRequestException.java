@@ -0,0 +1,12 @@
+package com.venueninja.exception;
+
+/**
+ * Thrown when request parameters are well-formed but not acceptable, e.g. an invalid
+ * pagination cursor. Mapped to 400 Bad Request by {@link GlobalExceptionHandler}.
+ */
+public class BadRequestException extends RuntimeException {
+
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
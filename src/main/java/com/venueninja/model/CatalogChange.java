@@ -0,0 +1,10 @@
+package com.venueninja.model;
+
+import java.util.List;
+
+/**
+ * One committed catalog change as pushed by {@code GET /venues/stream}. Versions increase by one
+ * per change; an empty venue id list means the whole catalog may have changed.
+ */
+public record CatalogChange(long version, List<String> venueIds, boolean fullRefresh) {
+}
@@ -0,0 +1,51 @@
+package com.venueninja.model;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The leading amount of a display price such as "$250", "A$1,200.50" or the lower bound of
+ * "$100-$200", in minor units (cents). {@code currency} is the ISO 4217 code when the symbol
+ * names one and {@code null} for a bare "$", which means whatever the venue is priced in.
+ *
+ * <p>Both the entity callbacks and the seed loader normalize prices with this parser.
+ * Amounts that do not fit in a {@code long} of minor units are rejected rather than wrapped.
+ */
+public record DisplayPrice(long minor, String currency) {
+
+    private static final Pattern PATTERN =
+            Pattern.compile("^\\s*(A\\$|AU\\$|US\\$|\\$|£|€)?\\s*(\\d[\\d,]*)(?:\\.(\\d{1,2}))?");
+    private static final Map<String, String> CURRENCY_SYMBOLS = Map.of(
+            "A$", "AUD", "AU$", "AUD", "US$", "USD", "£", "GBP", "€", "EUR");
+
+    /**
+     * @throws IllegalArgumentException if the amount is too large to represent in minor units
+     */
+    public static Optional<DisplayPrice> parse(String display) {
+        if (display == null) {
+            return Optional.empty();
+        }
+        Matcher matcher = PATTERN.matcher(display);
+        if (!matcher.lookingAt()) {
+            return Optional.empty();
+        }
+        String cents = matcher.group(3) == null ? "00" : (matcher.group(3) + "0").substring(0, 2);
+        long minor;
+        try {
+            minor = Math.addExact(Math.multiplyExact(Long.parseLong(matcher.group(2).replace(",", "")), 100),
+                    Long.parseLong(cents));
+        } catch (NumberFormatException | ArithmeticException ex) {
+            throw new IllegalArgumentException("Price amount is too large: " + display.trim(), ex);
+        }
+        return Optional.of(new DisplayPrice(minor, CURRENCY_SYMBOLS.get(matcher.group(1))));
+    }
+
+    /**
+     * The symbol's currency, otherwise {@code fallback}.
+     */
+    public String currencyOr(String fallback) {
+        return currency != null ? currency : fallback;
+    }
+}
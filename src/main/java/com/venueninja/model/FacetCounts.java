@@ -0,0 +1,11 @@
+package com.venueninja.model;
+
+import java.util.Map;
+
+/**
+ * Recommendation counts per category, price bucket and venue for one currency. Categories
+ * and venues are listed by count, highest first; price buckets in ascending price order.
+ */
+public record FacetCounts(String currency, int total, Map<String, Integer> categories,
+                          Map<String, Integer> priceBuckets, Map<String, Integer> venues) {
+}
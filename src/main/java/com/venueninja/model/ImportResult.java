@@ -0,0 +1,9 @@
+package com.venueninja.model;
+
+/**
+ * Outcome of a bulk venue import: rows written, how many transactions they were committed in,
+ * which loader wrote them ("jdbc-batch" or "postgres-copy") and the resulting throughput.
+ */
+public record ImportResult(int venues, long recommendations, int chunks, String loader,
+                           long elapsedMillis, double rowsPerSecond) {
+}
@@ -0,0 +1,17 @@
+package com.venueninja.model;
+
+/**
+ * A seat recommendation returned by price queries, together with the venue it belongs to.
+ * Built directly by the query, so no venue or recommendation entities are loaded.
+ */
+public record PricedRecommendation(
+        Long id,
+        String venueId,
+        String section,
+        String category,
+        String reason,
+        String estimatedPrice,
+        Long priceMinor,
+        String currency,
+        String tip) {
+}
@@ -1,18 +1,49 @@
 package com.venueninja.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.venueninja.event.CatalogChangeListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import java.util.Objects;
 
 @Entity
+@EntityListeners(CatalogChangeListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+// Mirrors db/migration so schemas generated in tests carry the same indexes
+@Table(indexes = {
+    @Index(name = "idx_seat_recommendation_price", columnList = "currency, price_minor"),
+    @Index(name = "idx_seat_recommendation_venue", columnList = "venue_id")
+})
 public class SeatRecommendation {
 
+    public static final String DEFAULT_CURRENCY = "USD";
+
+    // Pooled sequence: one round trip hands out 50 ids, and unlike IDENTITY it keeps insert batching on
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seat_recommendation_seq")
+    @SequenceGenerator(name = "seat_recommendation_seq", sequenceName = "seat_recommendation_seq", allocationSize = 50)
     private Long id;
 
+    // Owned by Venue.recommendations; mapped read-only so price queries can return it without a join
+    @JsonIgnore
+    @Column(name = "venue_id", insertable = false, updatable = false)
+    private String venueId;
+
     private String section;
     private String category;
     private String reason;
     private String estimatedPrice;
+
+    // Normalized estimatedPrice: amount in minor units (cents) and ISO 4217 currency code
+    @Column(name = "price_minor")
+    private Long priceMinor;
+
+    @Column(length = 3)
+    private String currency;
+
     private String tip;
 
     public SeatRecommendation() {}
@@ -25,10 +56,41 @@ public class SeatRecommendation {
         this.tip = tip;
     }
 
+    /**
+     * Derives {@link #priceMinor} and {@link #currency} from the display price unless they were
+     * set explicitly. Without a venue (see {@link Venue#normalizePrices()}) a bare "$" keeps an
+     * explicitly set currency and otherwise means {@value #DEFAULT_CURRENCY}.
+     */
+    @PrePersist
+    @PreUpdate
+    public void normalizePrice() {
+        normalizePrice(null);
+    }
+
+    /**
+     * Same as {@link #normalizePrice()} for a recommendation of a venue priced in {@code venueCurrency},
+     * which is what a bare "$" then means unless a currency was set explicitly. Public so bulk
+     * loaders that bypass JPA can apply the same normalization.
+     */
+    public void normalizePrice(String venueCurrency) {
+        if (priceMinor != null) {
+            return;
+        }
+        DisplayPrice.parse(estimatedPrice).ifPresent(price -> {
+            priceMinor = price.minor();
+            currency = price.currencyOr(currency != null ? currency
+                    : venueCurrency != null ? venueCurrency : DEFAULT_CURRENCY);
+        });
+    }
+
     // Getters & Setters
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
 
+    public String getVenueId() { return venueId; }
+    // Not written to the database (see Venue.recommendations); lets change events name the venue of new rows
+    public void setVenueId(String venueId) { this.venueId = venueId; }
+
     public String getSection() { return section; }
     public void setSection(String section) { this.section = section; }
 
@@ -39,7 +101,19 @@ public class SeatRecommendation {
     public void setReason(String reason) { this.reason = reason; }
 
     public String getEstimatedPrice() { return estimatedPrice; }
-    public void setEstimatedPrice(String estimatedPrice) { this.estimatedPrice = estimatedPrice; }
+    public void setEstimatedPrice(String estimatedPrice) {
+        if (!Objects.equals(this.estimatedPrice, estimatedPrice)) {
+            // Re-derived from the new display price on the next flush
+            this.priceMinor = null;
+        }
+        this.estimatedPrice = estimatedPrice;
+    }
+
+    public Long getPriceMinor() { return priceMinor; }
+    public void setPriceMinor(Long priceMinor) { this.priceMinor = priceMinor; }
+
+    public String getCurrency() { return currency; }
+    public void setCurrency(String currency) { this.currency = currency; }
 
     public String getTip() { return tip; }
     public void setTip(String tip) { this.tip = tip; }
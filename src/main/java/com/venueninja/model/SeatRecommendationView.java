@@ -0,0 +1,22 @@
+package com.venueninja.model;
+
+/**
+ * Read-only seat recommendation as returned by the venue endpoints; same JSON shape as
+ * {@link SeatRecommendation}.
+ */
+public record SeatRecommendationView(
+        Long id,
+        String section,
+        String category,
+        String reason,
+        String estimatedPrice,
+        Long priceMinor,
+        String currency,
+        String tip) {
+
+    public static SeatRecommendationView of(SeatRecommendation recommendation) {
+        return new SeatRecommendationView(recommendation.getId(), recommendation.getSection(),
+                recommendation.getCategory(), recommendation.getReason(), recommendation.getEstimatedPrice(),
+                recommendation.getPriceMinor(), recommendation.getCurrency(), recommendation.getTip());
+    }
+}
@@ -1,9 +1,18 @@
 package com.venueninja.model;
 
+import com.venueninja.event.CatalogChangeListener;
 import jakarta.persistence.*;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import java.util.List;
 
+// Second-level cache regions are only active with the second-level-cache profile
 @Entity
+@EntityListeners(CatalogChangeListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Venue {
 
     @Id
@@ -11,8 +20,18 @@ public class Venue {
 
     private String name;
 
+    // ISO 4217 code the venue's prices are in; what a bare "$" in a display price means.
+    // The column default matches V5 so generated test schemas accept inserts without it
+    @Column(length = 3, nullable = false)
+    @ColumnDefault("'USD'")
+    private String currency = SeatRecommendation.DEFAULT_CURRENCY;
+
     @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
-    @JoinColumn(name = "venue_id") // Foreign key in seat_recommendation
+    // Foreign key in seat_recommendation. Non-nullable and non-updatable, so it is written with the
+    // recommendation's INSERT instead of by a follow-up UPDATE per row
+    @JoinColumn(name = "venue_id", nullable = false, updatable = false)
+    @OrderBy("id")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private List<SeatRecommendation> recommendations;
 
     public Venue() {}
@@ -23,6 +42,18 @@ public class Venue {
         this.recommendations = recommendations;
     }
 
+    /**
+     * Normalizes the prices of the recommendations persisted or updated with this venue in its
+     * currency, before their own callbacks fall back to {@value SeatRecommendation#DEFAULT_CURRENCY}.
+     */
+    @PrePersist
+    @PreUpdate
+    public void normalizePrices() {
+        if (recommendations != null && Hibernate.isInitialized(recommendations)) {
+            recommendations.forEach(recommendation -> recommendation.normalizePrice(currency));
+        }
+    }
+
     // Getters & Setters
     public String getId() { return id; }
     public void setId(String id) { this.id = id; }
@@ -30,6 +61,9 @@ public class Venue {
     public String getName() { return name; }
     public void setName(String name) { this.name = name; }
 
+    public String getCurrency() { return currency; }
+    public void setCurrency(String currency) { this.currency = currency; }
+
     public List<SeatRecommendation> getRecommendations() { return recommendations; }
     public void setRecommendations(List<SeatRecommendation> recommendations) {
         this.recommendations = recommendations;
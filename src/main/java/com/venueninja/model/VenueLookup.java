@@ -0,0 +1,10 @@
+package com.venueninja.model;
+
+import java.util.List;
+
+/**
+ * Result of a batch venue lookup: the venues found, in the order their ids were requested,
+ * and the requested ids that matched no venue.
+ */
+public record VenueLookup(List<VenueView> venues, List<String> missingIds) {
+}
@@ -0,0 +1,9 @@
+package com.venueninja.model;
+
+import java.util.List;
+
+/**
+ * Body of {@code POST /venues/lookup}.
+ */
+public record VenueLookupRequest(List<String> ids) {
+}
@@ -0,0 +1,18 @@
+package com.venueninja.model;
+
+import java.util.List;
+
+/**
+ * One keyset page of venues ordered by id. {@code nextAfterId} is the id to continue
+ * after, or {@code null} when this is the last page.
+ */
+public record VenuePage(List<VenueView> venues, String nextAfterId) {
+
+    public VenuePage {
+        venues = List.copyOf(venues);
+    }
+
+    public boolean hasNext() {
+        return nextAfterId != null;
+    }
+}
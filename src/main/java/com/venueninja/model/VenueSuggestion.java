@@ -0,0 +1,7 @@
+package com.venueninja.model;
+
+/**
+ * Id and display name of a venue, as returned by autocomplete.
+ */
+public record VenueSuggestion(String id, String name) {
+}
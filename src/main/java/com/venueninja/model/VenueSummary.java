@@ -0,0 +1,8 @@
+package com.venueninja.model;
+
+/**
+ * Id and name of a venue without its recommendations, for callers that ask for
+ * {@code fields=id,name}.
+ */
+public record VenueSummary(String id, String name) {
+}
@@ -0,0 +1,17 @@
+package com.venueninja.model;
+
+import java.util.List;
+
+/**
+ * One keyset page of venue summaries ordered by id, with the same cursor semantics as {@link VenuePage}.
+ */
+public record VenueSummaryPage(List<VenueSummary> venues, String nextAfterId) {
+
+    public VenueSummaryPage {
+        venues = List.copyOf(venues);
+    }
+
+    public boolean hasNext() {
+        return nextAfterId != null;
+    }
+}
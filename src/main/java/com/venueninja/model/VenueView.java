@@ -0,0 +1,23 @@
+package com.venueninja.model;
+
+import java.util.List;
+
+/**
+ * Read-only venue with its seat recommendations, as returned by the venue endpoints. Built
+ * from a projection query inside the read transaction, so nothing is loaded lazily once it
+ * leaves the repository and no persistence context has to outlive the query. Serializes to
+ * the same JSON as the {@link Venue} entity.
+ */
+public record VenueView(String id, String name, String currency, List<SeatRecommendationView> recommendations) {
+
+    public VenueView {
+        recommendations = recommendations == null ? List.of() : List.copyOf(recommendations);
+    }
+
+    public static VenueView of(Venue venue) {
+        List<SeatRecommendationView> recommendations = venue.getRecommendations() == null
+                ? List.of()
+                : venue.getRecommendations().stream().map(SeatRecommendationView::of).toList();
+        return new VenueView(venue.getId(), venue.getName(), venue.getCurrency(), recommendations);
+    }
+}
@@ -0,0 +1,53 @@
+package com.venueninja.repository;
+
+import com.venueninja.model.PricedRecommendation;
+import com.venueninja.model.SeatRecommendation;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface SeatRecommendationRepository extends JpaRepository<SeatRecommendation, Long> {
+
+    /**
+     * Recommendations in one currency priced within [minPrice, maxPrice] minor units, cheapest
+     * first. Served by the (currency, price_minor) index.
+     */
+    @Query("""
+            select new com.venueninja.model.PricedRecommendation(r.id, r.venueId, r.section, r.category,
+                r.reason, r.estimatedPrice, r.priceMinor, r.currency, r.tip)
+            from SeatRecommendation r
+            where r.currency = :currency and r.priceMinor between :minPrice and :maxPrice
+            order by r.priceMinor asc, r.id asc
+            """)
+    List<PricedRecommendation> findByPriceAscending(@Param("currency") String currency,
+                                                    @Param("minPrice") long minPrice,
+                                                    @Param("maxPrice") long maxPrice,
+                                                    Limit limit);
+
+    @Query("""
+            select new com.venueninja.model.PricedRecommendation(r.id, r.venueId, r.section, r.category,
+                r.reason, r.estimatedPrice, r.priceMinor, r.currency, r.tip)
+            from SeatRecommendation r
+            where r.currency = :currency and r.priceMinor between :minPrice and :maxPrice
+            order by r.priceMinor desc, r.id desc
+            """)
+    List<PricedRecommendation> findByPriceDescending(@Param("currency") String currency,
+                                                     @Param("minPrice") long minPrice,
+                                                     @Param("maxPrice") long maxPrice,
+                                                     Limit limit);
+
+    /**
+     * Bulk-deletes the recommendations of the given venues in one statement, bypassing the
+     * persistence context and entity listeners.
+     */
+    @Modifying
+    @Query("delete from SeatRecommendation r where r.venueId in :venueIds")
+    int deleteByVenueIdIn(@Param("venueIds") Collection<String> venueIds);
+}
@@ -1,9 +1,65 @@
 package com.venueninja.repository;
 
 import com.venueninja.model.Venue;
+import com.venueninja.model.VenueSuggestion;
+import com.venueninja.model.VenueSummary;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
-public interface VenueRepository extends JpaRepository<Venue, String> {
+public interface VenueRepository extends JpaRepository<Venue, String>, VenueRepositoryCustom {
+
+    // Implemented by VenueRepositoryImpl; redeclared so callers see one save, not two
+    @Override
+    <S extends Venue> S save(S venue);
+
+    @Override
+    <S extends Venue> List<S> saveAll(Iterable<S> venues);
+
+    /**
+     * Loads every venue together with its recommendations in a single fetch-join query.
+     */
+    @EntityGraph(attributePaths = "recommendations")
+    @Query("select v from Venue v order by v.id")
+    List<Venue> findAllWithRecommendations();
+
+    /**
+     * Batched load of a known set of venues with their recommendations, ordered by id.
+     */
+    @EntityGraph(attributePaths = "recommendations")
+    @Query("select v from Venue v where v.id in :ids order by v.id")
+    List<Venue> findAllWithRecommendationsByIdIn(@Param("ids") Collection<String> ids);
+
+    /**
+     * Ids and names only; autocomplete never needs the recommendations.
+     */
+    @Query("select new com.venueninja.model.VenueSuggestion(v.id, v.name) from Venue v")
+    List<VenueSuggestion> findAllSuggestions();
+
+    // Keyset pagination: page ids are resolved first so the fetch join never needs a SQL LIMIT
+    @Query("select v.id from Venue v order by v.id")
+    List<String> findIds(Limit limit);
+
+    @Query("select v.id from Venue v where v.id > :afterId order by v.id")
+    List<String> findIdsAfter(@Param("afterId") String afterId, Limit limit);
+
+    // Summary pages read only the venue table; seat_recommendation is never touched
+    @Query("select new com.venueninja.model.VenueSummary(v.id, v.name) from Venue v order by v.id")
+    List<VenueSummary> findSummaries(Limit limit);
+
+    @Query("select new com.venueninja.model.VenueSummary(v.id, v.name) from Venue v where v.id > :afterId order by v.id")
+    List<VenueSummary> findSummariesAfter(@Param("afterId") String afterId, Limit limit);
+
+    // Bulk delete for imports; recommendations must be removed first (see SeatRecommendationRepository)
+    @Modifying
+    @Query("delete from Venue v where v.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<String> ids);
 }
@@ -0,0 +1,49 @@
+package com.venueninja.repository;
+
+import com.venueninja.model.Venue;
+import com.venueninja.model.VenueView;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Venue lookups implemented by hand: entity loads whose strategy depends on whether the
+ * Hibernate second-level cache is on, and the {@link VenueView} projections the read endpoints use.
+ */
+public interface VenueRepositoryCustom {
+
+    /**
+     * Loads a venue with its recommendations initialized. Without the second-level cache this is a
+     * single fetch-join query; with it, the venue and its collection are resolved from the cache
+     * regions and only misses reach the database.
+     */
+    Optional<Venue> findWithRecommendationsById(String id);
+
+    /**
+     * One venue as a view, from a single projection query. With the second-level cache on it is
+     * built from the cached entities instead, so warm venues still cost no SQL.
+     */
+    Optional<VenueView> findViewById(String id);
+
+    /**
+     * Every venue as a view, ordered by id, from a single projection query.
+     */
+    List<VenueView> findAllViews();
+
+    /**
+     * The given venues as views, ordered by id, from a single projection query.
+     */
+    List<VenueView> findViewsByIdIn(Collection<String> ids);
+
+    /**
+     * Saves a venue after pricing its recommendations in the venue's currency. A merge copies the
+     * recommendations after the venue's own callbacks have run, so they cannot do it themselves.
+     */
+    <S extends Venue> S save(S venue);
+
+    /**
+     * {@link #save} for each venue.
+     */
+    <S extends Venue> List<S> saveAll(Iterable<S> venues);
+}
@@ -0,0 +1,121 @@
+package com.venueninja.repository;
+
+import com.venueninja.model.SeatRecommendationView;
+import com.venueninja.model.Venue;
+import com.venueninja.model.VenueView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Hibernate;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+class VenueRepositoryImpl implements VenueRepositoryCustom {
+
+    // Scalar rows, one per recommendation (or one per venue without any); no entities are managed
+    private static final String VIEW_ROWS = "select v.id, v.name, v.currency, r.id, r.section, r.category, r.reason, "
+            + "r.estimatedPrice, r.priceMinor, r.currency, r.tip from Venue v left join v.recommendations r ";
+    private static final String VIEW_ORDER = " order by v.id, r.id";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Venue> findWithRecommendationsById(String id) {
+        if (secondLevelCacheEnabled()) {
+            // Queries bypass the entity cache; find() and collection initialization go through it
+            Venue venue = entityManager.find(Venue.class, id);
+            if (venue != null) {
+                Hibernate.initialize(venue.getRecommendations());
+            }
+            return Optional.ofNullable(venue);
+        }
+        return entityManager.createQuery(
+                        "select v from Venue v left join fetch v.recommendations where v.id = :id", Venue.class)
+                .setParameter("id", id)
+                .getResultList()
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<VenueView> findViewById(String id) {
+        if (secondLevelCacheEnabled()) {
+            return findWithRecommendationsById(id).map(VenueView::of);
+        }
+        List<Object[]> rows = entityManager.createQuery(VIEW_ROWS + "where v.id = :id" + VIEW_ORDER, Object[].class)
+                .setParameter("id", id)
+                .getResultList();
+        return toViews(rows).stream().findFirst();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<VenueView> findAllViews() {
+        return toViews(entityManager.createQuery(VIEW_ROWS + VIEW_ORDER, Object[].class).getResultList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<VenueView> findViewsByIdIn(Collection<String> ids) {
+        return toViews(entityManager.createQuery(VIEW_ROWS + "where v.id in :ids" + VIEW_ORDER, Object[].class)
+                .setParameter("ids", ids)
+                .getResultList());
+    }
+
+    @Override
+    @Transactional
+    public <S extends Venue> S save(S venue) {
+        venue.normalizePrices();
+        return entityManager.merge(venue);
+    }
+
+    @Override
+    @Transactional
+    public <S extends Venue> List<S> saveAll(Iterable<S> venues) {
+        List<S> saved = new ArrayList<>();
+        venues.forEach(venue -> saved.add(save(venue)));
+        return saved;
+    }
+
+    private boolean secondLevelCacheEnabled() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getSessionFactoryOptions().isSecondLevelCacheEnabled();
+    }
+
+    /**
+     * Folds rows ordered by venue id into one view per venue.
+     */
+    private static List<VenueView> toViews(List<Object[]> rows) {
+        List<VenueView> views = new ArrayList<>();
+        String venueId = null;
+        String venueName = null;
+        String venueCurrency = null;
+        List<SeatRecommendationView> recommendations = new ArrayList<>();
+        for (Object[] row : rows) {
+            if (!row[0].equals(venueId)) {
+                if (venueId != null) {
+                    views.add(new VenueView(venueId, venueName, venueCurrency, recommendations));
+                }
+                venueId = (String) row[0];
+                venueName = (String) row[1];
+                venueCurrency = (String) row[2];
+                recommendations = new ArrayList<>();
+            }
+            if (row[3] != null) {
+                recommendations.add(new SeatRecommendationView((Long) row[3], (String) row[4], (String) row[5],
+                        (String) row[6], (String) row[7], (Long) row[8], (String) row[9], (String) row[10]));
+            }
+        }
+        if (venueId != null) {
+            views.add(new VenueView(venueId, venueName, venueCurrency, recommendations));
+        }
+        return views;
+    }
+}
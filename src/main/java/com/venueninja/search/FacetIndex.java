@@ -0,0 +1,234 @@
+package com.venueninja.search;
+
+import com.venueninja.model.FacetCounts;
+import com.venueninja.model.SeatRecommendation;
+import com.venueninja.model.Venue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Facet counts over seat recommendations, kept as one bitset of row slots per category,
+ * venue, currency and price bucket.
+ *
+ * <p>Every recommendation occupies a slot; re-indexing a venue clears its slots from the
+ * bitsets and frees them for reuse, so the bitsets stay as dense as the catalog. Filters
+ * are bitset intersections. Category and price bucket counts intersect each value's bitset
+ * with the filter; venues are too numerous for that, so they are tallied in one pass over
+ * the filter's slots instead.
+ *
+ * <p>Not thread-safe; {@link RecommendationFacetIndex} guards access.
+ */
+public final class FacetIndex {
+
+    // Lower bounds of the price buckets in minor units; the last bucket is open-ended
+    private static final long[] BUCKET_BOUNDS = {0, 5_000, 10_000, 20_000, 50_000};
+    private static final String[] BUCKET_NAMES = {"0-50", "50-100", "100-200", "200-500", "500+"};
+    private static final String UNPRICED_BUCKET = "unpriced";
+    private static final long NO_PRICE = Long.MIN_VALUE;
+
+    private final Map<String, BitSet> byCategory = new HashMap<>();
+    private final Map<String, BitSet> byVenue = new HashMap<>();
+    private final Map<String, BitSet> byCurrency = new HashMap<>();
+    // One per priced bucket plus the unpriced bucket at the end
+    private final BitSet[] byBucket = new BitSet[BUCKET_NAMES.length + 1];
+    private final Map<String, int[]> slotsByVenue = new HashMap<>();
+    private final BitSet freeSlots = new BitSet();
+    // Currency-only counts are what most requests ask for; kept until the next mutation
+    private final Map<String, FacetCounts> unfilteredCounts = new ConcurrentHashMap<>();
+    private long[] prices = new long[64];
+    // Venues are tallied by ordinal into a plain int[]; an id keeps its ordinal across re-indexing
+    private final Map<String, Integer> venueOrdinals = new HashMap<>();
+    private final List<String> venuesByOrdinal = new ArrayList<>();
+    private int[] venueOfSlot = new int[64];
+    private String[] categories = new String[64];
+    private String[] currencies = new String[64];
+    private int slotCount;
+
+    public FacetIndex() {
+        Arrays.setAll(byBucket, i -> new BitSet());
+    }
+
+    /**
+     * Adds or replaces the recommendations of the given venue.
+     */
+    public void index(Venue venue) {
+        unfilteredCounts.clear();
+        remove(venue.getId());
+        List<SeatRecommendation> recommendations =
+                venue.getRecommendations() == null ? List.of() : venue.getRecommendations();
+        int[] slots = new int[recommendations.size()];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = add(venue.getId(), recommendations.get(i));
+        }
+        slotsByVenue.put(venue.getId(), slots);
+    }
+
+    public void remove(String venueId) {
+        unfilteredCounts.clear();
+        int[] slots = slotsByVenue.remove(venueId);
+        if (slots == null) {
+            return;
+        }
+        for (int slot : slots) {
+            clear(byVenue, venueId, slot);
+            clear(byCategory, categories[slot], slot);
+            clear(byCurrency, currencies[slot], slot);
+            byBucket[bucketOf(prices[slot])].clear(slot);
+            categories[slot] = null;
+            currencies[slot] = null;
+            freeSlots.set(slot);
+        }
+    }
+
+    public int size() {
+        return slotCount - freeSlots.cardinality();
+    }
+
+    /**
+     * Counts recommendations in the query's currency per facet value. Every filter in the
+     * query applies to every facet, so e.g. a price range narrows the category counts.
+     */
+    public FacetCounts count(FacetQuery query) {
+        if (query.isUnfiltered()) {
+            return unfilteredCounts.computeIfAbsent(query.currency(), currency -> compute(query));
+        }
+        return compute(query);
+    }
+
+    private FacetCounts compute(FacetQuery query) {
+        BitSet filter = filter(query);
+        BitSet scratch = new BitSet(slotCount);
+
+        Map<String, Integer> buckets = new LinkedHashMap<>();
+        for (int bucket = 0; bucket < byBucket.length; bucket++) {
+            int count = intersectionCount(byBucket[bucket], filter, scratch);
+            if (count > 0) {
+                buckets.put(bucket < BUCKET_NAMES.length ? BUCKET_NAMES[bucket] : UNPRICED_BUCKET, count);
+            }
+        }
+        Map<String, Integer> categoryCounts = new HashMap<>();
+        for (Map.Entry<String, BitSet> value : byCategory.entrySet()) {
+            int count = intersectionCount(value.getValue(), filter, scratch);
+            if (count > 0) {
+                categoryCounts.put(value.getKey(), count);
+            }
+        }
+        int[] perVenue = new int[venuesByOrdinal.size()];
+        for (int slot = filter.nextSetBit(0); slot >= 0; slot = filter.nextSetBit(slot + 1)) {
+            perVenue[venueOfSlot[slot]]++;
+        }
+        Map<String, Integer> venueCounts = new HashMap<>();
+        for (int ordinal = 0; ordinal < perVenue.length; ordinal++) {
+            if (perVenue[ordinal] > 0) {
+                venueCounts.put(venuesByOrdinal.get(ordinal), perVenue[ordinal]);
+            }
+        }
+        return new FacetCounts(query.currency(), filter.cardinality(), byCountDescending(categoryCounts),
+                Collections.unmodifiableMap(buckets), byCountDescending(venueCounts));
+    }
+
+    private BitSet filter(FacetQuery query) {
+        BitSet filter = (BitSet) byCurrency.getOrDefault(query.currency(), new BitSet()).clone();
+        if (query.category() != null) {
+            filter.and(byCategory.getOrDefault(query.category(), new BitSet()));
+        }
+        if (query.venueId() != null) {
+            filter.and(byVenue.getOrDefault(query.venueId(), new BitSet()));
+        }
+        if (query.hasPriceRange()) {
+            long min = query.minPrice() == null ? 0 : query.minPrice();
+            long max = query.maxPrice() == null ? Long.MAX_VALUE : query.maxPrice();
+            for (int slot = filter.nextSetBit(0); slot >= 0; slot = filter.nextSetBit(slot + 1)) {
+                if (prices[slot] == NO_PRICE || prices[slot] < min || prices[slot] > max) {
+                    filter.clear(slot);
+                }
+            }
+        }
+        return filter;
+    }
+
+    private static Map<String, Integer> byCountDescending(Map<String, Integer> counts) {
+        List<Map.Entry<String, Integer>> entries = new ArrayList<>(counts.entrySet());
+        entries.sort(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()));
+        Map<String, Integer> ordered = new LinkedHashMap<>();
+        entries.forEach(entry -> ordered.put(entry.getKey(), entry.getValue()));
+        return Collections.unmodifiableMap(ordered);
+    }
+
+    private static int intersectionCount(BitSet values, BitSet filter, BitSet scratch) {
+        if (!values.intersects(filter)) {
+            return 0;
+        }
+        scratch.clear();
+        scratch.or(values);
+        scratch.and(filter);
+        return scratch.cardinality();
+    }
+
+    private int add(String venueId, SeatRecommendation recommendation) {
+        int slot = freeSlots.nextSetBit(0);
+        if (slot >= 0) {
+            freeSlots.clear(slot);
+        } else {
+            slot = slotCount++;
+            if (slot == prices.length) {
+                prices = Arrays.copyOf(prices, slot * 2);
+                venueOfSlot = Arrays.copyOf(venueOfSlot, slot * 2);
+                categories = Arrays.copyOf(categories, slot * 2);
+                currencies = Arrays.copyOf(currencies, slot * 2);
+            }
+        }
+        String currency = recommendation.getCurrency() == null
+                ? SeatRecommendation.DEFAULT_CURRENCY : recommendation.getCurrency();
+        prices[slot] = recommendation.getPriceMinor() == null ? NO_PRICE : recommendation.getPriceMinor();
+        venueOfSlot[slot] = venueOrdinals.computeIfAbsent(venueId, id -> {
+            venuesByOrdinal.add(id);
+            return venuesByOrdinal.size() - 1;
+        });
+        categories[slot] = recommendation.getCategory();
+        currencies[slot] = currency;
+        set(byVenue, venueId, slot);
+        set(byCategory, recommendation.getCategory(), slot);
+        set(byCurrency, currency, slot);
+        byBucket[bucketOf(prices[slot])].set(slot);
+        return slot;
+    }
+
+    private static int bucketOf(long price) {
+        if (price == NO_PRICE) {
+            return BUCKET_NAMES.length;
+        }
+        int bucket = 0;
+        while (bucket + 1 < BUCKET_BOUNDS.length && price >= BUCKET_BOUNDS[bucket + 1]) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    private static void set(Map<String, BitSet> facet, String value, int slot) {
+        if (value != null) {
+            facet.computeIfAbsent(value, key -> new BitSet()).set(slot);
+        }
+    }
+
+    private static void clear(Map<String, BitSet> facet, String value, int slot) {
+        BitSet bits = value == null ? null : facet.get(value);
+        if (bits != null) {
+            bits.clear(slot);
+            // Drop values no recommendation uses any more so they stop showing up with zero counts
+            if (bits.isEmpty()) {
+                facet.remove(value);
+            }
+        }
+    }
+}
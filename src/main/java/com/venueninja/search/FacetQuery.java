@@ -0,0 +1,16 @@
+package com.venueninja.search;
+
+/**
+ * Filters for facet counts. {@code currency} is required; the other fields may be {@code null}.
+ * Prices are in minor units, inclusive.
+ */
+public record FacetQuery(String currency, Long minPrice, Long maxPrice, String category, String venueId) {
+
+    public boolean isUnfiltered() {
+        return !hasPriceRange() && category == null && venueId == null;
+    }
+
+    public boolean hasPriceRange() {
+        return minPrice != null || maxPrice != null;
+    }
+}
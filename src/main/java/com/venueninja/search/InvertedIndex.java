@@ -0,0 +1,326 @@
+package com.venueninja.search;
+
+import com.venueninja.model.SeatRecommendation;
+import com.venueninja.model.Venue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * BM25-ranked inverted index over venue names and seat recommendation text.
+ *
+ * <p>Each venue contributes one document for its name and one per recommendation (section,
+ * category, reason and tip, plus the venue name for context). Updates are incremental:
+ * re-indexing a venue tombstones its previous documents and appends new ones, and
+ * {@link #compact()} drops tombstoned documents once they pile up.
+ *
+ * <p>Not thread-safe. Concurrent {@link #search} calls are fine as long as no mutation runs
+ * at the same time; {@link VenueSearchIndex} enforces that.
+ */
+public final class InvertedIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    // Score accumulators are pooled rather than per-thread so memory scales with concurrent searches
+    private static final BlockingQueue<Scratch> SCRATCH_POOL = new ArrayBlockingQueue<>(8);
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final List<Document> documents = new ArrayList<>();
+    private final Map<String, int[]> documentsByVenue = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    // Document lengths kept flat so the scoring loop doesn't chase Document references
+    private int[] lengths = new int[64];
+    private long liveLength;
+    private int liveDocuments;
+
+    /**
+     * Adds or replaces every document of the given venue.
+     */
+    public void index(Venue venue) {
+        remove(venue.getId());
+        List<SeatRecommendation> recommendations =
+                venue.getRecommendations() == null ? List.of() : venue.getRecommendations();
+        int[] ids = new int[recommendations.size() + 1];
+        List<String> nameTerms = Tokenizer.tokenize(venue.getName());
+        ids[0] = add(new Document(venue.getId(), venue.getName(), null, null, null), nameTerms);
+        for (int i = 0; i < recommendations.size(); i++) {
+            SeatRecommendation recommendation = recommendations.get(i);
+            List<String> terms = new ArrayList<>(nameTerms);
+            terms.addAll(Tokenizer.tokenize(recommendation.getSection()));
+            terms.addAll(Tokenizer.tokenize(recommendation.getCategory()));
+            terms.addAll(Tokenizer.tokenize(recommendation.getReason()));
+            terms.addAll(Tokenizer.tokenize(recommendation.getTip()));
+            ids[i + 1] = add(new Document(venue.getId(), venue.getName(), recommendation.getId(),
+                    recommendation.getSection(), recommendation.getCategory()), terms);
+        }
+        documentsByVenue.put(venue.getId(), ids);
+    }
+
+    /**
+     * Tombstones every document of the given venue.
+     */
+    public void remove(String venueId) {
+        int[] ids = documentsByVenue.remove(venueId);
+        if (ids == null) {
+            return;
+        }
+        for (int id : ids) {
+            Document document = documents.get(id);
+            deleted.set(id);
+            liveDocuments--;
+            liveLength -= document.length;
+            for (String term : document.terms) {
+                postings.get(term).documentFrequency--;
+            }
+        }
+    }
+
+    public int liveDocuments() { return liveDocuments; }
+
+    public int deletedDocuments() { return deleted.cardinality(); }
+
+    /**
+     * Returns a copy without tombstoned documents, with postings rebuilt densely.
+     */
+    public InvertedIndex compact() {
+        InvertedIndex compacted = new InvertedIndex();
+        for (int[] ids : documentsByVenue.values()) {
+            int[] newIds = new int[ids.length];
+            for (int i = 0; i < ids.length; i++) {
+                Document document = documents.get(ids[i]);
+                newIds[i] = compacted.add(document, document.termList());
+            }
+            compacted.documentsByVenue.put(documents.get(ids[0]).venueId, newIds);
+        }
+        return compacted;
+    }
+
+    /**
+     * Returns up to {@code limit} documents matching any query term, best BM25 score first.
+     */
+    public List<SearchHit> search(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>(Tokenizer.tokenize(query));
+        if (terms.isEmpty() || liveDocuments == 0 || limit < 1) {
+            return List.of();
+        }
+        Scratch scratch = SCRATCH_POOL.poll();
+        if (scratch == null) {
+            scratch = new Scratch();
+        }
+        scratch.ensureCapacity(documents.size());
+        float[] scores = scratch.scores;
+        int touched = 0;
+        float averageLength = (float) liveLength / liveDocuments;
+
+        for (String term : terms) {
+            Postings list = postings.get(term);
+            if (list == null || list.documentFrequency == 0) {
+                continue;
+            }
+            float idf = (float) Math.log(1 + (liveDocuments - list.documentFrequency + 0.5)
+                    / (list.documentFrequency + 0.5));
+            for (int i = 0; i < list.size; i++) {
+                int id = list.documents[i];
+                if (deleted.get(id)) {
+                    continue;
+                }
+                int frequency = list.frequencies[i];
+                float norm = K1 * (1 - B + B * lengths[id] / averageLength);
+                if (scores[id] == 0) {
+                    scratch.touched[touched++] = id;
+                }
+                scores[id] += idf * frequency * (K1 + 1) / (frequency + norm);
+            }
+        }
+
+        TopK top = new TopK(Math.min(limit, touched), scores);
+        for (int i = 0; i < touched; i++) {
+            top.offer(scratch.touched[i]);
+        }
+        List<SearchHit> hits = top.drain(documents);
+        for (int i = 0; i < touched; i++) {
+            scores[scratch.touched[i]] = 0;
+        }
+        SCRATCH_POOL.offer(scratch);
+        return hits;
+    }
+
+    private int add(Document document, List<String> terms) {
+        int id = documents.size();
+        Map<String, Integer> frequencies = new HashMap<>();
+        terms.forEach(term -> frequencies.merge(term, 1, Integer::sum));
+        document.length = terms.size();
+        document.terms = frequencies.keySet().toArray(String[]::new);
+        document.frequencies = new int[document.terms.length];
+        for (int i = 0; i < document.terms.length; i++) {
+            int frequency = frequencies.get(document.terms[i]);
+            document.frequencies[i] = frequency;
+            postings.computeIfAbsent(document.terms[i], key -> new Postings()).add(id, frequency);
+        }
+        documents.add(document);
+        if (id == lengths.length) {
+            lengths = Arrays.copyOf(lengths, id * 2);
+        }
+        lengths[id] = document.length;
+        liveDocuments++;
+        liveLength += document.length;
+        return id;
+    }
+
+    private static final class Document {
+
+        final String venueId;
+        final String venueName;
+        final Long recommendationId;
+        final String section;
+        final String category;
+        int length;
+        String[] terms;
+        int[] frequencies;
+
+        Document(String venueId, String venueName, Long recommendationId, String section, String category) {
+            this.venueId = venueId;
+            this.venueName = venueName;
+            this.recommendationId = recommendationId;
+            this.section = section;
+            this.category = category;
+        }
+
+        List<String> termList() {
+            List<String> expanded = new ArrayList<>(length);
+            for (int i = 0; i < terms.length; i++) {
+                for (int j = 0; j < frequencies[i]; j++) {
+                    expanded.add(terms[i]);
+                }
+            }
+            return expanded;
+        }
+
+        SearchHit toHit(float score) {
+            return new SearchHit(venueId, venueName, recommendationId, section, category, score);
+        }
+    }
+
+    private static final class Postings {
+
+        int[] documents = new int[4];
+        int[] frequencies = new int[4];
+        int size;
+        int documentFrequency;
+
+        void add(int document, int frequency) {
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            documents[size] = document;
+            frequencies[size] = frequency;
+            size++;
+            documentFrequency++;
+        }
+    }
+
+    /**
+     * Score accumulators for one query, returned to the pool zeroed.
+     */
+    private static final class Scratch {
+
+        float[] scores = new float[0];
+        int[] touched = new int[0];
+
+        void ensureCapacity(int documents) {
+            if (scores.length < documents) {
+                scores = new float[documents];
+                touched = new int[documents];
+            }
+        }
+    }
+
+    /**
+     * Bounded min-heap of document ids keyed by score; ties favour the lower id.
+     */
+    private static final class TopK {
+
+        private final int[] heap;
+        private final float[] scores;
+        private int size;
+
+        TopK(int capacity, float[] scores) {
+            this.heap = new int[capacity];
+            this.scores = scores;
+        }
+
+        void offer(int id) {
+            if (heap.length == 0) {
+                return;
+            }
+            if (size < heap.length) {
+                heap[size] = id;
+                siftUp(size++);
+            } else if (better(id, heap[0])) {
+                heap[0] = id;
+                siftDown(0);
+            }
+        }
+
+        List<SearchHit> drain(List<Document> documents) {
+            SearchHit[] hits = new SearchHit[size];
+            for (int i = size - 1; i >= 0; i--) {
+                int id = heap[0];
+                hits[i] = documents.get(id).toHit(scores[id]);
+                heap[0] = heap[--size];
+                siftDown(0);
+            }
+            return Arrays.asList(hits);
+        }
+
+        private boolean better(int a, int b) {
+            return scores[a] > scores[b] || (scores[a] == scores[b] && a < b);
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) / 2;
+                if (!better(heap[parent], heap[index])) {
+                    break;
+                }
+                swap(parent, index);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int worst = index;
+                int left = 2 * index + 1;
+                int right = left + 1;
+                if (left < size && better(heap[worst], heap[left])) {
+                    worst = left;
+                }
+                if (right < size && better(heap[worst], heap[right])) {
+                    worst = right;
+                }
+                if (worst == index) {
+                    return;
+                }
+                swap(worst, index);
+                index = worst;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int tmp = heap[a];
+            heap[a] = heap[b];
+            heap[b] = tmp;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.venueninja.search;
+
+import com.venueninja.model.VenueSuggestion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable prefix lookup over venue names and ids, backed by a sorted array of folded keys.
+ *
+ * <p>Every venue contributes its id, its full name and the tail of its name from each later
+ * word ("square garden", "garden"), so typing any word of a name finds it. A lookup is a
+ * binary search plus a scan of the matching range; suggestions are pre-built, so the only
+ * allocations are the result list and, for input that still needs folding, the folded prefix.
+ */
+public final class PrefixIndex {
+
+    public static final PrefixIndex EMPTY = new PrefixIndex(List.of());
+
+    private final String[] keys;
+    private final int[] venues;
+    // Keys for the id or the start of the name, which rank ahead of later-word matches
+    private final boolean[] primary;
+    private final VenueSuggestion[] suggestions;
+
+    public PrefixIndex(List<VenueSuggestion> catalog) {
+        suggestions = catalog.stream()
+                .sorted(Comparator.comparing(VenueSuggestion::name, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
+                        .thenComparing(VenueSuggestion::id))
+                .toArray(VenueSuggestion[]::new);
+        List<Key> entries = new ArrayList<>();
+        for (int venue = 0; venue < suggestions.length; venue++) {
+            entries.add(new Key(Tokenizer.fold(suggestions[venue].id()), venue, true));
+            String name = suggestions[venue].name() == null ? "" : Tokenizer.fold(suggestions[venue].name());
+            entries.add(new Key(name, venue, true));
+            for (int i = name.indexOf(' '); i >= 0 && i + 1 < name.length(); i = name.indexOf(' ', i + 1)) {
+                entries.add(new Key(name.substring(i + 1), venue, false));
+            }
+        }
+        entries.sort(Comparator.comparing(Key::text).thenComparingInt(Key::venue));
+        keys = new String[entries.size()];
+        venues = new int[entries.size()];
+        primary = new boolean[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            keys[i] = entries.get(i).text();
+            venues[i] = entries.get(i).venue();
+            primary[i] = entries.get(i).primary();
+        }
+    }
+
+    public int size() { return suggestions.length; }
+
+    /**
+     * Returns up to {@code limit} venues whose id, name or a later word of the name starts
+     * with {@code prefix}. Id and name-start matches come first, each group ordered by the matched text.
+     */
+    public List<VenueSuggestion> lookup(String prefix, int limit) {
+        String folded = Tokenizer.fold(prefix);
+        if (folded.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        int from = lowerBound(folded);
+        int to = from;
+        while (to < keys.length && keys[to].startsWith(folded)) {
+            to++;
+        }
+        List<VenueSuggestion> result = new ArrayList<>(Math.min(limit, to - from));
+        collect(from, to, true, result, limit);
+        collect(from, to, false, result, limit);
+        return result;
+    }
+
+    private void collect(int from, int to, boolean primaryKeys, List<VenueSuggestion> result, int limit) {
+        for (int i = from; i < to && result.size() < limit; i++) {
+            // Identity check: each venue's suggestion is a single shared instance
+            if (primary[i] == primaryKeys && !containsInstance(result, suggestions[venues[i]])) {
+                result.add(suggestions[venues[i]]);
+            }
+        }
+    }
+
+    private int lowerBound(String prefix) {
+        int index = Arrays.binarySearch(keys, prefix);
+        if (index < 0) {
+            return -index - 1;
+        }
+        while (index > 0 && keys[index - 1].equals(prefix)) {
+            index--;
+        }
+        return index;
+    }
+
+    private static boolean containsInstance(List<VenueSuggestion> result, VenueSuggestion suggestion) {
+        for (int i = 0; i < result.size(); i++) {
+            if (result.get(i) == suggestion) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record Key(String text, int venue, boolean primary) {
+    }
+}
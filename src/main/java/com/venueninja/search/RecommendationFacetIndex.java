@@ -0,0 +1,101 @@
+package com.venueninja.search;
+
+import com.venueninja.config.PrimaryReads;
+import com.venueninja.event.CatalogChangedEvent;
+import com.venueninja.model.FacetCounts;
+import com.venueninja.model.Venue;
+import com.venueninja.repository.VenueRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Keeps a {@link FacetIndex} of all seat recommendations in sync with the database. Built
+ * on startup; committed changes update just the affected venues in the background.
+ */
+@Component
+public class RecommendationFacetIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(RecommendationFacetIndex.class);
+
+    private final VenueRepository venueRepository;
+    private final TaskScheduler taskScheduler;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private FacetIndex index = new FacetIndex();
+
+    public RecommendationFacetIndex(VenueRepository venueRepository, TaskScheduler taskScheduler) {
+        this.venueRepository = venueRepository;
+        this.taskScheduler = taskScheduler;
+    }
+
+    public FacetCounts count(FacetQuery query) {
+        lock.readLock().lock();
+        try {
+            return index.count(query);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long started = System.nanoTime();
+        FacetIndex rebuilt = new FacetIndex();
+        PrimaryReads.call(venueRepository::findAllWithRecommendations).forEach(rebuilt::index);
+        lock.writeLock().lock();
+        try {
+            index = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Facet index rebuilt with {} recommendations in {} ms",
+                rebuilt.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Re-counts the given venues from the database; venues that no longer exist are removed.
+     */
+    public synchronized void reindex(Collection<String> venueIds) {
+        List<Venue> venues = PrimaryReads.call(() -> venueRepository.findAllWithRecommendationsByIdIn(venueIds));
+        Set<String> missing = new HashSet<>(venueIds);
+        lock.writeLock().lock();
+        try {
+            for (Venue venue : venues) {
+                index.index(venue);
+                missing.remove(venue.getId());
+            }
+            missing.forEach(index::remove);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        taskScheduler.schedule(() -> apply(event), Instant.now());
+    }
+
+    private void apply(CatalogChangedEvent event) {
+        try {
+            if (event.isFullRefresh()) {
+                rebuild();
+            } else {
+                reindex(event.venueIds());
+            }
+        } catch (RuntimeException ex) {
+            // Counts stay as they were; the next change or restart brings them up to date
+            log.warn("Facet index update failed", ex);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.venueninja.search;
+
+/**
+ * A ranked search match: either a venue itself ({@code recommendationId} is {@code null})
+ * or one of its seat recommendations.
+ */
+public record SearchHit(
+        String venueId,
+        String venueName,
+        Long recommendationId,
+        String section,
+        String category,
+        double score) {
+}
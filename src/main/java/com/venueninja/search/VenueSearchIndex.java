@@ -0,0 +1,111 @@
+package com.venueninja.search;
+
+import com.venueninja.config.PrimaryReads;
+import com.venueninja.event.CatalogChangedEvent;
+import com.venueninja.model.Venue;
+import com.venueninja.repository.VenueRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Keeps an {@link InvertedIndex} of the catalog in sync with the database and serves
+ * searches from it. Searches share a read lock; writers load from the database first and
+ * only take the write lock to apply the result. Committed changes re-index just the
+ * affected venues in the background.
+ */
+@Component
+public class VenueSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(VenueSearchIndex.class);
+
+    // Compact once tombstones outnumber live documents
+    private static final double MAX_DELETED_RATIO = 1.0;
+
+    private final VenueRepository venueRepository;
+    private final TaskScheduler taskScheduler;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private InvertedIndex index = new InvertedIndex();
+
+    public VenueSearchIndex(VenueRepository venueRepository, TaskScheduler taskScheduler) {
+        this.venueRepository = venueRepository;
+        this.taskScheduler = taskScheduler;
+    }
+
+    public List<SearchHit> search(String query, int limit) {
+        lock.readLock().lock();
+        try {
+            return index.search(query, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuilds the whole index from the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long started = System.nanoTime();
+        InvertedIndex rebuilt = new InvertedIndex();
+        PrimaryReads.call(venueRepository::findAllWithRecommendations).forEach(rebuilt::index);
+        lock.writeLock().lock();
+        try {
+            index = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Search index rebuilt with {} documents in {} ms",
+                rebuilt.liveDocuments(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Re-indexes the given venues from the database; venues that no longer exist are removed.
+     */
+    public synchronized void reindex(Collection<String> venueIds) {
+        List<Venue> venues = PrimaryReads.call(() -> venueRepository.findAllWithRecommendationsByIdIn(venueIds));
+        Set<String> missing = new HashSet<>(venueIds);
+        lock.writeLock().lock();
+        try {
+            for (Venue venue : venues) {
+                index.index(venue);
+                missing.remove(venue.getId());
+            }
+            missing.forEach(index::remove);
+            if (index.deletedDocuments() > index.liveDocuments() * MAX_DELETED_RATIO) {
+                index = index.compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        taskScheduler.schedule(() -> apply(event), Instant.now());
+    }
+
+    private void apply(CatalogChangedEvent event) {
+        try {
+            if (event.isFullRefresh()) {
+                rebuild();
+            } else {
+                reindex(event.venueIds());
+            }
+        } catch (RuntimeException ex) {
+            // The index stays as it was; the next change or restart brings it up to date
+            log.warn("Search index update failed", ex);
+        }
+    }
+}
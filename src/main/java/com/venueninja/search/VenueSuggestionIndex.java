@@ -0,0 +1,62 @@
+package com.venueninja.search;
+
+import com.venueninja.config.PrimaryReads;
+import com.venueninja.event.CatalogChangedEvent;
+import com.venueninja.model.VenueSuggestion;
+import com.venueninja.repository.VenueRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Serves venue autocomplete from an immutable {@link PrefixIndex}. The index is rebuilt in
+ * the background on startup and after committed catalog changes, then swapped in whole, so
+ * lookups never wait on the database or a lock.
+ */
+@Component
+public class VenueSuggestionIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(VenueSuggestionIndex.class);
+
+    private final VenueRepository venueRepository;
+    private final TaskScheduler taskScheduler;
+    private volatile PrefixIndex index = PrefixIndex.EMPTY;
+
+    public VenueSuggestionIndex(VenueRepository venueRepository, TaskScheduler taskScheduler) {
+        this.venueRepository = venueRepository;
+        this.taskScheduler = taskScheduler;
+    }
+
+    public List<VenueSuggestion> suggest(String prefix, int limit) {
+        return index.lookup(prefix, limit);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long started = System.nanoTime();
+        PrefixIndex rebuilt = new PrefixIndex(PrimaryReads.call(venueRepository::findAllSuggestions));
+        index = rebuilt;
+        log.info("Suggestion index rebuilt with {} venues in {} ms",
+                rebuilt.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        taskScheduler.schedule(this::rebuildQuietly, Instant.now());
+    }
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (RuntimeException ex) {
+            // Keep serving the previous index; the next change or restart brings it up to date
+            log.warn("Suggestion index rebuild failed", ex);
+        }
+    }
+}
@@ -0,0 +1,356 @@
+package com.venueninja.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.venueninja.config.StreamProperties;
+import com.venueninja.event.CatalogChangedEvent;
+import com.venueninja.model.CatalogChange;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes committed catalog changes to Server-Sent Events subscribers.
+ *
+ * <p>Every {@link CatalogChangedEvent} gets the next catalog version and is rendered once into a
+ * ring of the most recent {@link StreamProperties#getReplaySize()} frames. Subscribers are async
+ * servlet responses, so idle ones hold no thread; each only keeps the version it has delivered
+ * up to, and a small sender pool walks it forward through the ring. A subscriber that falls
+ * further behind than the ring reaches gets an in-band {@value #RESET_EVENT} event and continues
+ * from the current version, so a burst of changes never disconnects anyone.
+ *
+ * <p>A write that blocks for longer than {@link StreamProperties#getSendTimeout()} is written
+ * off: the subscriber is disconnected, its sender thread interrupted, and the pool grows by one
+ * thread until that write returns, so clients that stopped reading never take the sender
+ * threads of the others.
+ *
+ * <p>Event ids are {@code <epoch>-<version>}. Versions start at zero with each process and the
+ * epoch is drawn at startup, so a Last-Event-ID from another process or instance, or one older
+ * than the replay window, gets a {@value #RESET_EVENT} event instead of a replay.
+ */
+@Service
+public class CatalogChangeFeed {
+
+    static final String CHANGE_EVENT = "catalog-change";
+    static final String VERSION_EVENT = "catalog-version";
+    static final String RESET_EVENT = "catalog-reset";
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogChangeFeed.class);
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+    private final ObjectMapper objectMapper;
+    private final StreamProperties properties;
+    private final ThreadPoolTaskExecutor senders;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Counter dropped;
+    private final String epoch = Long.toString(ThreadLocalRandom.current().nextLong() >>> 1, Character.MAX_RADIX);
+
+    // Ring buffer of recent change frames, indexed by version; guarded by this, as is version
+    private final Set<DataWithMediaType>[] recent;
+    private long version;
+
+    // Sender threads stuck in writes that were written off; guarded by senders
+    private int abandonedSenders;
+
+    @SuppressWarnings("unchecked")
+    public CatalogChangeFeed(ObjectMapper objectMapper, StreamProperties properties, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.recent = new Set[properties.getReplaySize()];
+        this.senders = new ThreadPoolTaskExecutor();
+        senders.setCorePoolSize(properties.getSenderThreads());
+        senders.setMaxPoolSize(properties.getSenderThreads());
+        senders.setThreadNamePrefix("catalog-stream-");
+        senders.initialize();
+
+        Gauge.builder("venueninja.catalog.stream.subscribers", subscribers, Set::size)
+                .description("Open catalog change stream connections")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("venueninja.catalog.stream.dropped")
+                .description("Subscribers disconnected because a write to them stalled")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream. Without {@code lastEventId} it starts with a {@value #VERSION_EVENT} event
+     * carrying the current version; with one it replays the changes after it, or sends
+     * {@value #RESET_EVENT} if it was not issued by this process or they are no longer available.
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        return subscribe(new SseEmitter(properties.getTimeout().toMillis()), lastEventId);
+    }
+
+    /**
+     * Same as {@link #subscribe(String)} for an emitter created by the caller.
+     */
+    public SseEmitter subscribe(SseEmitter emitter, String lastEventId) {
+        Subscriber subscriber;
+        synchronized (this) {
+            long resumeFrom = versionOf(lastEventId);
+            if (resumeFrom >= 0 && resumeFrom <= version && version - resumeFrom <= recent.length) {
+                subscriber = new Subscriber(emitter, resumeFrom, null);
+            } else {
+                String name = lastEventId == null ? VERSION_EVENT : RESET_EVENT;
+                subscriber = new Subscriber(emitter, version, render(name, version, Map.of("version", version)));
+            }
+            subscribers.add(subscriber);
+        }
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(ex -> subscriber.close());
+        subscriber.schedule();
+        return emitter;
+    }
+
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        synchronized (this) {
+            version++;
+            CatalogChange change = new CatalogChange(version, event.venueIds().stream().sorted().toList(),
+                    event.isFullRefresh());
+            recent[slot(version)] = render(CHANGE_EVENT, version, change);
+        }
+        subscribers.forEach(Subscriber::schedule);
+    }
+
+    @Scheduled(fixedDelayString = "${venueninja.stream.heartbeat-interval:PT15S}",
+               initialDelayString = "${venueninja.stream.heartbeat-interval:PT15S}")
+    public void sendHeartbeats() {
+        subscribers.forEach(subscriber -> {
+            subscriber.heartbeatDue = true;
+            subscriber.schedule();
+        });
+    }
+
+    /**
+     * Disconnects subscribers whose current write has been blocked for longer than the send timeout.
+     */
+    @Scheduled(fixedDelay = 1, initialDelay = 1, timeUnit = TimeUnit.SECONDS)
+    public void disconnectStalledSubscribers() {
+        long deadline = System.nanoTime() - properties.getSendTimeout().toNanos();
+        subscribers.forEach(subscriber -> subscriber.abandonIfSendingSince(deadline));
+    }
+
+    public synchronized long currentVersion() {
+        return version;
+    }
+
+    /**
+     * Event id under which this process sends the given version.
+     */
+    public String eventId(long version) {
+        return epoch + "-" + version;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(Subscriber::disconnect);
+        senders.shutdown();
+    }
+
+    // Version of an id issued by this process, or -1
+    private long versionOf(String eventId) {
+        if (eventId == null || !eventId.startsWith(epoch + "-")) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(epoch.length() + 1));
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    private int slot(long v) {
+        return (int) (v % recent.length);
+    }
+
+    private Set<DataWithMediaType> render(String name, long id, Object data) {
+        try {
+            return SseEmitter.event()
+                    .id(eventId(id))
+                    .name(name)
+                    .data(objectMapper.writeValueAsString(data))
+                    .build();
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to render catalog change", ex);
+        }
+    }
+
+    private void addSender() {
+        synchronized (senders) {
+            abandonedSenders++;
+            senders.setMaxPoolSize(properties.getSenderThreads() + abandonedSenders);
+            senders.setCorePoolSize(properties.getSenderThreads() + abandonedSenders);
+        }
+    }
+
+    private void removeSender() {
+        synchronized (senders) {
+            abandonedSenders--;
+            senders.setCorePoolSize(properties.getSenderThreads() + abandonedSenders);
+            senders.setMaxPoolSize(properties.getSenderThreads() + abandonedSenders);
+        }
+    }
+
+    /**
+     * One connection's position in the feed. At most one sender task runs per subscriber at a
+     * time, so frames go out in order and a stalled client occupies at most one sender thread.
+     */
+    private final class Subscriber implements Runnable {
+
+        private static final int IDLE = 0;
+        private static final int SENDING = 1;
+        private static final int ABANDONED = 2;
+
+        private final SseEmitter emitter;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicInteger sendState = new AtomicInteger(IDLE);
+        private volatile long sendStartedNanos;
+        private volatile Thread senderThread;
+        private volatile boolean heartbeatDue;
+        private volatile boolean closed;
+
+        // Sender state; only touched by the one running task
+        private Set<DataWithMediaType> greeting;
+        private long delivered;
+
+        Subscriber(SseEmitter emitter, long delivered, Set<DataWithMediaType> greeting) {
+            this.emitter = emitter;
+            this.delivered = delivered;
+            this.greeting = greeting;
+        }
+
+        void schedule() {
+            if (!closed && scheduled.compareAndSet(false, true)) {
+                try {
+                    senders.execute(this);
+                } catch (TaskRejectedException ex) {
+                    scheduled.set(false);
+                    close();
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            boolean abandoned = false;
+            senderThread = Thread.currentThread();
+            try {
+                Set<DataWithMediaType> frame;
+                while (!closed && (frame = nextFrame()) != null) {
+                    sendStartedNanos = System.nanoTime();
+                    sendState.set(SENDING);
+                    try {
+                        emitter.send(frame);
+                    } finally {
+                        abandoned = !finishSend();
+                    }
+                    if (abandoned) {
+                        return;
+                    }
+                }
+                if (closed) {
+                    emitter.complete();
+                }
+            } catch (IOException | IllegalStateException ex) {
+                // Client went away or the response already completed; the container reports the error
+                close();
+            } finally {
+                if (abandoned) {
+                    removeSender();
+                    emitter.complete();
+                } else {
+                    scheduled.set(false);
+                    if (!closed && hasPending()) {
+                        schedule();
+                    }
+                }
+            }
+        }
+
+        private Set<DataWithMediaType> nextFrame() {
+            if (greeting != null) {
+                Set<DataWithMediaType> frame = greeting;
+                greeting = null;
+                return frame;
+            }
+            synchronized (CatalogChangeFeed.this) {
+                if (delivered < version) {
+                    if (version - delivered > recent.length) {
+                        log.debug("Catalog stream subscriber fell {} versions behind; resetting", version - delivered);
+                        delivered = version;
+                        return render(RESET_EVENT, version, Map.of("version", version));
+                    }
+                    return recent[slot(++delivered)];
+                }
+            }
+            if (heartbeatDue) {
+                heartbeatDue = false;
+                return HEARTBEAT;
+            }
+            return null;
+        }
+
+        private boolean hasPending() {
+            return heartbeatDue || delivered < currentVersion();
+        }
+
+        // False if the watchdog wrote this send off in the meantime
+        private synchronized boolean finishSend() {
+            if (sendState.compareAndSet(SENDING, IDLE)) {
+                return true;
+            }
+            // Clear an interrupt meant for the abandoned write before the thread goes back to the pool
+            Thread.interrupted();
+            return false;
+        }
+
+        // Synchronized with finishSend so the interrupt only ever reaches the stuck write
+        synchronized void abandonIfSendingSince(long deadline) {
+            if (sendState.get() != SENDING || sendStartedNanos - deadline > 0
+                    || !sendState.compareAndSet(SENDING, ABANDONED)) {
+                return;
+            }
+            log.debug("Disconnecting catalog stream subscriber after a write stalled for {}",
+                    properties.getSendTimeout());
+            dropped.increment();
+            close();
+            // The stuck thread completes the emitter once its write returns
+            addSender();
+            senderThread.interrupt();
+        }
+
+        void close() {
+            closed = true;
+            subscribers.remove(this);
+        }
+
+        void disconnect() {
+            close();
+            emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.venueninja.service;
+
+import com.venueninja.exception.BadRequestException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal RFC 4180 reader: comma-separated fields, optionally double-quoted, with {@code ""}
+ * as an escaped quote and line breaks allowed inside quotes. Reads one record at a time so
+ * uploads are never held in memory as a whole.
+ */
+final class CsvRecordReader {
+
+    private static final int NONE = Integer.MIN_VALUE;
+
+    private final Reader in;
+    private final StringBuilder field = new StringBuilder();
+    private int pushedBack = NONE;
+    private int line = 1;
+    private int recordLine;
+
+    CsvRecordReader(Reader in) {
+        this.in = in;
+    }
+
+    /**
+     * Line on which the last returned record started, for error messages.
+     */
+    int line() { return recordLine; }
+
+    /**
+     * Returns the next record's fields, or {@code null} at end of input. Blank lines are skipped.
+     */
+    List<String> next() {
+        int c = read();
+        while (c == '\r' || c == '\n') {
+            skipLineBreak(c);
+            c = read();
+        }
+        if (c == -1) {
+            return null;
+        }
+        recordLine = line;
+        List<String> fields = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+        boolean inQuotes = false;
+        while (true) {
+            if (inQuotes) {
+                if (c == -1) {
+                    throw new BadRequestException("Unterminated quoted field on line " + line);
+                }
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        inQuotes = false;
+                        c = following;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                quoted = false;
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                fields.add(field.toString());
+                if (c != -1) {
+                    skipLineBreak(c);
+                }
+                return fields;
+            } else if (c == '"' && field.isEmpty() && !quoted) {
+                quoted = true;
+                inQuotes = true;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    // Consumes the rest of a \n, \r or \r\n line break
+    private void skipLineBreak(int c) {
+        line++;
+        if (c == '\r') {
+            int next = read();
+            if (next != '\n') {
+                pushedBack = next;
+            }
+        }
+    }
+
+    private int read() {
+        if (pushedBack != NONE) {
+            int c = pushedBack;
+            pushedBack = NONE;
+            return c;
+        }
+        try {
+            return in.read();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.venueninja.service;
+
+import com.venueninja.exception.BadRequestException;
+import com.venueninja.model.FacetCounts;
+import com.venueninja.model.PricedRecommendation;
+import com.venueninja.repository.SeatRecommendationRepository;
+import com.venueninja.search.FacetQuery;
+import com.venueninja.search.RecommendationFacetIndex;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class RecommendationService {
+
+    private final SeatRecommendationRepository recommendationRepository;
+    private final RecommendationFacetIndex facetIndex;
+
+    public RecommendationService(SeatRecommendationRepository recommendationRepository,
+                                 RecommendationFacetIndex facetIndex) {
+        this.recommendationRepository = recommendationRepository;
+        this.facetIndex = facetIndex;
+    }
+
+    /**
+     * Finds recommendations priced in {@code currency} between the given bounds (minor units,
+     * inclusive, either may be {@code null}), ordered by price.
+     */
+    public List<PricedRecommendation> findByPrice(String currency, Long minPrice, Long maxPrice,
+                                                  boolean descending, int limit) {
+        long min = minPrice == null ? 0 : minPrice;
+        long max = maxPrice == null ? Long.MAX_VALUE : maxPrice;
+        validatePriceRange(min, max);
+        return descending
+                ? recommendationRepository.findByPriceDescending(currency, min, max, Limit.of(limit))
+                : recommendationRepository.findByPriceAscending(currency, min, max, Limit.of(limit));
+    }
+
+    /**
+     * Counts recommendations per category, price bucket and venue from the in-memory facet
+     * index, narrowed by the query's filters.
+     */
+    public FacetCounts facetCounts(FacetQuery query) {
+        validatePriceRange(query.minPrice() == null ? 0 : query.minPrice(),
+                query.maxPrice() == null ? Long.MAX_VALUE : query.maxPrice());
+        return facetIndex.count(query);
+    }
+
+    private static void validatePriceRange(long min, long max) {
+        if (min < 0 || max < min) {
+            throw new BadRequestException("Invalid price range: minPrice must be >= 0 and <= maxPrice");
+        }
+    }
+}
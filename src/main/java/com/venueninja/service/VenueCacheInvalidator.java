@@ -0,0 +1,70 @@
+package com.venueninja.service;
+
+import com.venueninja.config.CacheConfig;
+import com.venueninja.event.CatalogChangedEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the venue caches consistent with the database. Committed catalog writes evict
+ * the affected entries automatically; the public methods allow explicit invalidation.
+ *
+ * <p>Every eviction advances {@link #generation()}, so anything read at a given generation
+ * is at least as new as the last change that was evicted before it.
+ */
+@Component
+public class VenueCacheInvalidator {
+
+    private final CacheManager cacheManager;
+    private final AtomicLong generation = new AtomicLong();
+
+    public VenueCacheInvalidator(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.isFullRefresh()) {
+            evictAll();
+        } else {
+            event.venueIds().forEach(this::evictVenue);
+        }
+    }
+
+    /**
+     * Evicts a single venue. List and page caches are always cleared as well since they embed it.
+     */
+    public void evictVenue(String id) {
+        clear(CacheConfig.VENUES_CACHE);
+        clear(CacheConfig.VENUE_PAGES_CACHE);
+        clear(CacheConfig.VENUE_SUMMARY_PAGES_CACHE);
+        Cache venueCache = cacheManager.getCache(CacheConfig.VENUE_CACHE);
+        if (venueCache != null) {
+            venueCache.evict(id);
+        }
+        generation.incrementAndGet();
+    }
+
+    public void evictAll() {
+        clear(CacheConfig.VENUES_CACHE);
+        clear(CacheConfig.VENUE_PAGES_CACHE);
+        clear(CacheConfig.VENUE_SUMMARY_PAGES_CACHE);
+        clear(CacheConfig.VENUE_CACHE);
+        generation.incrementAndGet();
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
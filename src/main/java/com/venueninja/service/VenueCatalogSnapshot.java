@@ -0,0 +1,100 @@
+package com.venueninja.service;
+
+import com.venueninja.model.VenuePage;
+import com.venueninja.model.VenueSummary;
+import com.venueninja.model.VenueSummaryPage;
+import com.venueninja.model.VenueView;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable, id-indexed copy of the whole venue catalog. Views are records with no tie to
+ * any persistence context, so instances are safe to share between request threads without locking.
+ */
+public final class VenueCatalogSnapshot {
+
+    private static final int MAX_MEMOIZED_PAGES = 256;
+
+    private final List<VenueView> venues;
+    private final String[] sortedIds;
+    private final Map<String, VenueView> venuesById;
+    private final Instant loadedAt;
+    // Pages are memoized so repeated requests get the same instance and reuse rendered JSON
+    private final Map<Long, VenuePage> pages = new ConcurrentHashMap<>();
+    private final Map<Long, VenueSummaryPage> summaryPages = new ConcurrentHashMap<>();
+
+    private VenueCatalogSnapshot(List<VenueView> venues, Map<String, VenueView> venuesById, Instant loadedAt) {
+        this.venues = venues;
+        this.sortedIds = venues.stream().map(VenueView::id).toArray(String[]::new);
+        this.venuesById = venuesById;
+        this.loadedAt = loadedAt;
+    }
+
+    public static VenueCatalogSnapshot of(List<VenueView> loaded, Instant loadedAt) {
+        Map<String, VenueView> byId = new LinkedHashMap<>();
+        loaded.stream()
+                .sorted(Comparator.comparing(VenueView::id))
+                .forEach(venue -> byId.put(venue.id(), venue));
+        return new VenueCatalogSnapshot(List.copyOf(byId.values()), Map.copyOf(byId), loadedAt);
+    }
+
+    public List<VenueView> venues() { return venues; }
+
+    public Optional<VenueView> venue(String id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(venuesById.get(id));
+    }
+
+    /**
+     * Returns up to {@code limit} venues whose id sorts after {@code afterId} (or from the start).
+     */
+    public VenuePage page(String afterId, int limit) {
+        int from = startOf(afterId);
+        long key = ((long) from << 32) | limit;
+        VenuePage page = pages.get(key);
+        if (page == null) {
+            int to = Math.min(from + limit, venues.size());
+            page = new VenuePage(venues.subList(from, to), to < venues.size() ? sortedIds[to - 1] : null);
+            if (pages.size() < MAX_MEMOIZED_PAGES) {
+                VenuePage existing = pages.putIfAbsent(key, page);
+                page = existing != null ? existing : page;
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Same page as {@link #page}, reduced to ids and names.
+     */
+    public VenueSummaryPage summaryPage(String afterId, int limit) {
+        long key = ((long) startOf(afterId) << 32) | limit;
+        VenueSummaryPage summaries = summaryPages.get(key);
+        if (summaries == null) {
+            VenuePage page = page(afterId, limit);
+            summaries = new VenueSummaryPage(page.venues().stream()
+                    .map(venue -> new VenueSummary(venue.id(), venue.name()))
+                    .toList(), page.nextAfterId());
+            if (summaryPages.size() < MAX_MEMOIZED_PAGES) {
+                VenueSummaryPage existing = summaryPages.putIfAbsent(key, summaries);
+                summaries = existing != null ? existing : summaries;
+            }
+        }
+        return summaries;
+    }
+
+    public Instant loadedAt() { return loadedAt; }
+
+    private int startOf(String afterId) {
+        if (afterId == null) {
+            return 0;
+        }
+        int index = Arrays.binarySearch(sortedIds, afterId);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+}
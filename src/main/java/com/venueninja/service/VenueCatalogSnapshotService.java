@@ -0,0 +1,107 @@
+package com.venueninja.service;
+
+import com.venueninja.config.CatalogSnapshotProperties;
+import com.venueninja.config.PrimaryReads;
+import com.venueninja.event.CatalogChangedEvent;
+import com.venueninja.repository.VenueRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Owns the current {@link VenueCatalogSnapshot}. Rebuilds happen in the background on a
+ * fixed delay, after committed catalog changes, or on demand; readers only ever see a
+ * fully built snapshot swapped in atomically.
+ */
+@Service
+public class VenueCatalogSnapshotService {
+
+    private static final Logger log = LoggerFactory.getLogger(VenueCatalogSnapshotService.class);
+
+    private final VenueRepository venueRepository;
+    private final CatalogSnapshotProperties properties;
+    private final TaskScheduler taskScheduler;
+    private final Clock clock;
+    private final AtomicReference<VenueCatalogSnapshot> current = new AtomicReference<>();
+
+    public VenueCatalogSnapshotService(VenueRepository venueRepository, CatalogSnapshotProperties properties,
+                                       TaskScheduler taskScheduler, MeterRegistry meterRegistry) {
+        this.venueRepository = venueRepository;
+        this.properties = properties;
+        this.taskScheduler = taskScheduler;
+        this.clock = Clock.systemUTC();
+
+        TimeGauge.builder("venueninja.catalog.snapshot.age", this, TimeUnit.MILLISECONDS,
+                        VenueCatalogSnapshotService::ageMillis)
+                .description("Time since the serving catalog snapshot was loaded")
+                .register(meterRegistry);
+    }
+
+    /**
+     * True when snapshot mode is enabled and a snapshot has been loaded.
+     */
+    public boolean isServing() {
+        return properties.isEnabled() && current.get() != null;
+    }
+
+    public VenueCatalogSnapshot current() {
+        return current.get();
+    }
+
+    public synchronized VenueCatalogSnapshot refresh() {
+        Instant started = clock.instant();
+        VenueCatalogSnapshot snapshot = VenueCatalogSnapshot.of(PrimaryReads.call(venueRepository::findAllViews), started);
+        current.set(snapshot);
+        log.info("Catalog snapshot refreshed with {} venues in {} ms",
+                snapshot.venues().size(), Duration.between(started, clock.instant()).toMillis());
+        return snapshot;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (properties.isEnabled()) {
+            refresh();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${venueninja.catalog.snapshot.refresh-interval:PT5M}",
+               initialDelayString = "${venueninja.catalog.snapshot.refresh-interval:PT5M}")
+    public void scheduledRefresh() {
+        if (properties.isEnabled()) {
+            refreshQuietly();
+        }
+    }
+
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (properties.isEnabled()) {
+            taskScheduler.schedule(this::refreshQuietly, clock.instant());
+        }
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException ex) {
+            // Keep serving the previous snapshot; the next trigger will retry
+            log.warn("Catalog snapshot refresh failed", ex);
+        }
+    }
+
+    private double ageMillis() {
+        VenueCatalogSnapshot snapshot = current.get();
+        return snapshot == null ? Double.NaN : Duration.between(snapshot.loadedAt(), clock.instant()).toMillis();
+    }
+}
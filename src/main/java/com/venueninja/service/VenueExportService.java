@@ -0,0 +1,153 @@
+package com.venueninja.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.venueninja.config.ExportProperties;
+import com.venueninja.model.SeatRecommendationView;
+import com.venueninja.model.VenueView;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streams the whole catalog as newline-delimited JSON, one venue per line in the same
+ * {@link VenueView} shape as {@code GET /venues}, so an export can be re-imported as is.
+ *
+ * <p>Rows are read through a forward-only, read-only cursor with a fixed fetch size and
+ * written out as soon as a venue is complete, so only one venue is held in memory at a
+ * time. PostgreSQL only honours the fetch size inside a transaction, hence the read-only
+ * transaction around the query. Writes block while the client is slow to read, which
+ * pauses the cursor; a failed write aborts the query and releases the connection.
+ */
+@Service
+public class VenueExportService {
+
+    static final String EXPORT_SQL = """
+            SELECT v.id AS venue_id, v.name AS venue_name, v.currency AS venue_currency,
+                   r.id AS rec_id, r.section, r.category, r.reason, r.estimated_price,
+                   r.price_minor, r.currency, r.tip
+            FROM venue v
+            LEFT JOIN seat_recommendation r ON r.venue_id = v.id
+            ORDER BY v.id, r.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectWriter writer;
+    private final ExportProperties properties;
+
+    public VenueExportService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                              ObjectMapper objectMapper, ExportProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // Lines are separated explicitly and flushing is batched instead of after every venue
+        this.writer = objectMapper.writer()
+                .withRootValueSeparator("")
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.properties = properties;
+    }
+
+    /**
+     * Writes every venue to {@code out} and returns the number of venues exported.
+     *
+     * @throws UncheckedIOException if writing to {@code out} fails, e.g. the client went away
+     */
+    public long export(OutputStream out) {
+        Long exported = readOnlyTransaction.execute(status -> {
+            try {
+                JsonGenerator generator = writer.createGenerator(out);
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                VenueLineWriter lines = new VenueLineWriter(generator);
+                jdbcTemplate.query(this::prepareCursor, lines);
+                lines.finish();
+                // Only closed on success: closing after a failed write would retry it against a dead client
+                generator.close();
+                return lines.written;
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        return exported == null ? 0 : exported;
+    }
+
+    private PreparedStatement prepareCursor(Connection connection) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(EXPORT_SQL,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        statement.setFetchSize(properties.getFetchSize());
+        return statement;
+    }
+
+    /**
+     * Groups consecutive rows of the same venue and emits each venue once its rows are read.
+     */
+    private final class VenueLineWriter implements RowCallbackHandler {
+
+        private final JsonGenerator generator;
+        private String venueId;
+        private String venueName;
+        private String venueCurrency;
+        private List<SeatRecommendationView> recommendations;
+        private long written;
+
+        VenueLineWriter(JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            String rowVenueId = rs.getString("venue_id");
+            if (!rowVenueId.equals(venueId)) {
+                emitCurrent();
+                venueId = rowVenueId;
+                venueName = rs.getString("venue_name");
+                venueCurrency = rs.getString("venue_currency");
+                recommendations = new ArrayList<>();
+            }
+            long recommendationId = rs.getLong("rec_id");
+            if (!rs.wasNull()) {
+                long priceMinor = rs.getLong("price_minor");
+                Long price = rs.wasNull() ? null : priceMinor;
+                recommendations.add(new SeatRecommendationView(recommendationId, rs.getString("section"),
+                        rs.getString("category"), rs.getString("reason"), rs.getString("estimated_price"),
+                        price, rs.getString("currency"), rs.getString("tip")));
+            }
+        }
+
+        void finish() throws IOException {
+            emitCurrent();
+            generator.flush();
+        }
+
+        private void emitCurrent() {
+            if (venueId == null) {
+                return;
+            }
+            try {
+                writer.writeValue(generator, new VenueView(venueId, venueName, venueCurrency, recommendations));
+                generator.writeRaw('\n');
+                written++;
+                if (written % properties.getFlushEvery() == 0) {
+                    // Pushes bytes to the socket so a disconnected client is noticed promptly
+                    generator.flush();
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,347 @@
+package com.venueninja.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.venueninja.config.ImportProperties;
+import com.venueninja.event.CatalogChangedEvent;
+import com.venueninja.exception.BadRequestException;
+import com.venueninja.model.ImportResult;
+import com.venueninja.model.SeatRecommendation;
+import com.venueninja.model.Venue;
+import com.venueninja.repository.SeatRecommendationRepository;
+import com.venueninja.repository.VenueRepository;
+import jakarta.persistence.EntityManager;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Loads venues and their recommendations in bulk from JSON or CSV uploads.
+ *
+ * <p>Input is parsed as a stream and written in chunks of {@link ImportProperties#getChunkSize()}
+ * venues, each in its own transaction, so memory use is bounded by the chunk rather than the
+ * upload. Imported venues replace existing venues with the same id. Chunks are written with
+ * batched INSERTs (sequence ids, see {@link SeatRecommendation}), or with PostgreSQL COPY when
+ * enabled. A failure stops the import; chunks committed before it are kept.
+ */
+@Service
+public class VenueImportService {
+
+    static final List<String> CSV_HEADER =
+            List.of("venue_id", "venue_name", "section", "category", "reason", "estimated_price", "tip");
+    static final String JDBC_BATCH = "jdbc-batch";
+    static final String POSTGRES_COPY = "postgres-copy";
+
+    private static final Logger log = LoggerFactory.getLogger(VenueImportService.class);
+
+    // Must match the allocationSize of SeatRecommendation's sequence generator
+    private static final int ID_ALLOCATION_SIZE = 50;
+
+    private final VenueRepository venueRepository;
+    private final SeatRecommendationRepository recommendationRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectReader venueReader;
+    private final ImportProperties properties;
+
+    public VenueImportService(VenueRepository venueRepository, SeatRecommendationRepository recommendationRepository,
+                              EntityManager entityManager, JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager, ApplicationEventPublisher eventPublisher,
+                              ObjectMapper objectMapper, ImportProperties properties) {
+        this.venueRepository = venueRepository;
+        this.recommendationRepository = recommendationRepository;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.venueReader = objectMapper.readerFor(Venue.class);
+        this.properties = properties;
+    }
+
+    /**
+     * Imports a JSON array of venues in the shape returned by {@code GET /venues}.
+     *
+     * @throws BadRequestException if the JSON is malformed or a venue is invalid
+     */
+    public ImportResult importJson(InputStream in) {
+        try (MappingIterator<Venue> venues = venueReader.readValues(in)) {
+            return run(new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    try {
+                        return venues.hasNextValue();
+                    } catch (IOException ex) {
+                        throw malformedJson(ex);
+                    }
+                }
+
+                @Override
+                public Venue next() {
+                    try {
+                        return venues.nextValue();
+                    } catch (IOException ex) {
+                        throw malformedJson(ex);
+                    }
+                }
+            });
+        } catch (IOException ex) {
+            throw malformedJson(ex);
+        }
+    }
+
+    private static RuntimeException malformedJson(IOException ex) {
+        return ex instanceof JsonProcessingException json
+                ? new BadRequestException("Malformed venue JSON: " + json.getOriginalMessage())
+                : new UncheckedIOException(ex);
+    }
+
+    /**
+     * Imports UTF-8 CSV with the header {@code venue_id,venue_name,section,category,reason,estimated_price,tip}
+     * and one row per recommendation. A venue's rows must be consecutive; a row whose recommendation
+     * columns are all empty adds a venue without recommendations.
+     *
+     * @throws BadRequestException if the header or a row is invalid
+     */
+    public ImportResult importCsv(InputStream in) {
+        CsvRecordReader csv = new CsvRecordReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+        List<String> header = csv.next();
+        if (header == null || !CSV_HEADER.equals(header.stream().map(String::trim).toList())) {
+            throw new BadRequestException("CSV header must be " + String.join(",", CSV_HEADER));
+        }
+        return run(new CsvVenueIterator(csv));
+    }
+
+    private ImportResult run(Iterator<Venue> venues) {
+        long started = System.nanoTime();
+        String loader = usePostgresCopy() ? POSTGRES_COPY : JDBC_BATCH;
+        Set<String> seen = new HashSet<>();
+        List<Venue> chunk = new ArrayList<>(properties.getChunkSize());
+        int imported = 0;
+        long recommendations = 0;
+        int chunks = 0;
+        try {
+            while (venues.hasNext()) {
+                Venue venue = venues.next();
+                validate(venue, seen);
+                chunk.add(venue);
+                if (chunk.size() == properties.getChunkSize() || !venues.hasNext()) {
+                    if (loader.equals(POSTGRES_COPY)) {
+                        copyChunk(chunk);
+                    } else {
+                        insertChunk(chunk);
+                    }
+                    imported += chunk.size();
+                    recommendations += chunk.stream().mapToLong(v -> v.getRecommendations().size()).sum();
+                    chunks++;
+                    chunk.clear();
+                }
+            }
+        } catch (BadRequestException ex) {
+            throw imported == 0 ? ex : new BadRequestException(ex.getMessage() + " (" + imported
+                    + " venues imported before the error were kept)");
+        }
+        long elapsedNanos = System.nanoTime() - started;
+        double rowsPerSecond = elapsedNanos == 0 ? 0 : (imported + recommendations) * 1e9 / elapsedNanos;
+        log.info("Imported {} venues and {} recommendations in {} chunks via {}: {} ms, {} rows/s",
+                imported, recommendations, chunks, loader, elapsedNanos / 1_000_000, Math.round(rowsPerSecond));
+        return new ImportResult(imported, recommendations, chunks, loader, elapsedNanos / 1_000_000, rowsPerSecond);
+    }
+
+    private static void validate(Venue venue, Set<String> seen) {
+        if (venue == null || venue.getId() == null || venue.getId().isBlank()) {
+            throw new BadRequestException("Every venue needs an id");
+        }
+        if (!seen.add(venue.getId())) {
+            throw new BadRequestException("Venue " + venue.getId() + " appears more than once in the import");
+        }
+        if (venue.getCurrency() == null) {
+            venue.setCurrency(SeatRecommendation.DEFAULT_CURRENCY);
+        }
+        if (venue.getRecommendations() == null) {
+            venue.setRecommendations(new ArrayList<>());
+        }
+        for (SeatRecommendation recommendation : venue.getRecommendations()) {
+            // Ids are always generated; the venue id lets the change event target just this venue
+            recommendation.setId(null);
+            recommendation.setVenueId(venue.getId());
+            try {
+                recommendation.normalizePrice(venue.getCurrency());
+            } catch (IllegalArgumentException ex) {
+                throw new BadRequestException("Venue " + venue.getId() + " has an invalid price: " + ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Replaces the chunk's venues through JPA. With sequence ids and hibernate.jdbc.batch_size the
+     * inserts go out as JDBC batches; the persistence context is cleared so it never outgrows a chunk.
+     */
+    private void insertChunk(List<Venue> chunk) {
+        List<String> ids = chunk.stream().map(Venue::getId).toList();
+        transaction.executeWithoutResult(status -> {
+            recommendationRepository.deleteByVenueIdIn(ids);
+            venueRepository.deleteByIdIn(ids);
+            chunk.forEach(entityManager::persist);
+            entityManager.flush();
+            entityManager.clear();
+        });
+    }
+
+    /**
+     * Replaces the chunk's venues with two COPY FROM STDIN streams. Recommendation ids come from the
+     * same sequence Hibernate uses, one nextval per block of {@value #ID_ALLOCATION_SIZE} ids.
+     * Entity listeners and the second-level cache do not see these writes, so the change event is
+     * published and cached entities are evicted here.
+     */
+    private void copyChunk(List<Venue> chunk) {
+        List<String> ids = chunk.stream().map(Venue::getId).toList();
+        transaction.executeWithoutResult(status -> jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            Array venueIds = connection.createArrayOf("varchar", ids.toArray());
+            jdbcTemplate.update("delete from seat_recommendation where venue_id = any(?)", venueIds);
+            jdbcTemplate.update("delete from venue where id = any(?)", venueIds);
+
+            StringBuilder venueRows = new StringBuilder();
+            StringBuilder recommendationRows = new StringBuilder();
+            Iterator<Long> recommendationIds = allocateIds(connection,
+                    chunk.stream().mapToInt(v -> v.getRecommendations().size()).sum());
+            for (Venue venue : chunk) {
+                appendRow(venueRows, venue.getId(), venue.getName(), venue.getCurrency());
+                for (SeatRecommendation r : venue.getRecommendations()) {
+                    appendRow(recommendationRows, recommendationIds.next(), venue.getId(), r.getSection(),
+                            r.getCategory(), r.getReason(), r.getEstimatedPrice(), r.getPriceMinor(),
+                            r.getCurrency(), r.getTip());
+                }
+            }
+            try {
+                CopyManager copy = connection.unwrap(PGConnection.class).getCopyAPI();
+                copy.copyIn("COPY venue (id, name, currency) FROM STDIN (FORMAT csv)", new StringReader(venueRows.toString()));
+                copy.copyIn("COPY seat_recommendation (id, venue_id, section, category, reason, estimated_price, "
+                        + "price_minor, currency, tip) FROM STDIN (FORMAT csv)",
+                        new StringReader(recommendationRows.toString()));
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return null;
+        }));
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+        eventPublisher.publishEvent(new CatalogChangedEvent(Set.copyOf(ids)));
+    }
+
+    // Same scheme as Hibernate's pooled optimizer: each sequence value v reserves ids (v - 49)..v.
+    // The very first value of a fresh sequence reserves only itself, hence the loop
+    static Iterator<Long> allocateIds(Connection connection, int count) throws SQLException {
+        List<Long> allocated = new ArrayList<>(count);
+        try (PreparedStatement statement = connection.prepareStatement(
+                "select nextval('seat_recommendation_seq') from generate_series(1, ?)")) {
+            while (allocated.size() < count) {
+                statement.setInt(1, (count - allocated.size() + ID_ALLOCATION_SIZE - 1) / ID_ALLOCATION_SIZE);
+                try (ResultSet blocks = statement.executeQuery()) {
+                    while (blocks.next()) {
+                        long hi = blocks.getLong(1);
+                        for (long id = Math.max(1, hi - ID_ALLOCATION_SIZE + 1); id <= hi && allocated.size() < count; id++) {
+                            allocated.add(id);
+                        }
+                    }
+                }
+            }
+        }
+        return allocated.iterator();
+    }
+
+    static void appendRow(StringBuilder rows, Object... values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                rows.append(',');
+            }
+            // Unquoted empty means NULL in COPY csv; everything else is quoted
+            if (values[i] != null) {
+                rows.append('"').append(values[i].toString().replace("\"", "\"\"")).append('"');
+            }
+        }
+        rows.append('\n');
+    }
+
+    private boolean usePostgresCopy() {
+        return properties.isPostgresCopy() && Boolean.TRUE.equals(jdbcTemplate.execute(
+                (ConnectionCallback<Boolean>) connection -> connection.isWrapperFor(PGConnection.class)));
+    }
+
+    /**
+     * Groups consecutive CSV rows with the same venue_id into one venue.
+     */
+    private static final class CsvVenueIterator implements Iterator<Venue> {
+
+        private final CsvRecordReader csv;
+        private List<String> pending;
+
+        CsvVenueIterator(CsvRecordReader csv) {
+            this.csv = csv;
+            this.pending = readRow();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return pending != null;
+        }
+
+        @Override
+        public Venue next() {
+            if (pending == null) {
+                throw new NoSuchElementException();
+            }
+            Venue venue = new Venue(pending.get(0), pending.get(1), new ArrayList<>());
+            while (pending != null && pending.get(0).equals(venue.getId())) {
+                if (pending.subList(2, pending.size()).stream().anyMatch(value -> !value.isEmpty())) {
+                    venue.getRecommendations().add(new SeatRecommendation(emptyToNull(pending.get(2)),
+                            emptyToNull(pending.get(3)), emptyToNull(pending.get(4)), emptyToNull(pending.get(5)),
+                            emptyToNull(pending.get(6))));
+                }
+                pending = readRow();
+            }
+            return venue;
+        }
+
+        private List<String> readRow() {
+            List<String> row = csv.next();
+            if (row != null && row.size() != CSV_HEADER.size()) {
+                throw new BadRequestException("CSV line " + csv.line() + " has " + row.size()
+                        + " fields; expected " + CSV_HEADER.size());
+            }
+            return row;
+        }
+
+        private static String emptyToNull(String value) {
+            return value.isEmpty() ? null : value;
+        }
+    }
+}
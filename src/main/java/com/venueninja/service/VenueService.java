@@ -1,26 +1,148 @@
 package com.venueninja.service;
 
-import com.venueninja.model.Venue;
+import com.venueninja.config.CacheConfig;
+import com.venueninja.config.PrimaryReads;
+import com.venueninja.model.VenueLookup;
+import com.venueninja.model.VenuePage;
+import com.venueninja.model.VenueSummary;
+import com.venueninja.model.VenueSummaryPage;
+import com.venueninja.model.VenueView;
 import com.venueninja.repository.VenueRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
+/**
+ * Venue reads for the API. Results are immutable {@link VenueView}s built by projection queries,
+ * so callers never hold entities, and no Hibernate session or connection is needed while they
+ * are serialized. Each query runs in its own short read-only transaction in the repository.
+ *
+ * <p>Results that go into a cache are loaded from the primary: a cache entry outlives replica lag,
+ * so one filled from a lagging replica right after an eviction would stay stale until the next change.
+ */
+// Timed outside the cache (see MetricsConfig), so timings include cache and snapshot hits
 @Service
+@Timed(value = "venueninja.venue.service", description = "VenueService read latency")
 public class VenueService {
 
     private final VenueRepository venueRepository;
+    private final VenueCatalogSnapshotService snapshotService;
+    private final boolean cachingEnabled;
 
-    public VenueService(VenueRepository venueRepository) {
+    public VenueService(VenueRepository venueRepository, VenueCatalogSnapshotService snapshotService,
+                        CacheManager cacheManager) {
         this.venueRepository = venueRepository;
+        this.snapshotService = snapshotService;
+        this.cachingEnabled = !(cacheManager instanceof NoOpCacheManager);
     }
 
-    public List<Venue> getAllVenues() {
-        return venueRepository.findAll();
+    // The cache is bypassed while the snapshot is serving; the snapshot is already in memory
+    @Cacheable(cacheNames = CacheConfig.VENUES_CACHE, condition = "!@venueCatalogSnapshotService.serving")
+    public List<VenueView> getAllVenues() {
+        if (snapshotService.isServing()) {
+            return snapshotService.current().venues();
+        }
+        return fill(venueRepository::findAllViews);
     }
 
-    public Venue getVenue(String id) {
-        return venueRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Venue not found with id: " + id));
+    @Cacheable(cacheNames = CacheConfig.VENUE_CACHE, condition = "!@venueCatalogSnapshotService.serving")
+    public VenueView getVenue(String id) {
+        Optional<VenueView> venue = snapshotService.isServing()
+                ? snapshotService.current().venue(id)
+                : fill(() -> venueRepository.findViewById(id));
+        return venue.orElseThrow(() -> new RuntimeException("Venue not found with id: " + id));
+    }
+
+    /**
+     * Resolves several venues at once with a single batched query, or from the snapshot when
+     * it is serving. Results follow the order of {@code ids}, duplicates collapsed; unknown ids
+     * are reported in {@link VenueLookup#missingIds()} rather than failing the lookup.
+     */
+    public VenueLookup getVenues(Collection<String> ids) {
+        Set<String> requested = new LinkedHashSet<>(ids);
+        Map<String, VenueView> found;
+        if (snapshotService.isServing()) {
+            VenueCatalogSnapshot snapshot = snapshotService.current();
+            found = requested.stream()
+                    .flatMap(id -> snapshot.venue(id).stream())
+                    .collect(Collectors.toMap(VenueView::id, Function.identity()));
+        } else {
+            found = requested.isEmpty() ? Map.of() : venueRepository.findViewsByIdIn(requested)
+                    .stream()
+                    .collect(Collectors.toMap(VenueView::id, Function.identity()));
+        }
+        List<VenueView> venues = new ArrayList<>(found.size());
+        List<String> missing = new ArrayList<>();
+        for (String id : requested) {
+            VenueView venue = found.get(id);
+            if (venue != null) {
+                venues.add(venue);
+            } else {
+                missing.add(id);
+            }
+        }
+        return new VenueLookup(venues, missing);
+    }
+
+    /**
+     * Keyset page of venues ordered by id. Costs two queries whatever the page or catalog
+     * size: one for the page's ids and one batched projection of those venues and recommendations.
+     */
+    @Cacheable(cacheNames = CacheConfig.VENUE_PAGES_CACHE, condition = "!@venueCatalogSnapshotService.serving")
+    public VenuePage getVenuePage(String afterId, int limit) {
+        if (snapshotService.isServing()) {
+            return snapshotService.current().page(afterId, limit);
+        }
+        return fill(() -> loadVenuePage(afterId, limit));
+    }
+
+    /**
+     * Keyset page of venue ids and names. A single query against the venue table only;
+     * recommendations are never loaded.
+     */
+    @Cacheable(cacheNames = CacheConfig.VENUE_SUMMARY_PAGES_CACHE, condition = "!@venueCatalogSnapshotService.serving")
+    public VenueSummaryPage getVenueSummaryPage(String afterId, int limit) {
+        if (snapshotService.isServing()) {
+            return snapshotService.current().summaryPage(afterId, limit);
+        }
+        return fill(() -> loadVenueSummaryPage(afterId, limit));
+    }
+
+    private VenuePage loadVenuePage(String afterId, int limit) {
+        // One extra id tells us whether another page follows
+        List<String> ids = afterId == null
+                ? venueRepository.findIds(Limit.of(limit + 1))
+                : venueRepository.findIdsAfter(afterId, Limit.of(limit + 1));
+        boolean hasNext = ids.size() > limit;
+        List<String> pageIds = hasNext ? ids.subList(0, limit) : ids;
+        List<VenueView> venues = pageIds.isEmpty() ? List.of() : venueRepository.findViewsByIdIn(pageIds);
+        return new VenuePage(venues, hasNext ? pageIds.get(pageIds.size() - 1) : null);
+    }
+
+    private VenueSummaryPage loadVenueSummaryPage(String afterId, int limit) {
+        List<VenueSummary> summaries = afterId == null
+                ? venueRepository.findSummaries(Limit.of(limit + 1))
+                : venueRepository.findSummariesAfter(afterId, Limit.of(limit + 1));
+        boolean hasNext = summaries.size() > limit;
+        List<VenueSummary> page = hasNext ? summaries.subList(0, limit) : summaries;
+        return new VenueSummaryPage(page, hasNext ? page.get(page.size() - 1).id() : null);
+    }
+
+    private <T> T fill(Supplier<T> load) {
+        return cachingEnabled ? PrimaryReads.call(load) : load.get();
     }
 }
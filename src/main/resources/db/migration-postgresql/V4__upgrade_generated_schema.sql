@@ -0,0 +1,19 @@
+-- Databases created by the former ddl-auto=create setup are baselined at V1 without matching it:
+-- IDENTITY recommendation ids, no normalized price columns, no id sequence and a nullable venue_id.
+-- Every statement is a no-op on a schema that V1 created.
+
+ALTER TABLE seat_recommendation ADD COLUMN IF NOT EXISTS price_minor BIGINT;
+ALTER TABLE seat_recommendation ADD COLUMN IF NOT EXISTS currency VARCHAR(3);
+CREATE INDEX IF NOT EXISTS idx_seat_recommendation_price ON seat_recommendation (currency, price_minor);
+
+-- Ids now come from the pooled sequence; start it past every id handed out by IDENTITY
+ALTER TABLE seat_recommendation ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE seat_recommendation ALTER COLUMN id DROP DEFAULT;
+CREATE SEQUENCE IF NOT EXISTS seat_recommendation_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('seat_recommendation_seq', max_id)
+FROM (SELECT MAX(id) AS max_id FROM seat_recommendation) ids
+WHERE max_id >= (SELECT last_value FROM seat_recommendation_seq);
+
+-- Hibernate used to null venue_id when a recommendation left its venue; those rows are unreachable
+DELETE FROM seat_recommendation WHERE venue_id IS NULL;
+ALTER TABLE seat_recommendation ALTER COLUMN venue_id SET NOT NULL;
@@ -0,0 +1,26 @@
+-- Catalog schema as previously generated by Hibernate (ddl-auto=create)
+
+CREATE TABLE venue (
+    id VARCHAR(255) NOT NULL,
+    name VARCHAR(255),
+    CONSTRAINT pk_venue PRIMARY KEY (id)
+);
+
+-- Matches the pooled generator on SeatRecommendation.id (allocationSize = 50)
+CREATE SEQUENCE seat_recommendation_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE seat_recommendation (
+    id BIGINT NOT NULL,
+    venue_id VARCHAR(255) NOT NULL,
+    section VARCHAR(255),
+    category VARCHAR(255),
+    reason VARCHAR(255),
+    estimated_price VARCHAR(255),
+    price_minor BIGINT,
+    currency VARCHAR(3),
+    tip VARCHAR(255),
+    CONSTRAINT pk_seat_recommendation PRIMARY KEY (id),
+    CONSTRAINT fk_seat_recommendation_venue FOREIGN KEY (venue_id) REFERENCES venue (id)
+);
+
+CREATE INDEX idx_seat_recommendation_price ON seat_recommendation (currency, price_minor);
@@ -0,0 +1,3 @@
+-- Recommendations are always loaded, replaced and deleted by venue; PostgreSQL does not index
+-- foreign key columns on its own
+CREATE INDEX idx_seat_recommendation_venue ON seat_recommendation (venue_id);
@@ -0,0 +1,7 @@
+-- Hash of the last applied seed script, so restarts can skip an unchanged seed (see CatalogSeedLoader)
+CREATE TABLE catalog_seed_state (
+    name VARCHAR(100) NOT NULL,
+    sha256 VARCHAR(64) NOT NULL,
+    applied_at TIMESTAMP NOT NULL,
+    CONSTRAINT pk_catalog_seed_state PRIMARY KEY (name)
+);
@@ -0,0 +1,2 @@
+-- Currency each venue is priced in; a bare "$" in a display price means this currency
+ALTER TABLE venue ADD COLUMN currency VARCHAR(3) DEFAULT 'USD' NOT NULL;
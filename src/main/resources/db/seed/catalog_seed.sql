@@ -0,0 +1,80 @@
+-- Catalog seed data. CatalogSeedLoader re-applies this script only when its SHA-256 changes,
+-- so edit it in place: it first removes the venues it owns, then inserts them again.
+
+DELETE FROM seat_recommendation WHERE venue_id IN ('msg', 'yankee', 'barclays', 'redrocks', 'radiocity', 'citi', 'att', 'crypto', 'scg', 'marvel');
+DELETE FROM venue WHERE id IN ('msg', 'yankee', 'barclays', 'redrocks', 'radiocity', 'citi', 'att', 'crypto', 'scg', 'marvel');
+
+-- VENUES
+-- Display prices below are normalized by CatalogSeedLoader; a bare "$" means the venue's currency
+INSERT INTO venue (id, name, currency) VALUES
+('msg', 'Madison Square Garden', 'USD'),
+('yankee', 'Yankee Stadium', 'USD'),
+('barclays', 'Barclays Center', 'USD'),
+('redrocks', 'Red Rocks Amphitheatre', 'USD'),
+('radiocity', 'Radio City Music Hall', 'USD'),
+('citi', 'Citi Field', 'USD'),
+('att', 'AT&T Stadium', 'USD'),
+('crypto', 'Crypto.com Arena', 'USD'),
+('scg', 'Sydney Cricket Ground', 'AUD'),
+('marvel', 'Marvel Stadium', 'AUD');
+
+-- MSG
+INSERT INTO seat_recommendation (id, venue_id, section, category, reason, estimated_price, tip) VALUES
+(nextval('seat_recommendation_seq'), 'msg', '104', 'Lower Bowl', 'Best resale value & view of stage', '$250', 'Avoid row 20+ due to rigging obstruction'),
+(nextval('seat_recommendation_seq'), 'msg', '212', 'Budget 200-Level', 'Good price-to-view ratio', '$120', 'Stick to first 5 rows for best view'),
+(nextval('seat_recommendation_seq'), 'msg', 'VIP C', 'Courtside Celebrity', 'Ultimate fan experience', '$750', 'Dress sharp, cameras are always rolling');
+
+-- YANKEE
+INSERT INTO seat_recommendation (id, venue_id, section, category, reason, estimated_price, tip) VALUES
+(nextval('seat_recommendation_seq'), 'yankee', 'Legends', 'Premium', 'Close to the field, luxury service', '$450', 'Includes all-you-can-eat buffet'),
+(nextval('seat_recommendation_seq'), 'yankee', 'Upper Deck 423', 'Budget Shade', 'Great for day games', '$60', 'Covered from sun and rain'),
+(nextval('seat_recommendation_seq'), 'yankee', '203', 'Bleacher Creatures Zone', 'Hardcore fan energy', '$45', 'Chant with the crowd or be left behind');
+
+-- BARCLAYS
+INSERT INTO seat_recommendation (id, venue_id, section, category, reason, estimated_price, tip) VALUES
+(nextval('seat_recommendation_seq'), 'barclays', '118', 'Lower Bowl', 'Great view of the action', '$180', 'Behind team benches'),
+(nextval('seat_recommendation_seq'), 'barclays', '210', 'Mid Bowl Value', 'Good elevation for basketball', '$110', 'Center seats best'),
+(nextval('seat_recommendation_seq'), 'barclays', 'VIP Suite 1', 'Premium Suite', 'Private bar & food service', '$500', 'Enter via luxury gate');
+
+-- RED ROCKS
+INSERT INTO seat_recommendation (id, venue_id, section, category, reason, estimated_price, tip) VALUES
+(nextval('seat_recommendation_seq'), 'redrocks', 'Center Terrace', 'Acoustic Sweet Spot', 'Best natural sound quality', '$140', 'Bring a cushion!'),
+(nextval('seat_recommendation_seq'), 'redrocks', 'Upper Bowl', 'Scenic Views', 'Best sunset shots', '$95', 'Come early, stairs are steep'),
+(nextval('seat_recommendation_seq'), 'redrocks', 'Lower Tier', 'Closest to stage', 'Raw energy near performers', '$180', 'Bring earplugs for bass!');
+
+-- RADIO CITY
+INSERT INTO seat_recommendation (id, venue_id, section, category, reason, estimated_price, tip) VALUES
+(nextval('seat_recommendation_seq'), 'radiocity', 'Orchestra A', 'Front Orchestra', 'Close to the Rockettes', '$200', 'Rows A–E are prime'),
+(nextval('seat_recommendation_seq'), 'radiocity', 'Balcony R', 'Side Balcony Gems', 'Great acoustics & value', '$85', 'Farther from crowd noise'),
+(nextval('seat_recommendation_seq'), 'radiocity', 'Mezzanine Center', 'Balanced View', 'Eye-level with effects', '$120', 'Enter early for best pics');
+
+-- CITI FIELD
+INSERT INTO seat_recommendation (id, venue_id, section, category, reason, estimated_price, tip) VALUES
+(nextval('seat_recommendation_seq'), 'citi', '111', 'Field Level', 'Right behind home plate', '$280', 'Watch the pitcher’s grip closely'),
+(nextval('seat_recommendation_seq'), 'citi', 'Bleachers', 'Budget', 'Cheapest option in the park', '$40', 'Bring sunscreen, no shade'),
+(nextval('seat_recommendation_seq'), 'citi', '305', 'Family Zone', 'Kiddie games nearby', '$65', 'Kids eat free days are frequent');
+
+-- AT&T STADIUM
+INSERT INTO seat_recommendation (id, venue_id, section, category, reason, estimated_price, tip) VALUES
+(nextval('seat_recommendation_seq'), 'att', 'C210', 'Club Level VIP', 'Upscale amenities & views', '$325', 'Includes access to lounges'),
+(nextval('seat_recommendation_seq'), 'att', '50-Yard Mid', 'Center Field Premium', 'Perfect strategic view', '$480', 'Watch both sidelines like a coach'),
+(nextval('seat_recommendation_seq'), 'att', 'End Zone 148', 'Red Zone Budget', 'Best chance for TD catches', '$115', 'Bring gloves for souvenirs');
+
+-- CRYPTO.COM ARENA
+INSERT INTO seat_recommendation (id, venue_id, section, category, reason, estimated_price, tip) VALUES
+(nextval('seat_recommendation_seq'), 'crypto', 'Courtside', 'Celebrity Experience', 'Star sightings and up-close action', '$900', 'Cameras always rolling'),
+(nextval('seat_recommendation_seq'), 'crypto', '325', 'Upper Bowl Steal', 'Budget with solid views', '$55', 'Watch for halftime deals'),
+(nextval('seat_recommendation_seq'), 'crypto', '110', 'Team Bench View', 'Watch players up close', '$220', 'Arrive early for warmups');
+
+-- SYDNEY CRICKET GROUND
+INSERT INTO seat_recommendation (id, venue_id, section, category, reason, estimated_price, tip) VALUES
+(nextval('seat_recommendation_seq'), 'scg', 'Members Pavilion', 'Historic VIP', 'Old-world charm and exclusivity', '$300', 'Strict dress code enforced'),
+(nextval('seat_recommendation_seq'), 'scg', 'The Hill', 'GA Lawn', 'Bring a blanket, chill out', '$50', 'Arrive early for shade'),
+(nextval('seat_recommendation_seq'), 'scg', 'Trumper Stand', 'Covered Mid-Tier', 'Balanced view + weatherproof', '$120', 'Perfect for all-day tests');
+
+-- MARVEL STADIUM
+INSERT INTO seat_recommendation (id, venue_id, section, category, reason, estimated_price, tip) VALUES
+(nextval('seat_recommendation_seq'), 'marvel', 'Medallion Club', 'AFL Elite', 'Centrally located and catered', '$340', 'Includes bar access'),
+(nextval('seat_recommendation_seq'), 'marvel', 'Cheer Squad', 'Fan Section', 'Most energetic area', '$60', 'Wear team colors or be ready to sing'),
+(nextval('seat_recommendation_seq'), 'marvel', 'Level 2A', 'Premium Mid-Tier', 'Great elevation and amenities', '$150', 'Best views in the house');
+
@@ -0,0 +1,156 @@
+package com.venueninja.config;
+
+import com.venueninja.model.SeatRecommendation;
+import com.venueninja.model.Venue;
+import com.venueninja.model.VenueSuggestion;
+import com.venueninja.repository.VenueRepository;
+import com.venueninja.search.FacetQuery;
+import com.venueninja.search.RecommendationFacetIndex;
+import com.venueninja.search.SearchHit;
+import com.venueninja.search.VenueSearchIndex;
+import com.venueninja.search.VenueSuggestionIndex;
+import com.venueninja.service.VenueCatalogSnapshotService;
+import com.venueninja.service.VenueService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Runs against two H2 databases: the primary gets the usual test schema and seed, the replica
+ * only the migrations plus one venue the primary does not have, so every row shows where a
+ * query actually ran. The replica never receives writes, so it also stands in for one that lags.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:primary-routing;DB_CLOSE_DELAY=-1",
+    "venueninja.datasource.replicas[0].url=" + ReadReplicaRoutingTest.REPLICA_URL
+})
+@ActiveProfiles("test")
+@DisplayName("Read Replica Routing Tests")
+class ReadReplicaRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replica-routing;DB_CLOSE_DELAY=-1";
+
+    static {
+        Flyway.configure()
+                .dataSource(REPLICA_URL, "sa", "")
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+        new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""))
+                .update("INSERT INTO venue (id, name) VALUES ('replica-only', 'Replica Arena')");
+    }
+
+    @Autowired
+    private VenueRepository venueRepository;
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @Autowired
+    private HealthIndicator replicasHealthIndicator;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private VenueService venueService;
+
+    @Autowired
+    private VenueCatalogSnapshotService snapshotService;
+
+    @Autowired
+    private VenueSearchIndex searchIndex;
+
+    @Autowired
+    private VenueSuggestionIndex suggestionIndex;
+
+    @Autowired
+    private RecommendationFacetIndex facetIndex;
+
+    @Test
+    @DisplayName("Read-only repository calls should be served by the replica")
+    void reads_ShouldUseReplica() {
+        // Act & Assert
+        assertThat(venueRepository.findById("replica-only")).map(Venue::getName).contains("Replica Arena");
+        assertThat(venueRepository.findById("msg")).isEmpty();
+        assertThat(replicaRoutingDataSource.replicaHealth()).containsEntry("replica-1", true);
+        assertThat(meterRegistry.get("hikaricp.connections.usage").tag("pool", "replica-1").timer().count())
+                .isPositive();
+    }
+
+    @Test
+    @DisplayName("Writes should go to the primary")
+    void writes_ShouldUsePrimary() {
+        // Arrange
+        Venue venue = new Venue();
+        venue.setId("routing-write");
+        venue.setName("Written Hall");
+
+        // Act
+        venueRepository.save(venue);
+
+        // Assert
+        JdbcTemplate primary = new JdbcTemplate(primaryDataSource);
+        assertThat(primary.queryForObject("SELECT name FROM venue WHERE id = 'routing-write'", String.class))
+                .isEqualTo("Written Hall");
+        assertThat(primary.queryForObject("SELECT COUNT(*) FROM venue WHERE id = 'replica-only'", Integer.class))
+                .isZero();
+        assertThat(venueRepository.findById("routing-write")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Health should list each replica")
+    void health_ShouldReportReplicas() {
+        // Act & Assert
+        assertThat(replicasHealthIndicator.health().getDetails())
+                .containsEntry("replica-1", "UP")
+                .containsEntry("readsServedBy", "replicas");
+    }
+
+    @Test
+    @DisplayName("Refreshes after a commit should read the primary even though the replica lags")
+    void refreshesAfterCommit_ShouldReadPrimary() {
+        // Arrange
+        SeatRecommendation recommendation = new SeatRecommendation();
+        recommendation.setSection("Pit");
+        recommendation.setCategory("Standing");
+        recommendation.setReason("Closest to the stage");
+        recommendation.setEstimatedPrice("$90");
+        recommendation.setTip("Arrive early");
+        Venue venue = new Venue();
+        venue.setId("lagged-hall");
+        venue.setName("Lagged Hall");
+        venue.setRecommendations(List.of(recommendation));
+        FacetQuery byVenue = new FacetQuery("USD", null, null, null, "lagged-hall");
+
+        // Act
+        venueRepository.save(venue);
+
+        // Assert - the background reindexes see the new venue; plain reads still go to the replica
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            assertThat(searchIndex.search("Lagged", 10)).extracting(SearchHit::venueId).contains("lagged-hall");
+            assertThat(suggestionIndex.suggest("Lagged", 10)).extracting(VenueSuggestion::id).contains("lagged-hall");
+            assertThat(facetIndex.count(byVenue).total()).isEqualTo(1);
+        });
+        assertThat(snapshotService.refresh().venue("lagged-hall")).isPresent();
+        assertThat(venueService.getVenue("lagged-hall").name()).isEqualTo("Lagged Hall");
+        assertThat(venueRepository.findById("lagged-hall")).isEmpty();
+    }
+}
@@ -0,0 +1,161 @@
+package com.venueninja.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReplicaRoutingDataSource Tests")
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource first;
+
+    @Mock
+    private DataSource second;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection firstConnection;
+
+    @Mock
+    private Connection secondConnection;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", first);
+        replicas.put("replica-2", second);
+        meterRegistry = new SimpleMeterRegistry();
+        routing = new ReplicaRoutingDataSource(primary, replicas, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Connections should alternate between healthy replicas")
+    void getConnection_ShouldRoundRobinReplicas() throws SQLException {
+        // Arrange
+        when(first.getConnection()).thenReturn(firstConnection);
+        when(second.getConnection()).thenReturn(secondConnection);
+
+        // Act & Assert
+        assertThat(routing.getConnection()).isSameAs(firstConnection);
+        assertThat(routing.getConnection()).isSameAs(secondConnection);
+        assertThat(routing.getConnection()).isSameAs(firstConnection);
+        verifyNoInteractions(primary);
+    }
+
+    @Test
+    @DisplayName("A failing replica should leave the rotation, and reads fall back to the primary when none is left")
+    void getConnection_WhenReplicasFail_ShouldFailOver() throws SQLException {
+        // Arrange
+        when(first.getConnection()).thenThrow(new SQLException("Connection refused"));
+        when(second.getConnection()).thenReturn(secondConnection)
+                .thenThrow(new SQLException("Connection refused"));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // Act
+        Connection skipped = routing.getConnection();
+        Connection failedOver = routing.getConnection();
+        Connection stillPrimary = routing.getConnection();
+
+        // Assert
+        assertThat(skipped).isSameAs(secondConnection);
+        assertThat(failedOver).isSameAs(primaryConnection);
+        assertThat(stillPrimary).isSameAs(primaryConnection);
+        verify(first, times(1)).getConnection();
+        verify(second, times(2)).getConnection();
+        assertThat(routing.replicaHealth()).containsEntry("replica-1", false).containsEntry("replica-2", false);
+        assertThat(meterRegistry.get("venueninja.datasource.replica.failovers").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("A health check should return recovered replicas to the rotation")
+    void checkHealth_ShouldRestoreRecoveredReplica() throws SQLException {
+        // Arrange
+        when(first.getConnection()).thenThrow(new SQLException("Connection refused")).thenReturn(firstConnection);
+        when(firstConnection.isValid(anyInt())).thenReturn(true);
+        when(second.getConnection()).thenReturn(secondConnection);
+        when(secondConnection.isValid(anyInt())).thenReturn(false);
+        routing.getConnection();
+
+        // Act
+        routing.checkHealth();
+
+        // Assert
+        assertThat(routing.replicaHealth()).containsEntry("replica-1", true).containsEntry("replica-2", false);
+        assertThat(meterRegistry.get("venueninja.datasource.replica.healthy").tag("replica", "replica-1").gauge().value())
+                .isEqualTo(1.0);
+        assertThat(routing.getConnection()).isSameAs(firstConnection);
+        assertThat(routing.getConnection()).isSameAs(firstConnection);
+    }
+
+    @Test
+    @DisplayName("A replica pool that cannot start should be treated like a refused connection")
+    void getConnection_WhenReplicaPoolCannotStart_ShouldFailOver() throws SQLException {
+        // Arrange
+        when(first.getConnection()).thenThrow(new IllegalStateException("Failed to initialize pool"));
+        when(second.getConnection()).thenThrow(new IllegalStateException("Failed to initialize pool"));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // Act
+        Connection connection = routing.getConnection();
+        routing.checkHealth();
+
+        // Assert
+        assertThat(connection).isSameAs(primaryConnection);
+        assertThat(routing.replicaHealth()).containsEntry("replica-1", false).containsEntry("replica-2", false);
+    }
+
+    @Test
+    @DisplayName("Connections with explicit credentials should come from the chosen replica")
+    void getConnectionWithCredentials_ShouldUseReplica() throws SQLException {
+        // Arrange
+        when(first.getConnection("reader", "secret")).thenReturn(firstConnection);
+
+        // Act & Assert
+        assertThat(routing.getConnection("reader", "secret")).isSameAs(firstConnection);
+        verifyNoInteractions(primary);
+    }
+
+    @Test
+    @DisplayName("Reads that asked for the primary should skip the replicas")
+    void getConnection_WhenPrimaryRequested_ShouldUsePrimary() throws SQLException {
+        // Arrange
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // Act
+        Connection connection = PrimaryReads.call(() -> {
+            try {
+                return routing.getConnection();
+            } catch (SQLException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+
+        // Assert
+        assertThat(connection).isSameAs(primaryConnection);
+        verifyNoInteractions(first, second);
+        assertThat(meterRegistry.get("venueninja.datasource.replica.failovers").counter().count()).isZero();
+    }
+}
@@ -0,0 +1,126 @@
+package com.venueninja.controller;
+
+import com.venueninja.model.FacetCounts;
+import com.venueninja.model.PricedRecommendation;
+import com.venueninja.model.SeatRecommendation;
+import com.venueninja.model.Venue;
+import com.venueninja.repository.VenueRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.awaitility.Awaitility.await;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@DisplayName("RecommendationController API Tests")
+class RecommendationControllerTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private VenueRepository venueRepository;
+
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() {
+        baseUrl = "http://localhost:" + port;
+        venueRepository.deleteAll();
+
+        SeatRecommendation australian = new SeatRecommendation("The Hill", "GA Lawn", "Bring a blanket", "$50", "Arrive early");
+        australian.setCurrency("AUD");
+        venueRepository.saveAll(List.of(
+                venue("msg", recommendation("104", "$250"), recommendation("200", "$75")),
+                venue("citi", recommendation("Bleachers", "$40"), recommendation("111", "$280")),
+                new Venue("scg", "Sydney Cricket Ground", new ArrayList<>(List.of(australian)))));
+    }
+
+    @Test
+    @DisplayName("GET /recommendations?maxPrice=100 should return the cheapest USD seats under $100")
+    void findByPrice_UnderLimit_ShouldReturnCheapestFirst() {
+        // Act
+        ResponseEntity<PricedRecommendation[]> response = restTemplate.getForEntity(
+                baseUrl + "/recommendations?maxPrice=100", PricedRecommendation[].class);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).extracting(PricedRecommendation::section).containsExactly("Bleachers", "200");
+        assertThat(response.getBody()).extracting(PricedRecommendation::venueId).containsExactly("citi", "msg");
+        assertThat(response.getBody()).extracting(PricedRecommendation::currency).containsOnly("USD");
+    }
+
+    @Test
+    @DisplayName("GET /recommendations should filter by currency and sort descending")
+    void findByPrice_WithCurrencyAndDescendingSort_ShouldApplyBoth() {
+        // Act
+        ResponseEntity<PricedRecommendation[]> aud = restTemplate.getForEntity(
+                baseUrl + "/recommendations?currency=aud", PricedRecommendation[].class);
+        ResponseEntity<PricedRecommendation[]> mostExpensive = restTemplate.getForEntity(
+                baseUrl + "/recommendations?sort=-price&minPrice=75.00&limit=2", PricedRecommendation[].class);
+
+        // Assert
+        assertThat(aud.getBody()).extracting(PricedRecommendation::venueId).containsExactly("scg");
+        assertThat(mostExpensive.getBody()).extracting(PricedRecommendation::priceMinor).containsExactly(28000L, 25000L);
+    }
+
+    @Test
+    @DisplayName("GET /recommendations should reject invalid parameters with 400")
+    void findByPrice_WithInvalidParameters_ShouldReturn400() {
+        // Act & Assert
+        assertThat(status("/recommendations?currency=dollars")).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(status("/recommendations?minPrice=200&maxPrice=100")).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(status("/recommendations?maxPrice=9.999")).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(status("/recommendations?sort=name")).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(status("/recommendations?limit=0")).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    @DisplayName("GET /recommendations/facets should count by category, price bucket and venue")
+    void facets_ShouldReturnFilteredCounts() {
+        // Act: counts are updated in the background after the setup commit
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(restTemplate.getForObject(baseUrl + "/recommendations/facets", FacetCounts.class).total())
+                        .isEqualTo(4));
+        FacetCounts underHundred = restTemplate.getForObject(
+                baseUrl + "/recommendations/facets?maxPrice=100", FacetCounts.class);
+        FacetCounts aud = restTemplate.getForObject(
+                baseUrl + "/recommendations/facets?currency=AUD", FacetCounts.class);
+
+        // Assert
+        assertThat(underHundred.categories()).containsExactly(entry("Category", 2));
+        assertThat(underHundred.priceBuckets()).containsExactly(entry("0-50", 1), entry("50-100", 1));
+        assertThat(underHundred.venues()).containsExactly(entry("citi", 1), entry("msg", 1));
+        assertThat(aud.categories()).containsExactly(entry("GA Lawn", 1));
+        assertThat(status("/recommendations/facets?minPrice=-1")).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    private HttpStatus status(String path) {
+        return HttpStatus.valueOf(restTemplate.getForEntity(baseUrl + path, String.class).getStatusCode().value());
+    }
+
+    private static Venue venue(String id, SeatRecommendation... recommendations) {
+        return new Venue(id, "Venue " + id, new ArrayList<>(List.of(recommendations)));
+    }
+
+    private static SeatRecommendation recommendation(String section, String price) {
+        return new SeatRecommendation(section, "Category", "Reason", price, "Tip");
+    }
+}
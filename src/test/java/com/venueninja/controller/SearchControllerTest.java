@@ -0,0 +1,98 @@
+package com.venueninja.controller;
+
+import com.venueninja.model.SeatRecommendation;
+import com.venueninja.model.Venue;
+import com.venueninja.repository.VenueRepository;
+import com.venueninja.search.SearchHit;
+import com.venueninja.search.VenueSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@DisplayName("SearchController API Tests")
+class SearchControllerTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private VenueRepository venueRepository;
+
+    @Autowired
+    private VenueSearchIndex searchIndex;
+
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() {
+        baseUrl = "http://localhost:" + port;
+        venueRepository.deleteAll();
+        venueRepository.saveAll(List.of(
+                new Venue("msg", "Madison Square Garden", new ArrayList<>(List.of(
+                        new SeatRecommendation("200", "Upper Bowl", "Budget friendly views", "$75", "Bring binoculars"),
+                        new SeatRecommendation("104", "Lower Bowl", "Close to the action", "$250", "Aisle seats")))),
+                new Venue("citi", "Citi Field", new ArrayList<>(List.of(
+                        new SeatRecommendation("Bleachers", "Outfield", "Cheap seats with a view", "$40", "Arrive early"))))));
+        searchIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("GET /search should return ranked matches from names and recommendation text")
+    void search_ShouldReturnRankedMatches() {
+        // Act
+        ResponseEntity<SearchHit[]> response = restTemplate.getForEntity(
+                baseUrl + "/search?q=budget views binoculars", SearchHit[].class);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotEmpty();
+        assertThat(response.getBody()[0].venueId()).isEqualTo("msg");
+        assertThat(response.getBody()[0].section()).isEqualTo("200");
+    }
+
+    @Test
+    @DisplayName("GET /search should pick up committed changes without a rebuild")
+    void search_AfterCatalogChange_ShouldReflectUpdate() {
+        // Arrange
+        Venue citi = venueRepository.findWithRecommendationsById("citi").orElseThrow();
+        citi.getRecommendations().get(0).setTip("Try the famous burgers");
+
+        // Act
+        venueRepository.save(citi);
+
+        // Assert
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(restTemplate.getForEntity(baseUrl + "/search?q=burgers", SearchHit[].class).getBody())
+                        .extracting(SearchHit::venueId).containsExactly("citi"));
+        assertThat(restTemplate.getForEntity(baseUrl + "/search?q=early", SearchHit[].class).getBody()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("GET /search with a blank query should return 400")
+    void search_BlankQuery_ShouldReturnBadRequest() {
+        // Act
+        ResponseEntity<String> response = restTemplate.getForEntity(baseUrl + "/search?q= ", String.class);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+}
@@ -1,8 +1,21 @@
 package com.venueninja.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.venueninja.model.ImportResult;
 import com.venueninja.model.Venue;
 import com.venueninja.model.SeatRecommendation;
+import com.venueninja.model.VenueLookup;
+import com.venueninja.model.VenueLookupRequest;
+import com.venueninja.model.VenueSuggestion;
+import com.venueninja.model.VenueView;
+import com.venueninja.querycount.SqlStatements;
+import com.venueninja.querycount.SqlStatementsConfig;
 import com.venueninja.repository.VenueRepository;
+import com.venueninja.service.CatalogChangeFeed;
+import com.venueninja.testdata.TestDataBuilder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,20 +23,48 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.awaitility.Awaitility.await;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @ActiveProfiles("test")
+@Import(SqlStatementsConfig.class)
 @DisplayName("VenueController API Tests")
 class VenueControllerTest {
 
+    // spring.security.user.* in application.properties and application-test.properties
+    private static final String ADMIN_USER = "admin";
+    private static final String ADMIN_PASSWORD = "test-admin";
+
     @LocalServerPort
     private int port;
 
@@ -33,6 +74,18 @@ class VenueControllerTest {
     @Autowired
     private VenueRepository venueRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ThreadPoolTaskScheduler taskScheduler;
+
+    @Autowired
+    private CatalogChangeFeed changeFeed;
+
+    @Autowired
+    private CacheManager cacheManager;
+
     private String baseUrl;
     private Venue madisonSquareGarden;
     private Venue yankeeStadium;
@@ -290,4 +343,516 @@ class VenueControllerTest {
         // Assert
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("Pre-rendered responses should reflect venue updates")
+    void prerenderedResponses_ShouldReflectVenueUpdates() {
+        // Arrange
+        venueRepository.save(madisonSquareGarden);
+        restTemplate.getForEntity(baseUrl + "/venues", Venue[].class);
+        restTemplate.getForEntity(baseUrl + "/venues/msg", Venue.class);
+
+        Venue renamed = venueRepository.findById("msg").orElseThrow();
+        renamed.setName("The Garden");
+        venueRepository.save(renamed);
+
+        // Act
+        ResponseEntity<Venue[]> listResponse = restTemplate.getForEntity(baseUrl + "/venues", Venue[].class);
+        ResponseEntity<Venue> venueResponse = restTemplate.getForEntity(baseUrl + "/venues/msg", Venue.class);
+
+        // Assert
+        assertThat(listResponse.getBody()).extracting("name").containsExactly("The Garden");
+        assertThat(venueResponse.getBody()).isNotNull();
+        Venue venue = venueResponse.getBody();
+        if (venue != null) {
+            assertThat(venue.getName()).isEqualTo("The Garden");
+        }
+    }
+
+    @Test
+    @DisplayName("GET /venues should return 304 when If-None-Match matches the ETag")
+    void getAllVenues_WithMatchingETag_ShouldReturnNotModified() {
+        // Arrange
+        venueRepository.save(madisonSquareGarden);
+        ResponseEntity<String> first = restTemplate.getForEntity(baseUrl + "/venues", String.class);
+        String etag = first.getHeaders().getETag();
+        awaitBackgroundIndexing();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        ResponseEntity<String> revalidated = getWithIfNoneMatch("/venues", etag);
+
+        // Assert
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(etag).isNotBlank().startsWith("\"");
+        assertThat(first.getHeaders().getCacheControl()).isEqualTo("no-cache");
+        assertThat(revalidated.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(revalidated.getBody()).isNull();
+        assertThat(revalidated.getHeaders().getETag()).isEqualTo(etag);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("GET /venues/{id} should return 304 when If-None-Match matches the ETag")
+    void getVenueById_WithMatchingETag_ShouldReturnNotModified() {
+        // Arrange
+        venueRepository.save(madisonSquareGarden);
+        ResponseEntity<String> first = restTemplate.getForEntity(baseUrl + "/venues/msg", String.class);
+        String etag = first.getHeaders().getETag();
+
+        // Act
+        ResponseEntity<String> revalidated = getWithIfNoneMatch("/venues/msg", etag);
+        ResponseEntity<String> otherVenue = getWithIfNoneMatch("/venues/yankee", etag);
+
+        // Assert
+        assertThat(revalidated.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(otherVenue.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    @Test
+    @DisplayName("Revalidation should be answered before any repository access, even after the cache expired")
+    void getVenues_WithMatchingETag_ShouldNotTouchRepository() {
+        // Arrange
+        venueRepository.save(madisonSquareGarden);
+        String venueEtag = restTemplate.getForEntity(baseUrl + "/venues/msg", String.class).getHeaders().getETag();
+        String pageEtag = restTemplate.getForEntity(baseUrl + "/venues?limit=5", String.class).getHeaders().getETag();
+        awaitBackgroundIndexing();
+        // Entries expiring on their own do not advance the catalog generation
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        ResponseEntity<String> venue = getWithIfNoneMatch("/venues/msg", venueEtag);
+        ResponseEntity<String> page = getWithIfNoneMatch("/venues?limit=5", "W/" + pageEtag);
+        ResponseEntity<String> otherPage = getWithIfNoneMatch("/venues?limit=5&fields=id,name", pageEtag);
+
+        // Assert
+        assertThat(venue.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(venue.getHeaders().getETag()).isEqualTo(venueEtag);
+        assertThat(venue.getHeaders().getCacheControl()).isEqualTo("no-cache");
+        assertThat(page.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(page.getHeaders().getETag()).isEqualTo(pageEtag);
+        assertThat(otherPage.getStatusCode()).isEqualTo(HttpStatus.OK);
+        // Only the page that was not revalidated was loaded
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("ETag should change and a full response be sent after the venue changes")
+    void getVenueById_WithStaleETag_ShouldReturnFullResponse() {
+        // Arrange
+        venueRepository.save(madisonSquareGarden);
+        String staleEtag = restTemplate.getForEntity(baseUrl + "/venues/msg", String.class).getHeaders().getETag();
+        String staleListEtag = restTemplate.getForEntity(baseUrl + "/venues", String.class).getHeaders().getETag();
+
+        Venue renamed = venueRepository.findById("msg").orElseThrow();
+        renamed.setName("The Garden");
+        venueRepository.save(renamed);
+
+        // Act
+        ResponseEntity<String> venueResponse = getWithIfNoneMatch("/venues/msg", staleEtag);
+        ResponseEntity<String> listResponse = getWithIfNoneMatch("/venues", staleListEtag);
+
+        // Assert
+        assertThat(venueResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(venueResponse.getHeaders().getETag()).isNotEqualTo(staleEtag);
+        assertThat(venueResponse.getBody()).contains("The Garden");
+        assertThat(listResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(listResponse.getHeaders().getETag()).isNotEqualTo(staleListEtag);
+    }
+
+    private ResponseEntity<String> getWithIfNoneMatch(String path, String etag) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(etag);
+        return restTemplate.exchange(baseUrl + path, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+    }
+
+    @Test
+    @DisplayName("GET /venues should page with limit and follow the next cursor")
+    void getAllVenues_WithLimit_ShouldPageThroughVenues() {
+        // Arrange
+        Venue barclays = new Venue("barclays", "Barclays Center", Arrays.asList());
+        venueRepository.saveAll(Arrays.asList(madisonSquareGarden, yankeeStadium, barclays));
+
+        // Act
+        ResponseEntity<Venue[]> firstPage = restTemplate.getForEntity(baseUrl + "/venues?limit=2", Venue[].class);
+        String nextLink = nextLink(firstPage);
+        ResponseEntity<Venue[]> secondPage = restTemplate.getForEntity(nextLink, Venue[].class);
+
+        // Assert
+        assertThat(firstPage.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(firstPage.getBody()).extracting("id").containsExactly("barclays", "msg");
+        assertThat(nextLink).contains("limit=2").contains("cursor=");
+        assertThat(secondPage.getBody()).extracting("id").containsExactly("yankee");
+        assertThat(secondPage.getHeaders().get(HttpHeaders.LINK)).isNull();
+    }
+
+    @Test
+    @DisplayName("GET /venues should clamp limits above the server maximum")
+    void getAllVenues_WithOversizedLimit_ShouldClampToMaximum() {
+        // Arrange
+        venueRepository.saveAll(Arrays.asList(madisonSquareGarden, yankeeStadium));
+
+        // Act
+        ResponseEntity<Venue[]> response = restTemplate.getForEntity(baseUrl + "/venues?limit=100000", Venue[].class);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("GET /venues should reject non-positive limits and tampered cursors")
+    void getAllVenues_WithInvalidPaginationParameters_ShouldReturn400() {
+        // Act
+        ResponseEntity<String> zeroLimit = restTemplate.getForEntity(baseUrl + "/venues?limit=0", String.class);
+        ResponseEntity<String> badCursor = restTemplate.getForEntity(baseUrl + "/venues?cursor=not-a-cursor", String.class);
+
+        // Assert
+        assertThat(zeroLimit.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(badCursor.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(badCursor.getBody()).contains("Invalid pagination cursor");
+    }
+
+    @Test
+    @DisplayName("GET /venues/export should stream one JSON venue per line")
+    void exportVenues_ShouldStreamNdjson() throws Exception {
+        // Arrange
+        venueRepository.saveAll(Arrays.asList(yankeeStadium, madisonSquareGarden));
+
+        // Act
+        ResponseEntity<String> response = restTemplate.getForEntity(baseUrl + "/venues/export", String.class);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType().toString()).startsWith("application/x-ndjson");
+        String[] lines = response.getBody().split("\n");
+        assertThat(lines).hasSize(2);
+        ObjectMapper objectMapper = new ObjectMapper();
+        Venue first = objectMapper.readValue(lines[0], Venue.class);
+        Venue second = objectMapper.readValue(lines[1], Venue.class);
+        assertThat(first.getId()).isEqualTo("msg");
+        assertThat(first.getRecommendations()).extracting("section").containsExactly("104", "200");
+        assertThat(second.getId()).isEqualTo("yankee");
+        assertThat(second.getRecommendations()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("GET /venues/suggest should return venues matching the typed prefix")
+    void suggestVenues_ShouldMatchPrefixAfterChanges() {
+        // Arrange
+        venueRepository.saveAll(Arrays.asList(yankeeStadium, madisonSquareGarden));
+
+        // Act & Assert: the index is rebuilt in the background after the commit
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(restTemplate.getForEntity(baseUrl + "/venues/suggest?prefix=stad", VenueSuggestion[].class)
+                        .getBody()).containsExactly(new VenueSuggestion("yankee", "Yankee Stadium")));
+        ResponseEntity<VenueSuggestion[]> byName = restTemplate.getForEntity(
+                baseUrl + "/venues/suggest?prefix=Madi", VenueSuggestion[].class);
+        assertThat(byName.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(byName.getBody()).extracting(VenueSuggestion::id).containsExactly("msg");
+        assertThat(restTemplate.getForEntity(baseUrl + "/venues/suggest?prefix= ", String.class).getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    @DisplayName("GET /venues?ids= should return venues in request order with one query and list missing ids")
+    void getVenuesByIds_ShouldBatchAndReportMissing() {
+        // Arrange
+        venueRepository.saveAll(Arrays.asList(yankeeStadium, madisonSquareGarden));
+        SqlStatements.clearRequests();
+
+        // Act
+        ResponseEntity<VenueLookup> response = restTemplate.getForEntity(
+                baseUrl + "/venues?ids=yankee,nope,msg", VenueLookup.class);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().venues()).extracting(VenueView::id).containsExactly("yankee", "msg");
+        assertThat(response.getBody().venues().get(1).recommendations()).hasSize(2);
+        assertThat(response.getBody().missingIds()).containsExactly("nope");
+        assertThat(SqlStatements.forRequest("GET /venues?ids=yankee,nope,msg").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Venue reads should stay within their SQL budgets however many venues there are")
+    void venueReads_ShouldStayWithinQueryBudgets() {
+        // Arrange
+        venueRepository.saveAll(TestDataBuilder.createGeneratedVenues(60, 5));
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        SqlStatements.clearRequests();
+
+        // Act
+        restTemplate.getForEntity(baseUrl + "/venues", String.class);
+        restTemplate.getForEntity(baseUrl + "/venues?limit=5", String.class);
+        restTemplate.getForEntity(baseUrl + "/venues?fields=id,name", String.class);
+        restTemplate.getForEntity(baseUrl + "/venues/venue-0042", String.class);
+        restTemplate.getForEntity(baseUrl + "/venues?ids=venue-0001,venue-0002,venue-0003", String.class);
+
+        // Assert
+        // Page of ids, then one fetch of those venues with their recommendations
+        SqlStatements.forRequest("GET /venues").assertAtMost(2);
+        SqlStatements.forRequest("GET /venues?limit=5").assertAtMost(2);
+        SqlStatements.forRequest("GET /venues?fields=id,name").assertAtMost(1);
+        SqlStatements.forRequest("GET /venues/venue-0042").assertAtMost(1);
+        SqlStatements.forRequest("GET /venues?ids=venue-0001,venue-0002,venue-0003").assertAtMost(1);
+    }
+
+    @Test
+    @DisplayName("POST /venues/lookup should resolve ids from the request body")
+    void lookupVenues_ShouldResolveIdsFromBody() {
+        // Arrange
+        venueRepository.saveAll(Arrays.asList(yankeeStadium, madisonSquareGarden));
+
+        // Act
+        ResponseEntity<VenueLookup> response = restTemplate.postForEntity(baseUrl + "/venues/lookup",
+                new VenueLookupRequest(List.of("msg", "yankee")), VenueLookup.class);
+        ResponseEntity<String> empty = restTemplate.postForEntity(baseUrl + "/venues/lookup",
+                new VenueLookupRequest(List.of()), String.class);
+        ResponseEntity<String> tooMany = restTemplate.getForEntity(baseUrl + "/venues?ids="
+                + String.join(",", Collections.nCopies(101, "msg")), String.class);
+
+        // Assert
+        assertThat(response.getBody().venues()).extracting(VenueView::id).containsExactly("msg", "yankee");
+        assertThat(response.getBody().missingIds()).isEmpty();
+        assertThat(empty.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(tooMany.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    @DisplayName("POST /venues/import should load CSV and JSON uploads and report throughput")
+    void importVenues_ShouldLoadCsvAndJson() {
+        // Arrange
+        HttpHeaders csv = new HttpHeaders();
+        csv.setContentType(MediaType.parseMediaType("text/csv"));
+        HttpHeaders json = new HttpHeaders();
+        json.setContentType(MediaType.APPLICATION_JSON);
+        String csvBody = "venue_id,venue_name,section,category,reason,estimated_price,tip\n"
+                + "msg,Madison Square Garden,104,Lower Bowl,\"Best view, close to stage\",$250,Arrive early\n";
+        String jsonBody = "[{\"id\": \"yankee\", \"name\": \"Yankee Stadium\", \"recommendations\": []}]";
+
+        TestRestTemplate admin = restTemplate.withBasicAuth(ADMIN_USER, ADMIN_PASSWORD);
+
+        // Act
+        ResponseEntity<ImportResult> csvImport = admin.postForEntity(baseUrl + "/venues/import",
+                new HttpEntity<>(csvBody, csv), ImportResult.class);
+        ResponseEntity<ImportResult> jsonImport = admin.postForEntity(baseUrl + "/venues/import",
+                new HttpEntity<>(jsonBody, json), ImportResult.class);
+        ResponseEntity<String> badHeader = admin.postForEntity(baseUrl + "/venues/import",
+                new HttpEntity<>("id,name\nmsg,MSG\n", csv), String.class);
+        ResponseEntity<String> hugePrice = admin.postForEntity(baseUrl + "/venues/import",
+                new HttpEntity<>(csvBody.replace("$250", "$99999999999999999999"), csv), String.class);
+        ResponseEntity<Venue> imported = restTemplate.getForEntity(baseUrl + "/venues/msg", Venue.class);
+
+        // Assert
+        assertThat(csvImport.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(csvImport.getBody().venues()).isEqualTo(1);
+        assertThat(csvImport.getBody().recommendations()).isEqualTo(1);
+        assertThat(jsonImport.getBody().venues()).isEqualTo(1);
+        assertThat(badHeader.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(hugePrice.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(imported.getBody().getRecommendations()).extracting(SeatRecommendation::getReason)
+                .containsExactly("Best view, close to stage");
+        assertThat(venueRepository.existsById("yankee")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Imports and actuator write operations should require admin credentials")
+    void writeEndpoints_WithoutAdminCredentials_ShouldBeRejected() {
+        // Arrange
+        HttpHeaders json = new HttpHeaders();
+        json.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<String> importBody = new HttpEntity<>("[{\"id\": \"yankee\", \"name\": \"Yankee Stadium\"}]", json);
+
+        // Act
+        ResponseEntity<String> anonymousImport = restTemplate.postForEntity(baseUrl + "/venues/import",
+                importBody, String.class);
+        ResponseEntity<String> wrongPasswordImport = restTemplate.withBasicAuth(ADMIN_USER, "wrong")
+                .postForEntity(baseUrl + "/venues/import", importBody, String.class);
+        ResponseEntity<String> snapshotRebuild = restTemplate.postForEntity(baseUrl + "/actuator/catalogsnapshot",
+                null, String.class);
+        ResponseEntity<String> hibernateCacheEvict = restTemplate.postForEntity(
+                baseUrl + "/actuator/hibernatecache", null, String.class);
+        ResponseEntity<String> anonymousCacheClear = restTemplate.exchange(baseUrl + "/actuator/caches",
+                HttpMethod.DELETE, null, String.class);
+        ResponseEntity<String> cacheList = restTemplate.getForEntity(baseUrl + "/actuator/caches", String.class);
+        ResponseEntity<String> adminCacheClear = restTemplate.withBasicAuth(ADMIN_USER, ADMIN_PASSWORD)
+                .exchange(baseUrl + "/actuator/caches", HttpMethod.DELETE, null, String.class);
+
+        // Assert
+        assertThat(anonymousImport.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(wrongPasswordImport.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(snapshotRebuild.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(hibernateCacheEvict.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(anonymousCacheClear.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(cacheList.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(adminCacheClear.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        assertThat(venueRepository.existsById("yankee")).isFalse();
+    }
+
+    @Test
+    @DisplayName("GET /venues?fields=id,name should return summaries without loading recommendations")
+    void getAllVenues_WithSummaryFields_ShouldSkipRecommendations() {
+        // Arrange
+        venueRepository.saveAll(Arrays.asList(yankeeStadium, madisonSquareGarden));
+        awaitBackgroundIndexing();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        ResponseEntity<String> firstPage = restTemplate.getForEntity(baseUrl + "/venues?fields=id,name&limit=1",
+                String.class);
+        ResponseEntity<String> secondPage = restTemplate.getForEntity(nextLink(firstPage), String.class);
+
+        // Assert
+        assertThat(firstPage.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(firstPage.getBody()).isEqualTo("[{\"id\":\"msg\",\"name\":\"Madison Square Garden\"}]");
+        assertThat(nextLink(firstPage)).contains("fields=id,name");
+        assertThat(secondPage.getBody()).isEqualTo("[{\"id\":\"yankee\",\"name\":\"Yankee Stadium\"}]");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("GET /venues should reject unknown fields and subsets it cannot honor, and keep recommendations "
+            + "when requested")
+    void getAllVenues_WithFields_ShouldValidateAndHonorRecommendations() {
+        // Arrange
+        venueRepository.save(madisonSquareGarden);
+
+        // Act
+        ResponseEntity<String> unknown = restTemplate.getForEntity(baseUrl + "/venues?fields=id,price", String.class);
+        ResponseEntity<String> idOnly = restTemplate.getForEntity(baseUrl + "/venues?fields=id", String.class);
+        ResponseEntity<String> withoutName = restTemplate.getForEntity(
+                baseUrl + "/venues?fields=id,recommendations", String.class);
+        ResponseEntity<String> reordered = restTemplate.getForEntity(baseUrl + "/venues?fields=name,id", String.class);
+        ResponseEntity<Venue[]> full = restTemplate.getForEntity(
+                baseUrl + "/venues?fields=id,name,recommendations", Venue[].class);
+
+        // Assert
+        assertThat(unknown.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(unknown.getBody()).contains("Unknown field: price");
+        assertThat(idOnly.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(idOnly.getBody()).contains("Unsupported fields: id");
+        assertThat(withoutName.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(reordered.getBody()).isEqualTo("[{\"id\":\"msg\",\"name\":\"Madison Square Garden\"}]");
+        assertThat(full.getBody()[0].getRecommendations()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("GET /venues should serve a cached gzip variant when the client accepts it")
+    void getAllVenues_WithAcceptEncodingGzip_ShouldCompress() throws Exception {
+        // Arrange
+        List<Venue> venues = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            venues.add(new Venue("venue-" + i, "Venue " + i, new ArrayList<>(List.of(
+                    new SeatRecommendation("101", "Lower Bowl", "Close to the action", "$120", "Arrive early")))));
+        }
+        venueRepository.saveAll(venues);
+        HttpHeaders gzip = new HttpHeaders();
+        gzip.set(HttpHeaders.ACCEPT_ENCODING, "gzip");
+
+        // Act
+        ResponseEntity<byte[]> compressed = restTemplate.exchange(baseUrl + "/venues", HttpMethod.GET,
+                new HttpEntity<>(gzip), byte[].class);
+        ResponseEntity<byte[]> identity = restTemplate.getForEntity(baseUrl + "/venues", byte[].class);
+        gzip.setIfNoneMatch(compressed.getHeaders().getETag());
+        ResponseEntity<byte[]> revalidated = restTemplate.exchange(baseUrl + "/venues", HttpMethod.GET,
+                new HttpEntity<>(gzip), byte[].class);
+
+        // Assert
+        assertThat(compressed.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(compressed.getHeaders().getVary()).contains(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(identity.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(identity.getHeaders().getVary()).contains(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(compressed.getBody().length).isLessThan(identity.getBody().length / 4);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed.getBody()))) {
+            assertThat(in.readAllBytes()).isEqualTo(identity.getBody());
+        }
+        assertThat(revalidated.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    @DisplayName("GET /venues/stream should push committed changes and resume from Last-Event-ID")
+    void streamChanges_ShouldPushAndResume() {
+        // Arrange
+        HttpClient client = HttpClient.newHttpClient();
+        long before = changeFeed.currentVersion();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            // Act
+            HttpResponse<Stream<String>> stream = client.send(
+                    HttpRequest.newBuilder(URI.create(baseUrl + "/venues/stream")).build(),
+                    HttpResponse.BodyHandlers.ofLines());
+            Iterator<String> lines = stream.body().iterator();
+            List<String> greeting = nextEvent(lines);
+            venueRepository.save(new Venue("stream-test", "Stream Test Arena", new ArrayList<>()));
+            List<String> change = nextEvent(lines);
+            stream.body().close();
+
+            HttpResponse<Stream<String>> resumed = client.send(
+                    HttpRequest.newBuilder(URI.create(baseUrl + "/venues/stream"))
+                            .header("Last-Event-ID", changeFeed.eventId(before)).build(),
+                    HttpResponse.BodyHandlers.ofLines());
+            List<String> replayed = nextEvent(resumed.body().iterator());
+            resumed.body().close();
+            HttpResponse<Stream<String>> unknown = client.send(
+                    HttpRequest.newBuilder(URI.create(baseUrl + "/venues/stream"))
+                            .header("Last-Event-ID", Long.toString(before)).build(),
+                    HttpResponse.BodyHandlers.ofLines());
+            List<String> reset = nextEvent(unknown.body().iterator());
+            unknown.body().close();
+
+            // Assert
+            assertThat(stream.headers().firstValue(HttpHeaders.CONTENT_TYPE)).hasValueSatisfying(
+                    contentType -> assertThat(contentType).startsWith(MediaType.TEXT_EVENT_STREAM_VALUE));
+            assertThat(greeting).containsExactly("id:" + changeFeed.eventId(before), "event:catalog-version",
+                    "data:{\"version\":" + before + "}");
+            assertThat(change).containsExactly("id:" + changeFeed.eventId(before + 1), "event:catalog-change",
+                    "data:{\"version\":" + (before + 1) + ",\"venueIds\":[\"stream-test\"],\"fullRefresh\":false}");
+            assertThat(replayed).isEqualTo(change);
+            // An id without this process's epoch, e.g. from before a restart, gets a reset instead of a replay
+            assertThat(reset).containsExactly("id:" + changeFeed.eventId(before + 1), "event:catalog-reset",
+                    "data:{\"version\":" + (before + 1) + "}");
+        });
+    }
+
+    // Lines of the next event, skipping comment-only heartbeats
+    private static List<String> nextEvent(Iterator<String> lines) {
+        List<String> event = new ArrayList<>();
+        while (lines.hasNext()) {
+            String line = lines.next();
+            if (line.isEmpty()) {
+                if (!event.isEmpty()) {
+                    return event;
+                }
+            } else if (!line.startsWith(":")) {
+                event.add(line);
+            }
+        }
+        return event;
+    }
+
+    private static HttpHeaders headers(String name, String value) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(name, value);
+        return headers;
+    }
+
+    // Committed writes trigger index rebuilds on the task scheduler; let them finish before counting SQL
+    private void awaitBackgroundIndexing() {
+        ScheduledThreadPoolExecutor executor = taskScheduler.getScheduledThreadPoolExecutor();
+        // Periodic @Scheduled jobs stay queued, so only tasks that are already due count
+        await().atMost(Duration.ofSeconds(5)).until(() -> executor.getActiveCount() == 0
+                && executor.getQueue().stream().allMatch(task -> ((Delayed) task).getDelay(TimeUnit.MILLISECONDS) > 0));
+    }
+
+    private String nextLink(ResponseEntity<?> response) {
+        String link = response.getHeaders().getFirst(HttpHeaders.LINK);
+        assertThat(link).isNotNull().endsWith("; rel=\"next\"");
+        return link.substring(1, link.indexOf('>'));
+    }
+}
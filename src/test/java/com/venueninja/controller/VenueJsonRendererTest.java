@@ -0,0 +1,83 @@
+package com.venueninja.controller;
+
+import com.venueninja.config.CompressionProperties;
+import com.venueninja.model.SeatRecommendation;
+import com.venueninja.model.Venue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("VenueJsonRenderer Tests")
+class VenueJsonRendererTest {
+
+    private CompressionProperties compression;
+    private VenueJsonRenderer renderer;
+    private List<Venue> catalog;
+
+    @BeforeEach
+    void setUp() {
+        compression = new CompressionProperties();
+        renderer = new VenueJsonRenderer(Jackson2ObjectMapperBuilder.json().build(), compression);
+        catalog = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            catalog.add(new Venue("venue-" + i, "Venue " + i, new ArrayList<>(List.of(
+                    new SeatRecommendation("101", "Lower Bowl", "Close to the action", "$120", "Arrive early")))));
+        }
+    }
+
+    @Test
+    @DisplayName("Gzip variant should decompress to the identity body and be reused")
+    void negotiate_WithGzip_ShouldServeCachedVariant() throws Exception {
+        // Arrange
+        VenueJsonRenderer.RenderedJson json = renderer.render(catalog);
+
+        // Act
+        VenueJsonRenderer.Representation first = renderer.negotiate(json, "gzip, deflate, br");
+        VenueJsonRenderer.Representation second = renderer.negotiate(json, "gzip");
+
+        // Assert
+        assertThat(first.contentEncoding()).isEqualTo("gzip");
+        assertThat(first.body()).isSameAs(second.body());
+        assertThat(first.body().length).isLessThan(json.body().length / 4);
+        assertThat(first.etag()).isNotEqualTo(json.etag()).endsWith("-gzip\"");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(first.body()))) {
+            assertThat(in.readAllBytes()).isEqualTo(json.body());
+        }
+    }
+
+    @Test
+    @DisplayName("Identity body should be served when gzip is refused, disabled or not worth it")
+    void negotiate_WithoutGzip_ShouldServeIdentity() {
+        // Arrange
+        VenueJsonRenderer.RenderedJson json = renderer.render(catalog);
+        VenueJsonRenderer.RenderedJson small = renderer.render(catalog.get(0));
+
+        // Act & Assert
+        assertThat(renderer.negotiate(json, null).contentEncoding()).isNull();
+        assertThat(renderer.negotiate(json, "gzip;q=0, *").contentEncoding()).isNull();
+        assertThat(renderer.negotiate(json, "identity").body()).isSameAs(json.body());
+        assertThat(renderer.negotiate(small, "gzip").contentEncoding()).isNull();
+        assertThat(renderer.isCompressible(small)).isFalse();
+        compression.setEnabled(false);
+        assertThat(renderer.negotiate(json, "gzip").contentEncoding()).isNull();
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding parsing should honour quality values and wildcards")
+    void acceptsGzip_ShouldParseHeader() {
+        assertThat(VenueJsonRenderer.acceptsGzip("gzip")).isTrue();
+        assertThat(VenueJsonRenderer.acceptsGzip("deflate, GZIP;q=0.5")).isTrue();
+        assertThat(VenueJsonRenderer.acceptsGzip("*")).isTrue();
+        assertThat(VenueJsonRenderer.acceptsGzip("br, gzip;q=0")).isFalse();
+        assertThat(VenueJsonRenderer.acceptsGzip("*;q=0")).isFalse();
+        assertThat(VenueJsonRenderer.acceptsGzip("")).isFalse();
+    }
+}
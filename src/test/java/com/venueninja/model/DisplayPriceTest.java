@@ -0,0 +1,55 @@
+package com.venueninja.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DisplayPrice Tests")
+class DisplayPriceTest {
+
+    @Test
+    @DisplayName("Parse should read symbols, thousands separators and cents")
+    void parse_ShouldReadSymbolsSeparatorsAndCents() {
+        // Act & Assert
+        assertThat(DisplayPrice.parse("A$1,200.50")).contains(new DisplayPrice(120050, "AUD"));
+        assertThat(DisplayPrice.parse("US$99.9")).contains(new DisplayPrice(9990, "USD"));
+        assertThat(DisplayPrice.parse("£40")).contains(new DisplayPrice(4000, "GBP"));
+        assertThat(DisplayPrice.parse(" €1,000 ")).contains(new DisplayPrice(100000, "EUR"));
+        assertThat(DisplayPrice.parse("$100-$200")).contains(new DisplayPrice(10000, null));
+    }
+
+    @Test
+    @DisplayName("A bare dollar sign should leave the currency to the fallback")
+    void bareDollar_ShouldUseFallbackCurrency() {
+        // Act
+        DisplayPrice price = DisplayPrice.parse("$50").orElseThrow();
+
+        // Assert
+        assertThat(price.minor()).isEqualTo(5000);
+        assertThat(price.currencyOr("AUD")).isEqualTo("AUD");
+        assertThat(DisplayPrice.parse("A$50").orElseThrow().currencyOr("USD")).isEqualTo("AUD");
+    }
+
+    @Test
+    @DisplayName("Parse should reject prices without a leading amount")
+    void parse_ShouldRejectUnpricedText() {
+        // Act & Assert
+        assertThat(DisplayPrice.parse("Contact box office")).isEmpty();
+        assertThat(DisplayPrice.parse("")).isEmpty();
+        assertThat(DisplayPrice.parse(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Parse should reject amounts too large for minor units instead of overflowing")
+    void parse_ShouldRejectOverflowingAmounts() {
+        // Act & Assert
+        assertThat(DisplayPrice.parse("$92,233,720,368,547,758.07")).contains(new DisplayPrice(Long.MAX_VALUE, null));
+        assertThatThrownBy(() -> DisplayPrice.parse("$92,233,720,368,547,758.08"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("too large");
+        assertThatThrownBy(() -> DisplayPrice.parse("$99999999999999999999"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,133 @@
+package com.venueninja.performance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.venueninja.model.ImportResult;
+import com.venueninja.model.SeatRecommendation;
+import com.venueninja.model.Venue;
+import com.venueninja.repository.VenueRepository;
+import com.venueninja.service.VenueImportService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Statements and throughput of loading a catalog through the bulk import versus saving venues
+ * one by one through the repository, which is what callers had before the import existed.
+ * Statement counts are checked by default; the throughput comparison runs with the slo profile.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:bulk-import;DB_CLOSE_DELAY=-1",
+    "spring.cache.type=none",
+    "spring.jpa.show-sql=false",
+    "logging.level.org.hibernate.SQL=WARN"
+})
+@ActiveProfiles("test")
+@DisplayName("Bulk Import Performance Tests")
+class BulkImportPerformanceTest {
+
+    private static final int VENUES = 1_000;
+    private static final int RECOMMENDATIONS_PER_VENUE = 10;
+    private static final int ROWS = VENUES * (1 + RECOMMENDATIONS_PER_VENUE);
+
+    @Autowired
+    private VenueImportService importService;
+
+    @Autowired
+    private VenueRepository venueRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        clearCatalog();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Bulk import should use a fraction of the statements of per-venue saves")
+    void bulkImport_ShouldUseFewerStatementsThanPerVenueSaves() throws Exception {
+        // Arrange
+        byte[] json = objectMapper.writeValueAsBytes(catalog("import"));
+        List<Venue> oneByOne = catalog("save");
+
+        // Act
+        statistics.clear();
+        oneByOne.forEach(venueRepository::save);
+        long saveStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        ImportResult result = importService.importJson(new ByteArrayInputStream(json));
+        long importStatements = statistics.getPrepareStatementCount();
+
+        // Assert
+        assertThat(result.venues()).isEqualTo(VENUES);
+        assertThat(result.recommendations()).isEqualTo((long) VENUES * RECOMMENDATIONS_PER_VENUE);
+        assertThat(importStatements).isLessThan(saveStatements / 10);
+    }
+
+    @Test
+    @Tag("slo")
+    @DisplayName("Bulk import should load rows faster than per-venue saves")
+    void bulkImport_ShouldOutpacePerVenueSaves() throws Exception {
+        // Arrange
+        byte[] json = objectMapper.writeValueAsBytes(catalog("import"));
+        List<Venue> oneByOne = catalog("save");
+        // Warm both paths up on a small catalog first
+        importService.importJson(new ByteArrayInputStream(objectMapper.writeValueAsBytes(catalog("warm").subList(0, 50))));
+        catalog("warm-save").subList(0, 50).forEach(venueRepository::save);
+        clearCatalog();
+
+        // Act
+        long started = System.nanoTime();
+        oneByOne.forEach(venueRepository::save);
+        long saveNanos = System.nanoTime() - started;
+
+        ImportResult result = importService.importJson(new ByteArrayInputStream(json));
+
+        // Assert
+        double saveRowsPerSecond = ROWS * 1e9 / saveNanos;
+        assertThat(result.rowsPerSecond()).isGreaterThan(saveRowsPerSecond);
+    }
+
+    private void clearCatalog() {
+        jdbcTemplate.update("delete from seat_recommendation");
+        jdbcTemplate.update("delete from venue");
+    }
+
+    private static List<Venue> catalog(String prefix) {
+        List<Venue> venues = new ArrayList<>();
+        for (int i = 0; i < VENUES; i++) {
+            List<SeatRecommendation> recommendations = new ArrayList<>();
+            for (int j = 0; j < RECOMMENDATIONS_PER_VENUE; j++) {
+                recommendations.add(new SeatRecommendation("Section " + j, "Category " + (j % 5),
+                        "Reason for picking section " + j + " at venue " + i, "$" + (40 + j * 10),
+                        "A practical tip about section " + j));
+            }
+            venues.add(new Venue(String.format("%s-%04d", prefix, i), "Venue " + i, recommendations));
+        }
+        return venues;
+    }
+}
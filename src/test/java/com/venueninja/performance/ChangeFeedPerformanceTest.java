@@ -0,0 +1,140 @@
+package com.venueninja.performance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.venueninja.config.StreamProperties;
+import com.venueninja.event.CatalogChangedEvent;
+import com.venueninja.service.CatalogChangeFeed;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Fan-out of catalog changes to thousands of open streams, a few of which stopped reading.
+ * Subscribers are held as emitters without threads, so only the sender pool does any work.
+ * There are more stalled clients than sender threads, so delivery only completes if stalled
+ * writes are written off and their threads replaced. Delivery is checked by default; the
+ * publish-versus-delivery timing runs with the slo profile.
+ */
+@DisplayName("Change Feed Performance Tests")
+class ChangeFeedPerformanceTest {
+
+    private static final int SUBSCRIBERS = 5_000;
+    private static final int STALLED_SUBSCRIBERS = 8;
+    private static final int CHANGES = 100;
+
+    @Test
+    @DisplayName("Changes should reach thousands of subscribers despite a few stalled ones")
+    void fanOut_ShouldDeliverToThousandsOfSubscribers() {
+        // Arrange
+        FanOut fanOut = new FanOut();
+
+        // Act
+        fanOut.publish();
+        fanOut.awaitDelivery();
+
+        // Assert - the stalled clients were dropped and their threads replaced
+        assertThat(fanOut.feed.subscriberCount()).isEqualTo(SUBSCRIBERS);
+        assertThat(fanOut.meterRegistry.get("venueninja.catalog.stream.dropped").counter().count())
+                .isEqualTo(STALLED_SUBSCRIBERS);
+        fanOut.close();
+    }
+
+    @Test
+    @Tag("slo")
+    @DisplayName("Publishing changes should return before they have been delivered")
+    void publish_ShouldNotWaitForDelivery() {
+        // Arrange
+        FanOut fanOut = new FanOut();
+
+        // Act
+        long started = System.nanoTime();
+        fanOut.publish();
+        long publishNanos = System.nanoTime() - started;
+        fanOut.awaitDelivery();
+        long deliverNanos = System.nanoTime() - started;
+
+        // Assert - publishing only schedules senders
+        assertThat(publishNanos).isLessThan(deliverNanos);
+        fanOut.close();
+    }
+
+    /**
+     * A feed with {@link #STALLED_SUBSCRIBERS} stalled and {@link #SUBSCRIBERS} healthy subscribers.
+     */
+    private static final class FanOut {
+
+        private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        private final CountDownLatch stall = new CountDownLatch(1);
+        private final List<CountingEmitter> healthy = new ArrayList<>();
+        private final CatalogChangeFeed feed;
+
+        FanOut() {
+            StreamProperties properties = new StreamProperties();
+            properties.setSendTimeout(Duration.ofMillis(500));
+            feed = new CatalogChangeFeed(new ObjectMapper(), properties, meterRegistry);
+            for (int i = 0; i < STALLED_SUBSCRIBERS; i++) {
+                feed.subscribe(new CountingEmitter(stall), null);
+            }
+            for (int i = 0; i < SUBSCRIBERS; i++) {
+                CountingEmitter emitter = new CountingEmitter(new CountDownLatch(0));
+                healthy.add(emitter);
+                feed.subscribe(emitter, null);
+            }
+        }
+
+        void publish() {
+            for (int i = 0; i < CHANGES; i++) {
+                feed.onCatalogChanged(new CatalogChangedEvent(Set.of("venue-" + i)));
+            }
+        }
+
+        // Every healthy subscriber gets its initial version frame plus one frame per change
+        void awaitDelivery() {
+            await().atMost(Duration.ofSeconds(30)).until(() -> {
+                feed.disconnectStalledSubscribers();
+                return healthy.stream().allMatch(emitter -> emitter.received.get() == CHANGES + 1);
+            });
+        }
+
+        void close() {
+            stall.countDown();
+            feed.shutdown();
+        }
+    }
+
+    /**
+     * Counts frames; a closed latch makes every write block like a client that stopped reading,
+     * until the write is interrupted.
+     */
+    private static final class CountingEmitter extends SseEmitter {
+
+        private final AtomicInteger received = new AtomicInteger();
+        private final CountDownLatch release;
+
+        CountingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            try {
+                release.await();
+                received.incrementAndGet();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
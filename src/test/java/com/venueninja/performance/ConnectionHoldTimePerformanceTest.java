@@ -0,0 +1,98 @@
+package com.venueninja.performance;
+
+import com.venueninja.VenueNinjaApplication;
+import com.venueninja.performance.load.LoadGenerator;
+import com.venueninja.performance.load.LoadReport;
+import com.venueninja.performance.load.RequestMix;
+import com.venueninja.performance.load.Workload;
+import com.venueninja.repository.VenueRepository;
+import com.venueninja.testdata.TestDataBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pool utilization of the listing endpoint with open-session-in-view on and off. With it on,
+ * the connection taken for the first query stays bound until the response has been rendered
+ * and written; with it off, each repository transaction hands it back on commit. The venue
+ * cache is disabled so every request goes to the pool, and the pool is kept smaller than the
+ * number of users so held connections show up as waiting requests. Every check comes from a
+ * timed load run, so the test only runs with the slo profile.
+ */
+@DisplayName("Connection Hold Time Performance Tests")
+class ConnectionHoldTimePerformanceTest {
+
+    private static final int USERS = Integer.getInteger("loadtest.users", 50);
+    private static final int POOL_SIZE = 10;
+    private static final int VENUES = 200;
+    private static final int RECOMMENDATIONS_PER_VENUE = 10;
+    private static final Duration WARMUP = Duration.ofSeconds(3);
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 10));
+
+    @Test
+    @Tag("slo")
+    @DisplayName("Disabling open-in-view should cut connection hold time per request")
+    void openInViewDisabled_ShouldHoldConnectionsForLessTime() throws Exception {
+        // Act
+        Result openInView = runAgainst(true);
+        Result viewsOnly = runAgainst(false);
+
+        // Assert
+        assertThat(openInView.report().errors()).isZero();
+        assertThat(viewsOnly.report().errors()).isZero();
+        assertThat(viewsOnly.heldMillisPerRequest()).isLessThan(openInView.heldMillisPerRequest());
+    }
+
+    private Result runAgainst(boolean openInView) throws InterruptedException {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(VenueNinjaApplication.class)
+                .profiles("test")
+                .run("--server.port=0",
+                        "--spring.jpa.open-in-view=" + openInView,
+                        "--spring.datasource.url=jdbc:h2:mem:hold-time-" + openInView + ";DB_CLOSE_DELAY=-1",
+                        "--spring.cache.type=none",
+                        "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--logging.level.org.hibernate.SQL=WARN");
+        try {
+            VenueRepository venueRepository = context.getBean(VenueRepository.class);
+            venueRepository.deleteAll();
+            venueRepository.saveAll(TestDataBuilder.createGeneratedVenues(VENUES, RECOMMENDATIONS_PER_VENUE));
+            LoadGenerator generator = new LoadGenerator(
+                    "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort());
+            generator.run(Workload.closedModel(USERS, Duration.ZERO, WARMUP), listingMix());
+
+            // Only the measured run counts; seeding and warm-up also went through the pool
+            Timer usage = context.getBean(MeterRegistry.class).get("hikaricp.connections.usage").timer();
+            long usagesBefore = usage.count();
+            double heldMillisBefore = usage.totalTime(TimeUnit.MILLISECONDS);
+            LoadReport report = generator.run(Workload.closedModel(USERS, Duration.ZERO, DURATION), listingMix());
+            double heldMillis = usage.totalTime(TimeUnit.MILLISECONDS) - heldMillisBefore;
+
+            assertThat(usage.count()).isGreaterThan(usagesBefore);
+            return new Result(report, heldMillis / report.requests());
+        } finally {
+            context.close();
+        }
+    }
+
+    private static RequestMix listingMix() {
+        return RequestMix.builder()
+                .add("page", "/venues?limit=100", HttpStatus.OK.value(), 1)
+                .build();
+    }
+
+    private record Result(LoadReport report, double heldMillisPerRequest) {
+    }
+}
@@ -0,0 +1,107 @@
+package com.venueninja.performance;
+
+import com.venueninja.VenueNinjaApplication;
+import com.venueninja.service.VenueService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Cost of the metrics instrumentation on the hottest path, {@code getVenue} answered from the
+ * venue cache, where the {@code @Timed} aspect is the largest share of the work. The same
+ * application runs with instrumentation on and off and the fastest round of each is compared,
+ * which filters out GC and JIT noise. The instrumented run also checks the Prometheus scrape.
+ */
+@DisplayName("Instrumentation Overhead Tests")
+class InstrumentationOverheadTest {
+
+    // Budget for the timer aspect and Hibernate statistics per service call
+    private static final double BUDGET_MICROS_PER_CALL = 5.0;
+    private static final int CALLS_PER_ROUND = 50_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    @Test
+    @Tag("slo")
+    @DisplayName("Timing getVenue should cost less than the stated budget per call")
+    void instrumentation_ShouldStayWithinOverheadBudget() throws Exception {
+        // Act
+        double bare = fastestMicrosPerCall(false);
+        double instrumented = fastestMicrosPerCall(true);
+
+        // Assert
+        double overhead = instrumented - bare;
+        System.out.printf("getVenue (cached): bare %.3f us, instrumented %.3f us, overhead %.3f us (budget %.1f us)%n",
+                bare, instrumented, overhead, BUDGET_MICROS_PER_CALL);
+        assertThat(overhead).isLessThan(BUDGET_MICROS_PER_CALL);
+    }
+
+    private double fastestMicrosPerCall(boolean instrumented) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(VenueNinjaApplication.class)
+                .profiles("test")
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:instrumentation-" + instrumented + ";DB_CLOSE_DELAY=-1",
+                        "--venueninja.metrics.service-timers=" + instrumented,
+                        "--spring.jpa.properties.hibernate.generate_statistics=" + instrumented,
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.org.hibernate.SQL=WARN");
+        try {
+            VenueService venueService = context.getBean(VenueService.class);
+            double fastest = Double.MAX_VALUE;
+            for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+                long started = System.nanoTime();
+                for (int i = 0; i < CALLS_PER_ROUND; i++) {
+                    venueService.getVenue("msg");
+                }
+                double micros = (System.nanoTime() - started) / 1_000.0 / CALLS_PER_ROUND;
+                if (round >= WARMUP_ROUNDS) {
+                    fastest = Math.min(fastest, micros);
+                }
+            }
+
+            Timer timer = context.getBean(MeterRegistry.class).find("venueninja.venue.service")
+                    .tag("method", "getVenue").timer();
+            if (instrumented) {
+                assertThat(timer).isNotNull();
+                assertThat(timer.count()).isGreaterThanOrEqualTo((long) CALLS_PER_ROUND * MEASURED_ROUNDS);
+                assertScrapeExposesInternals(((WebServerApplicationContext) context).getWebServer().getPort());
+            } else {
+                assertThat(timer).isNull();
+            }
+            return fastest;
+        } finally {
+            context.close();
+        }
+    }
+
+    private static void assertScrapeExposesInternals(int port) throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpResponse<String> venue = client.send(HttpRequest.newBuilder(
+                URI.create("http://localhost:" + port + "/venues/yankee")).build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(venue.statusCode()).isEqualTo(200);
+
+        HttpResponse<String> scrape = client.send(HttpRequest.newBuilder(
+                URI.create("http://localhost:" + port + "/actuator/prometheus")).build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(scrape.statusCode()).isEqualTo(200);
+        assertThat(scrape.body())
+                .contains("venueninja_venue_service_seconds_bucket{")
+                .contains("hikaricp_connections_acquire_seconds_bucket{")
+                .contains("hikaricp_connections_usage_seconds_bucket{")
+                .contains("hibernate_entities_loads_total{")
+                .contains("hibernate_collections_fetches_total{")
+                .contains("venueninja_request_statements")
+                .contains("http_server_requests_seconds_bucket{");
+    }
+}
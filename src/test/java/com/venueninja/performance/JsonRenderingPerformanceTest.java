@@ -0,0 +1,114 @@
+package com.venueninja.performance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.venueninja.config.CompressionProperties;
+import com.venueninja.controller.VenueJsonRenderer;
+import com.venueninja.model.SeatRecommendation;
+import com.venueninja.model.Venue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Before/after comparison of serializing the venue graph per request versus
+ * reusing the pre-rendered body kept by {@link VenueJsonRenderer}. Allocation is compared by
+ * default; the CPU time comparison runs with the slo profile.
+ */
+@DisplayName("JSON Rendering Performance Tests")
+class JsonRenderingPerformanceTest {
+
+    private static final int VENUES = 200;
+    private static final int RECOMMENDATIONS_PER_VENUE = 10;
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int MEASURED_ITERATIONS = 500;
+
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private ObjectMapper objectMapper;
+    private VenueJsonRenderer renderer;
+    private List<Venue> catalog;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        renderer = new VenueJsonRenderer(objectMapper, new CompressionProperties());
+        catalog = new ArrayList<>();
+        for (int i = 0; i < VENUES; i++) {
+            List<SeatRecommendation> recommendations = new ArrayList<>();
+            for (int j = 0; j < RECOMMENDATIONS_PER_VENUE; j++) {
+                recommendations.add(new SeatRecommendation("Section " + j, "Category " + (j % 4),
+                        "Reason for seat " + j, "$" + (40 + j * 10), "Tip number " + j));
+            }
+            catalog.add(new Venue("venue-" + i, "Venue " + i, recommendations));
+        }
+    }
+
+    @Test
+    @DisplayName("Pre-rendered list body should match Jackson output")
+    void prerenderedBody_ShouldMatchJacksonOutput() throws Exception {
+        assertThat(renderer.render(catalog).body()).isEqualTo(objectMapper.writeValueAsBytes(catalog));
+        assertThat(renderer.render(catalog.get(0)).body()).isEqualTo(objectMapper.writeValueAsBytes(catalog.get(0)));
+    }
+
+    @Test
+    @DisplayName("Unchanged data should reuse the same rendered bytes")
+    void unchangedData_ShouldReuseRenderedBytes() {
+        byte[] first = renderer.render(catalog).body();
+
+        assertThat(renderer.render(catalog).body()).isSameAs(first);
+        assertThat(renderer.render(new ArrayList<>(catalog)).body()).isNotSameAs(first);
+    }
+
+    @Test
+    @DisplayName("Pre-rendered list should allocate far less than per-request serialization")
+    void prerenderedList_ShouldAllocateLessThanSerialization() throws Exception {
+        // Before: serialize the entity graph on every request
+        Measurement perRequest = measure(() -> objectMapper.writeValueAsBytes(catalog));
+
+        // After: reuse the rendered bytes until the data changes
+        Measurement prerendered = measure(() -> renderer.render(catalog).body());
+
+        assertThat(prerendered.bytesPerOp()).isLessThan(perRequest.bytesPerOp() / 100);
+    }
+
+    @Test
+    @Tag("slo")
+    @DisplayName("Pre-rendered list should cost less CPU than per-request serialization")
+    void prerenderedList_ShouldBeFasterThanSerialization() throws Exception {
+        Measurement perRequest = measure(() -> objectMapper.writeValueAsBytes(catalog));
+        Measurement prerendered = measure(() -> renderer.render(catalog).body());
+
+        assertThat(prerendered.nanosPerOp()).isLessThan(perRequest.nanosPerOp());
+    }
+
+    private Measurement measure(ThrowingSupplier work) throws Exception {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            work.get();
+        }
+        long bytesBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            work.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threadMXBean.getCurrentThreadAllocatedBytes() - bytesBefore;
+        return new Measurement(elapsed / MEASURED_ITERATIONS, allocated / MEASURED_ITERATIONS);
+    }
+
+    @FunctionalInterface
+    private interface ThrowingSupplier {
+        Object get() throws Exception;
+    }
+
+    private record Measurement(long nanosPerOp, long bytesPerOp) {
+    }
+}
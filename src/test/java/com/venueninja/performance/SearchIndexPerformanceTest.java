@@ -0,0 +1,90 @@
+package com.venueninja.performance;
+
+import com.venueninja.model.SeatRecommendation;
+import com.venueninja.model.Venue;
+import com.venueninja.search.InvertedIndex;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query latency of the in-memory search index over a catalog of 100k recommendations.
+ */
+@DisplayName("Search Index Performance Tests")
+class SearchIndexPerformanceTest {
+
+    private static final int VENUES = 5_000;
+    private static final int RECOMMENDATIONS_PER_VENUE = 20;
+    private static final int WARMUP_QUERIES = 10_000;
+    private static final int MEASURED_QUERIES = 5_000;
+    private static final String[] CATEGORIES = {"Lower Bowl", "Upper Bowl", "Club", "Bleachers", "Suite", "Field"};
+    private static final String[] ADJECTIVES = {"budget", "premium", "quiet", "lively", "shaded", "sunny", "covered",
+        "elevated", "central", "corner", "family", "accessible", "cheap", "luxury", "padded", "rowdy", "scenic",
+        "spacious", "cozy", "classic"};
+    private static final String[] FEATURES = {"views", "legroom", "sightlines", "atmosphere", "acoustics", "access",
+        "seating", "value", "comfort", "service", "shade", "breeze", "exits", "concessions", "restrooms", "parking",
+        "screens", "railings", "aisles", "tunnels"};
+    private static final String[] ACTIONS = {"bring", "avoid", "try", "book", "skip", "grab", "use", "pack", "wear",
+        "order", "check", "request", "arrive", "visit", "reserve", "watch", "find", "ask", "join", "follow"};
+    private static final String[] OBJECTS = {"binoculars", "sunscreen", "earplugs", "cushions", "jackets", "snacks",
+        "tickets", "programs", "umbrellas", "hats", "gloves", "scarves", "cameras", "blankets", "maps", "chargers",
+        "souvenirs", "drinks", "tacos", "pretzels"};
+    private static final String[] QUERIES = {
+        "budget views", "premium legroom", "binoculars", "quiet acoustics", "bring sunscreen", "tacos",
+        "lower bowl shade", "family access", "stadium 1234 cushions", "padded seating earplugs"
+    };
+
+    private static InvertedIndex index;
+
+    @BeforeAll
+    static void buildIndex() {
+        index = new InvertedIndex();
+        Random random = new Random(42);
+        for (int i = 0; i < VENUES; i++) {
+            List<SeatRecommendation> recommendations = new ArrayList<>();
+            for (int j = 0; j < RECOMMENDATIONS_PER_VENUE; j++) {
+                recommendations.add(new SeatRecommendation(String.valueOf(100 + j), pick(CATEGORIES, random),
+                        pick(ADJECTIVES, random) + " " + pick(FEATURES, random), "$" + (40 + j * 10),
+                        pick(ACTIONS, random) + " " + pick(OBJECTS, random)));
+            }
+            index.index(new Venue("venue-" + i, (i % 2 == 0 ? "Stadium " : "Arena ") + i, recommendations));
+        }
+    }
+
+    @Test
+    @Tag("slo")
+    @DisplayName("Median query over 100k recommendations should take under a millisecond")
+    void search_OverLargeCatalog_ShouldBeSubMillisecond() {
+        // Arrange
+        assertThat(index.liveDocuments()).isEqualTo(VENUES * (RECOMMENDATIONS_PER_VENUE + 1));
+        for (int i = 0; i < WARMUP_QUERIES; i++) {
+            index.search(QUERIES[i % QUERIES.length], 20);
+        }
+
+        // Act
+        Histogram latencies = new Histogram(TimeUnit.SECONDS.toNanos(1), 3);
+        for (int i = 0; i < MEASURED_QUERIES; i++) {
+            long start = System.nanoTime();
+            index.search(QUERIES[i % QUERIES.length], 20);
+            latencies.recordValue(System.nanoTime() - start);
+        }
+
+        // Assert
+        System.out.printf("Search over %,d documents: p50 %,d ns, p99 %,d ns, max %,d ns%n", index.liveDocuments(),
+                latencies.getValueAtPercentile(50), latencies.getValueAtPercentile(99), latencies.getMaxValue());
+        assertThat(latencies.getValueAtPercentile(50)).isLessThan(TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    private static String pick(String[] values, Random random) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,129 @@
+package com.venueninja.performance;
+
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Payload size and latency of walking the whole catalog with and without {@code fields=id,name},
+ * on a synthetic catalog large enough for recommendation loading to dominate. Caching is off so
+ * every page goes to the database. Only the latency comparison needs the slo profile.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=jdbc:h2:mem:sparse-fieldsets;DB_CLOSE_DELAY=-1",
+    "spring.cache.type=none",
+    "spring.jpa.show-sql=false",
+    "logging.level.org.hibernate.SQL=WARN"
+})
+@ActiveProfiles("test")
+@DisplayName("Sparse Fieldset Performance Tests")
+class SparseFieldsetPerformanceTest {
+
+    private static final int VENUES = 1_000;
+    private static final int RECOMMENDATIONS_PER_VENUE = 20;
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int MEASURED_ROUNDS = 3;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seedCatalog() {
+        jdbcTemplate.update("delete from seat_recommendation");
+        jdbcTemplate.update("delete from venue");
+        List<Object[]> venues = new ArrayList<>();
+        List<Object[]> recommendations = new ArrayList<>();
+        for (int i = 0; i < VENUES; i++) {
+            String id = String.format("venue-%04d", i);
+            venues.add(new Object[] {id, "Venue " + i});
+            for (int j = 0; j < RECOMMENDATIONS_PER_VENUE; j++) {
+                recommendations.add(new Object[] {id, "Section " + j, "Category " + (j % 5),
+                        "Reason for picking section " + j + " at venue " + i, "$" + (40 + j * 10),
+                        "A practical tip about section " + j, (40L + j * 10) * 100, "USD"});
+            }
+        }
+        // Seeded over JDBC: entity inserts would make setup far slower than the measurement
+        jdbcTemplate.batchUpdate("insert into venue (id, name) values (?, ?)", venues);
+        jdbcTemplate.batchUpdate("insert into seat_recommendation (id, venue_id, section, category, reason, "
+                + "estimated_price, tip, price_minor, currency) "
+                + "values (nextval('seat_recommendation_seq'), ?, ?, ?, ?, ?, ?, ?, ?)", recommendations);
+    }
+
+    @Test
+    @DisplayName("fields=id,name should shrink the payload of a catalog walk")
+    void summaryFields_ShouldShrinkPayload() {
+        // Act
+        long fullBytes = walkCatalog("/venues?limit=100", new Histogram(3));
+        long summaryBytes = walkCatalog("/venues?limit=100&fields=id,name", new Histogram(3));
+
+        // Assert
+        assertThat(summaryBytes).isLessThan(fullBytes / 20);
+    }
+
+    @Test
+    @Tag("slo")
+    @DisplayName("fields=id,name pages should be faster than full venue pages")
+    void summaryFields_ShouldBeFaster() {
+        // Arrange
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            walkCatalog("/venues?limit=100", new Histogram(3));
+            walkCatalog("/venues?limit=100&fields=id,name", new Histogram(3));
+        }
+
+        // Act
+        Histogram fullLatency = new Histogram(3);
+        Histogram summaryLatency = new Histogram(3);
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            walkCatalog("/venues?limit=100", fullLatency);
+            walkCatalog("/venues?limit=100&fields=id,name", summaryLatency);
+        }
+
+        // Assert
+        assertThat(summaryLatency.getValueAtPercentile(50)).isLessThan(fullLatency.getValueAtPercentile(50));
+    }
+
+    /**
+     * Follows the Link headers through every page, recording each page's latency; returns total body bytes.
+     */
+    private long walkCatalog(String firstPage, Histogram latencies) {
+        String url = "http://localhost:" + port + firstPage;
+        long bytes = 0;
+        int venues = 0;
+        while (url != null) {
+            long start = System.nanoTime();
+            ResponseEntity<byte[]> response = restTemplate.getForEntity(url, byte[].class);
+            latencies.recordValue(System.nanoTime() - start);
+            bytes += response.getBody().length;
+            venues += countVenues(response.getBody());
+            String link = response.getHeaders().getFirst(HttpHeaders.LINK);
+            url = link == null ? null : link.substring(1, link.indexOf('>'));
+        }
+        assertThat(venues).isEqualTo(VENUES);
+        return bytes;
+    }
+
+    private static int countVenues(byte[] body) {
+        return new String(body).split("\"id\":\"venue-", -1).length - 1;
+    }
+}
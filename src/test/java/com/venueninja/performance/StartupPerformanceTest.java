@@ -0,0 +1,98 @@
+package com.venueninja.performance;
+
+import com.venueninja.config.CatalogSeedLoader;
+import com.venueninja.config.CatalogSeedProperties;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Boot-time schema and seed cost for a small and a large seed. The first boot against an empty
+ * database pays for the whole seed; later boots only hash the seed file and compare one row, so
+ * their cost should stay flat as the seed grows. Before migrations, every boot dropped the schema
+ * and replayed data.sql, i.e. paid the first-boot cost each time.
+ */
+@DisplayName("Startup Performance Tests")
+class StartupPerformanceTest {
+
+    private static final int SMALL_SEED_VENUES = 10;
+    private static final int LARGE_SEED_VENUES = 5_000;
+    private static final int RECOMMENDATIONS_PER_VENUE = 5;
+
+    @TempDir
+    private Path seeds;
+
+    @Test
+    @Tag("slo")
+    @DisplayName("Restarts should skip an unchanged seed, whatever its size")
+    void restart_ShouldNotGrowWithSeedSize() throws IOException {
+        // Arrange
+        Path small = writeSeed("small", SMALL_SEED_VENUES);
+        Path large = writeSeed("large", LARGE_SEED_VENUES);
+        // Warm up Flyway and the H2 driver so the first measurement is not class loading
+        migrate("warmup", small);
+
+        // Act
+        long smallFirst = migrate("small", small);
+        long smallRestart = migrate("small", small);
+        long largeFirst = migrate("large", large);
+        long largeRestart = migrate("large", large);
+
+        // Assert
+        System.out.printf("Seed of %,d venues: first boot %d ms, restart %d ms%n",
+                SMALL_SEED_VENUES, smallFirst / 1_000_000, smallRestart / 1_000_000);
+        System.out.printf("Seed of %,d venues: first boot %d ms, restart %d ms%n",
+                LARGE_SEED_VENUES, largeFirst / 1_000_000, largeRestart / 1_000_000);
+
+        assertThat(largeRestart).isLessThan(largeFirst / 3);
+        // Hashing a bigger file is the only extra work; allow generous noise on top
+        assertThat(largeRestart).isLessThan(smallRestart * 3 + 100_000_000L);
+    }
+
+    /**
+     * Runs the migrations and the seed loader the way a boot does and returns their duration in nanoseconds.
+     */
+    private static long migrate(String database, Path seedFile) {
+        Flyway flyway = Flyway.configure()
+                .dataSource("jdbc:h2:mem:startup-" + database + ";DB_CLOSE_DELAY=-1", "sa", "")
+                .locations("classpath:db/migration")
+                .load();
+        CatalogSeedProperties properties = new CatalogSeedProperties();
+        properties.setLocation(seedFile.toUri().toString());
+        CatalogSeedLoader seedLoader = new CatalogSeedLoader(flyway.getConfiguration().getDataSource(), properties,
+                new DefaultResourceLoader());
+        long started = System.nanoTime();
+        flyway.migrate();
+        seedLoader.load();
+        return System.nanoTime() - started;
+    }
+
+    private Path writeSeed(String name, int venues) throws IOException {
+        Path file = seeds.resolve(name + ".sql");
+        try (Writer seed = Files.newBufferedWriter(file)) {
+            seed.write("DELETE FROM seat_recommendation;\nDELETE FROM venue;\n");
+            long id = 1;
+            for (int i = 0; i < venues; i++) {
+                String venueId = String.format("venue-%05d", i);
+                seed.write("INSERT INTO venue (id, name) VALUES ('" + venueId + "', 'Venue " + i + "');\n");
+                for (int j = 0; j < RECOMMENDATIONS_PER_VENUE; j++) {
+                    seed.write("INSERT INTO seat_recommendation (id, venue_id, section, category, reason, "
+                            + "estimated_price, price_minor, currency, tip) VALUES (" + id++ + ", '" + venueId
+                            + "', 'Section " + j + "', 'Category " + j + "', 'Reason " + j + "', '$" + (40 + j)
+                            + "', " + (40 + j) * 100 + ", 'USD', 'Tip " + j + "');\n");
+                }
+            }
+        }
+        return file;
+    }
+}
@@ -0,0 +1,135 @@
+package com.venueninja.performance;
+
+import com.venueninja.repository.VenueRepository;
+import com.venueninja.service.VenueService;
+import com.venueninja.testdata.TestDataBuilder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the {@code VenueService} read paths never block a virtual thread while it is
+ * pinned to its carrier. More callers than pooled connections are used so that threads
+ * really park inside Hikari, Hibernate and the driver. Pinning reported by JFR is attributed
+ * to the embedded H2 test database when H2 frames hold the monitor; those events are printed
+ * but do not fail the test, since production runs on PostgreSQL.
+ */
+@SpringBootTest(properties = {
+        "spring.threads.virtual.enabled=true",
+        "spring.cache.type=none",
+        "spring.datasource.hikari.maximum-pool-size=4",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN"
+})
+@ActiveProfiles("test")
+@EnabledForJreRange(min = JRE.JAVA_21)
+@DisplayName("Virtual Thread Pinning Tests")
+class VirtualThreadPinningTest {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int CALLERS = 64;
+    private static final int CALLS_PER_CALLER = 20;
+
+    @Autowired
+    private VenueService venueService;
+
+    @Autowired
+    private VenueRepository venueRepository;
+
+    @BeforeEach
+    void setUp() {
+        venueRepository.deleteAll();
+        venueRepository.saveAll(TestDataBuilder.createAllTestVenues());
+    }
+
+    @Test
+    @DisplayName("Venue reads on virtual threads should not pin carrier threads")
+    void venueReads_OnVirtualThreads_ShouldNotPin() throws Exception {
+        // Arrange
+        Path dump = Files.createTempFile("virtual-thread-pinning", ".jfr");
+        List<RecordedEvent> pinned;
+
+        // Act
+        try (Recording recording = new Recording()) {
+            recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+            runOnVirtualThreads();
+            recording.stop();
+            recording.dump(dump);
+            pinned = RecordingFile.readAllEvents(dump).stream()
+                    .filter(event -> event.getEventType().getName().equals(PINNED_EVENT))
+                    .toList();
+        } finally {
+            Files.deleteIfExists(dump);
+        }
+
+        // Assert
+        List<String> outsideTestDatabase = new ArrayList<>();
+        for (RecordedEvent event : pinned) {
+            String stack = describe(event);
+            if (stack.contains("org.h2.")) {
+                System.out.println("Pinned inside embedded H2 (ignored):\n" + stack);
+            } else {
+                outsideTestDatabase.add(stack);
+            }
+        }
+        assertThat(outsideTestDatabase).isEmpty();
+    }
+
+    private void runOnVirtualThreads() throws Exception {
+        // Reflective so the class still compiles for the Java 17 baseline
+        ExecutorService executor = (ExecutorService) Executors.class
+                .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        try {
+            List<Future<?>> calls = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                calls.add(executor.submit(() -> {
+                    for (int j = 0; j < CALLS_PER_CALLER; j++) {
+                        venueService.getVenue("msg");
+                        venueService.getAllVenues();
+                        venueService.getVenuePage(null, 2);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> call : calls) {
+                call.get();
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(30, TimeUnit.SECONDS);
+        }
+    }
+
+    private static String describe(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return event.toString();
+        }
+        return event.getStackTrace().getFrames().stream()
+                .map(RecordedFrame::getMethod)
+                .map(method -> "  at " + method.getType().getName() + "." + method.getName())
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,112 @@
+package com.venueninja.performance;
+
+import com.venueninja.VenueNinjaApplication;
+import com.venueninja.performance.load.LoadGenerator;
+import com.venueninja.performance.load.LoadReport;
+import com.venueninja.performance.load.RequestMix;
+import com.venueninja.performance.load.Workload;
+import com.venueninja.repository.VenueRepository;
+import com.venueninja.testdata.TestDataBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpStatus;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the same high-concurrency, database-bound load against the application with
+ * platform-thread and with virtual-thread request handling and compares the platform threads
+ * each needs. The venue cache is disabled so every request has to get a pooled connection, the
+ * situation virtual threads are meant to help with. Runs with the slo profile.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+@DisplayName("Virtual Threads Load Comparison Tests")
+class VirtualThreadsLoadComparisonTest {
+
+    private static final int USERS = Integer.getInteger("loadtest.users", 400);
+    private static final Duration WARMUP = Duration.ofSeconds(3);
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 10));
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    @Test
+    @Tag("slo")
+    @DisplayName("Virtual threads should serve the same load with far fewer platform threads")
+    void virtualThreads_ShouldServeLoadWithFewerPlatformThreads() throws Exception {
+        // Act
+        Result platform = runAgainst(false);
+        Result virtual = runAgainst(true);
+
+        // Assert
+        assertThat(platform.report().errors()).isZero();
+        assertThat(virtual.report().errors()).isZero();
+        assertThat(virtual.serverThreads()).isLessThan(platform.serverThreads());
+    }
+
+    private Result runAgainst(boolean virtualThreads) throws InterruptedException {
+        int baselineThreads = threads.getThreadCount();
+        String database = virtualThreads ? "vt-virtual" : "vt-platform";
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(VenueNinjaApplication.class)
+                .profiles("test")
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1",
+                        "--spring.cache.type=none",
+                        "--spring.datasource.hikari.maximum-pool-size=10",
+                        "--server.tomcat.threads.max=200",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--logging.level.org.hibernate.SQL=WARN");
+        try {
+            VenueRepository venueRepository = context.getBean(VenueRepository.class);
+            venueRepository.deleteAll();
+            venueRepository.saveAll(TestDataBuilder.createAllTestVenues());
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            AtomicLong peakThreads = new AtomicLong(threads.getThreadCount());
+            Thread sampler = new Thread(() -> {
+                while (!Thread.currentThread().isInterrupted()) {
+                    peakThreads.accumulateAndGet(threads.getThreadCount(), Math::max);
+                    try {
+                        Thread.sleep(50);
+                    } catch (InterruptedException ex) {
+                        return;
+                    }
+                }
+            });
+            sampler.setDaemon(true);
+            sampler.start();
+
+            LoadReport report = new LoadGenerator("http://localhost:" + port)
+                    .run(Workload.closedModel(USERS, WARMUP, DURATION), databaseBoundMix());
+            sampler.interrupt();
+
+            // Virtual threads are not counted by ThreadMXBean; one client thread per user is subtracted
+            int serverThreads = (int) (peakThreads.get() - baselineThreads - USERS);
+            return new Result(report, serverThreads);
+        } finally {
+            context.close();
+        }
+    }
+
+    private static RequestMix databaseBoundMix() {
+        return RequestMix.builder()
+                .add("venue", "/venues/msg", HttpStatus.OK.value(), 70)
+                .add("list", "/venues", HttpStatus.OK.value(), 30)
+                .build();
+    }
+
+    private record Result(LoadReport report, int serverThreads) {
+    }
+}
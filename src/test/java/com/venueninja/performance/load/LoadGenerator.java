@@ -0,0 +1,160 @@
+package com.venueninja.performance.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Minimal HTTP load generator for exercising the embedded server from tests.
+ *
+ * <p>Open-model latency is measured from each request's <em>intended</em> start time on the
+ * arrival schedule rather than from when a client thread got round to sending it. A server
+ * stall therefore shows up as queueing delay in every request that should have been sent
+ * during the stall, instead of silently lowering the request rate (coordinated omission).
+ */
+public final class LoadGenerator {
+
+    static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final String baseUrl;
+    private final HttpClient client;
+
+    public LoadGenerator(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+    }
+
+    public LoadReport run(Workload workload, RequestMix mix) throws InterruptedException {
+        Recording recording = new Recording(mix);
+        long start = System.nanoTime();
+        long measureFrom = start + workload.warmup().toNanos();
+        long end = measureFrom + workload.duration().toNanos();
+
+        ExecutorService clients = Executors.newFixedThreadPool(workload.concurrency());
+        try {
+            if (workload.model() == Workload.Model.OPEN) {
+                runOpen(workload, mix, recording, clients, start, measureFrom, end);
+            } else {
+                runClosed(workload, mix, recording, clients, measureFrom, end);
+            }
+        } finally {
+            clients.shutdown();
+        }
+        if (!clients.awaitTermination(REQUEST_TIMEOUT.toSeconds() * 2, TimeUnit.SECONDS)) {
+            clients.shutdownNow();
+        }
+        return recording.report(workload);
+    }
+
+    private void runOpen(Workload workload, RequestMix mix, Recording recording, ExecutorService clients,
+                         long start, long measureFrom, long end) {
+        long interval = TimeUnit.SECONDS.toNanos(1) / workload.ratePerSecond();
+        for (long i = 0; ; i++) {
+            long intended = start + i * interval;
+            if (intended >= end) {
+                return;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            RequestMix.Target target = mix.next();
+            clients.execute(() -> {
+                boolean ok = send(target);
+                if (intended >= measureFrom) {
+                    recording.record(target, System.nanoTime() - intended, ok);
+                }
+            });
+        }
+    }
+
+    private void runClosed(Workload workload, RequestMix mix, Recording recording, ExecutorService clients,
+                           long measureFrom, long end) {
+        for (int user = 0; user < workload.concurrency(); user++) {
+            clients.execute(() -> {
+                while (System.nanoTime() < end) {
+                    RequestMix.Target target = mix.next();
+                    long sent = System.nanoTime();
+                    boolean ok = send(target);
+                    if (sent >= measureFrom) {
+                        recording.record(target, System.nanoTime() - sent, ok);
+                    }
+                }
+            });
+        }
+    }
+
+    private boolean send(RequestMix.Target target) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + target.path()))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() == target.expectedStatus();
+        } catch (IOException ex) {
+            return false;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static final class Recording {
+
+        private final Map<String, Histogram> histograms = new LinkedHashMap<>();
+        private final Map<String, LongAdder> errors = new LinkedHashMap<>();
+        private long firstRecorded = Long.MAX_VALUE;
+        private long lastRecorded;
+
+        Recording(RequestMix mix) {
+            for (RequestMix.Target target : mix.targets()) {
+                histograms.put(target.name(), new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+                errors.put(target.name(), new LongAdder());
+            }
+        }
+
+        void record(RequestMix.Target target, long latencyNanos, boolean ok) {
+            long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS);
+            histograms.get(target.name()).recordValue(micros);
+            if (!ok) {
+                errors.get(target.name()).increment();
+            }
+            long now = System.nanoTime();
+            synchronized (this) {
+                firstRecorded = Math.min(firstRecorded, now - latencyNanos);
+                lastRecorded = Math.max(lastRecorded, now);
+            }
+        }
+
+        LoadReport report(Workload workload) {
+            Map<String, Long> errorCounts = new LinkedHashMap<>();
+            errors.forEach((name, count) -> errorCounts.put(name, count.sum()));
+            Duration measured;
+            synchronized (this) {
+                measured = lastRecorded > firstRecorded
+                        ? Duration.ofNanos(lastRecorded - firstRecorded)
+                        : workload.duration();
+            }
+            return new LoadReport(workload, measured, histograms, errorCounts);
+        }
+    }
+}
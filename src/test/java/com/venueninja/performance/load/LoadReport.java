@@ -0,0 +1,100 @@
+package com.venueninja.performance.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency distribution, throughput and errors recorded by a {@link LoadGenerator} run.
+ * Latencies are recorded in microseconds.
+ */
+public final class LoadReport {
+
+    private static final double[] REPORTED_PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+
+    private final Workload workload;
+    private final Duration measured;
+    private final Histogram total;
+    private final Map<String, Histogram> byTarget;
+    private final Map<String, Long> errorsByTarget;
+
+    LoadReport(Workload workload, Duration measured, Map<String, Histogram> byTarget, Map<String, Long> errorsByTarget) {
+        this.workload = workload;
+        this.measured = measured;
+        this.byTarget = new LinkedHashMap<>(byTarget);
+        this.errorsByTarget = new LinkedHashMap<>(errorsByTarget);
+        this.total = new Histogram(LoadGenerator.HIGHEST_TRACKABLE_MICROS, 3);
+        byTarget.values().forEach(total::add);
+    }
+
+    public long requests() { return total.getTotalCount(); }
+
+    public long errors() {
+        return errorsByTarget.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public double errorRate() {
+        return requests() == 0 ? 0 : (double) errors() / requests();
+    }
+
+    public double throughput() {
+        return requests() / (measured.toNanos() / 1e9);
+    }
+
+    public Duration percentile(double percentile) {
+        return Duration.of(total.getValueAtPercentile(percentile), TimeUnit.MICROSECONDS.toChronoUnit());
+    }
+
+    public long requests(String target) {
+        Histogram histogram = byTarget.get(target);
+        return histogram == null ? 0 : histogram.getTotalCount();
+    }
+
+    /**
+     * Returns a description of every objective this run missed, or an empty list.
+     */
+    public List<String> violations(Slo slo) {
+        List<String> violations = new ArrayList<>();
+        if (percentile(99.0).compareTo(slo.p99()) > 0) {
+            violations.add("p99 " + millis(percentile(99.0)) + " exceeds " + millis(slo.p99()));
+        }
+        if (percentile(99.9).compareTo(slo.p999()) > 0) {
+            violations.add("p99.9 " + millis(percentile(99.9)) + " exceeds " + millis(slo.p999()));
+        }
+        if (throughput() < slo.minThroughput()) {
+            violations.add(String.format("throughput %.1f req/s below %.1f req/s", throughput(), slo.minThroughput()));
+        }
+        if (errorRate() > slo.maxErrorRate()) {
+            violations.add(String.format("error rate %.4f above %.4f (%s)", errorRate(), slo.maxErrorRate(), errorsByTarget));
+        }
+        return violations;
+    }
+
+    public String summary() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("Load run: %s, %d requests, %.1f req/s, %d errors%n",
+                workload, requests(), throughput(), errors()));
+        out.append(String.format("%-12s %8s %10s %10s %10s %10s %10s%n",
+                "target", "count", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        byTarget.forEach((name, histogram) -> appendRow(out, name, histogram));
+        appendRow(out, "all", total);
+        return out.toString();
+    }
+
+    private static void appendRow(StringBuilder out, String name, Histogram histogram) {
+        out.append(String.format("%-12s %8d", name, histogram.getTotalCount()));
+        for (double percentile : REPORTED_PERCENTILES) {
+            out.append(String.format(" %10.2f", histogram.getValueAtPercentile(percentile) / 1000.0));
+        }
+        out.append(String.format(" %10.2f%n", histogram.getMaxValue() / 1000.0));
+    }
+
+    private static String millis(Duration duration) {
+        return String.format("%.2fms", duration.toNanos() / 1e6);
+    }
+}
@@ -0,0 +1,68 @@
+package com.venueninja.performance.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Weighted set of requests a workload draws from.
+ */
+public final class RequestMix {
+
+    /**
+     * A request path, the status it is expected to answer with and its relative weight.
+     */
+    public record Target(String name, String path, int expectedStatus, int weight) {
+    }
+
+    private final List<Target> targets;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+
+    private RequestMix(List<Target> targets) {
+        this.targets = List.copyOf(targets);
+        this.cumulativeWeights = new int[targets.size()];
+        int total = 0;
+        for (int i = 0; i < targets.size(); i++) {
+            total += targets.get(i).weight();
+            cumulativeWeights[i] = total;
+        }
+        this.totalWeight = total;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public List<Target> targets() { return targets; }
+
+    Target next() {
+        int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return targets.get(i);
+            }
+        }
+        return targets.get(targets.size() - 1);
+    }
+
+    public static final class Builder {
+
+        private final List<Target> targets = new ArrayList<>();
+
+        public Builder add(String name, String path, int expectedStatus, int weight) {
+            if (weight < 1) {
+                throw new IllegalArgumentException("weight must be positive: " + name);
+            }
+            targets.add(new Target(name, path, expectedStatus, weight));
+            return this;
+        }
+
+        public RequestMix build() {
+            if (targets.isEmpty()) {
+                throw new IllegalStateException("A request mix needs at least one target");
+            }
+            return new RequestMix(targets);
+        }
+    }
+}
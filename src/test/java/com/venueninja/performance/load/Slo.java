@@ -0,0 +1,28 @@
+package com.venueninja.performance.load;
+
+import java.time.Duration;
+
+/**
+ * Service level objectives a load run has to meet. Each limit can be overridden with a
+ * system property, e.g. {@code -Dloadtest.slo.p99-ms=50}, to tighten or relax a run
+ * without editing the test.
+ */
+public record Slo(Duration p99, Duration p999, double minThroughput, double maxErrorRate) {
+
+    public Slo withMinThroughput(double requestsPerSecond) {
+        return new Slo(p99, p999, requestsPerSecond, maxErrorRate);
+    }
+
+    public Slo withSystemOverrides() {
+        return new Slo(
+                Duration.ofMillis(Long.getLong("loadtest.slo.p99-ms", p99.toMillis())),
+                Duration.ofMillis(Long.getLong("loadtest.slo.p999-ms", p999.toMillis())),
+                doubleProperty("loadtest.slo.min-throughput", minThroughput),
+                doubleProperty("loadtest.slo.max-error-rate", maxErrorRate));
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty(name);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+}
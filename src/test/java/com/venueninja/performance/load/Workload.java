@@ -0,0 +1,33 @@
+package com.venueninja.performance.load;
+
+import java.time.Duration;
+
+/**
+ * How load is offered to the server.
+ *
+ * <p>An {@link Model#OPEN open} workload issues requests at a constant arrival rate no matter
+ * how quickly the server answers, the way independent users behave; {@code concurrency} only
+ * caps the client threads available to send them. A {@link Model#CLOSED closed} workload runs
+ * {@code concurrency} users that each wait for a response before sending the next request.
+ */
+public record Workload(Model model, int ratePerSecond, int concurrency, Duration warmup, Duration duration) {
+
+    public enum Model { OPEN, CLOSED }
+
+    private static final int OPEN_MODEL_MAX_IN_FLIGHT = 64;
+
+    public static Workload openModel(int ratePerSecond, Duration warmup, Duration duration) {
+        return new Workload(Model.OPEN, ratePerSecond, OPEN_MODEL_MAX_IN_FLIGHT, warmup, duration);
+    }
+
+    public static Workload closedModel(int concurrency, Duration warmup, Duration duration) {
+        return new Workload(Model.CLOSED, 0, concurrency, warmup, duration);
+    }
+
+    @Override
+    public String toString() {
+        return model == Model.OPEN
+                ? "open model, " + ratePerSecond + " req/s for " + duration.toSeconds() + "s"
+                : "closed model, " + concurrency + " users for " + duration.toSeconds() + "s";
+    }
+}
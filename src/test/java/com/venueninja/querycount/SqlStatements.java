@@ -0,0 +1,148 @@
+package com.venueninja.querycount;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL statements executed through the application DataSource during one unit of work, either
+ * an HTTP request or a block of code on the test thread, with budget assertions that list the
+ * offending SQL when they fail.
+ *
+ * <p>Recording needs {@link SqlStatementsConfig} in the test context. Statements are attributed
+ * to the thread that executes them, so background work such as index rebuilds never counts
+ * towards a request.
+ */
+public final class SqlStatements {
+
+    private static final long REQUEST_TIMEOUT_SECONDS = 5;
+    private static final ThreadLocal<List<String>> CURRENT = new ThreadLocal<>();
+    private static final BlockingQueue<SqlStatements> REQUESTS = new LinkedBlockingQueue<>();
+
+    private final String label;
+    private final List<String> sql;
+
+    private SqlStatements(String label, List<String> sql) {
+        this.label = label;
+        this.sql = Collections.unmodifiableList(sql);
+    }
+
+    /**
+     * Runs {@code action} on this thread and returns the statements it executed.
+     */
+    public static SqlStatements during(String label, Runnable action) {
+        List<String> recorded = start();
+        try {
+            action.run();
+        } finally {
+            stop();
+        }
+        return new SqlStatements(label, recorded);
+    }
+
+    /**
+     * Forgets requests recorded so far; call before the requests under test.
+     */
+    public static void clearRequests() {
+        REQUESTS.clear();
+    }
+
+    /**
+     * Statements of the next completed request matching {@code label}, e.g. {@code "GET /venues?limit=5"}.
+     * Earlier requests with other labels are discarded. The response can reach the client just before
+     * the request finishes on the server, so this waits briefly for it.
+     */
+    public static SqlStatements forRequest(String label) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(REQUEST_TIMEOUT_SECONDS);
+        try {
+            while (true) {
+                SqlStatements request = REQUESTS.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (request == null) {
+                    throw new AssertionError("No request " + label + " was recorded; is SqlStatementsConfig imported?");
+                }
+                if (request.label.equals(label)) {
+                    return request;
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError("Interrupted waiting for request " + label, ex);
+        }
+    }
+
+    /**
+     * Statements of this unit of work followed by those of {@code other}.
+     */
+    public SqlStatements and(SqlStatements other) {
+        List<String> combined = new ArrayList<>(sql);
+        combined.addAll(other.sql);
+        return new SqlStatements(label + " + " + other.label, combined);
+    }
+
+    public int count() {
+        return sql.size();
+    }
+
+    public List<String> sql() {
+        return sql;
+    }
+
+    /**
+     * Fails, listing every statement, if more than {@code budget} statements were executed.
+     */
+    public SqlStatements assertAtMost(int budget) {
+        if (sql.size() > budget) {
+            throw new AssertionError(describe("budget is " + budget));
+        }
+        return this;
+    }
+
+    /**
+     * Fails, listing every statement, unless exactly as many statements as {@code other} were executed.
+     */
+    public SqlStatements assertSameCountAs(SqlStatements other) {
+        if (sql.size() != other.sql.size()) {
+            throw new AssertionError(describe("expected " + other.sql.size() + " as for " + other.label));
+        }
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return label + ": " + sql.size() + " statements";
+    }
+
+    private String describe(String expectation) {
+        StringBuilder message = new StringBuilder()
+                .append(label).append(" executed ").append(sql.size()).append(" SQL statements, ")
+                .append(expectation).append(':');
+        for (int i = 0; i < sql.size(); i++) {
+            message.append(System.lineSeparator()).append("  ").append(i + 1).append(". ").append(sql.get(i));
+        }
+        return message.toString();
+    }
+
+    static void record(String statement) {
+        List<String> recording = CURRENT.get();
+        if (recording != null) {
+            recording.add(statement);
+        }
+    }
+
+    static List<String> start() {
+        List<String> recording = new ArrayList<>();
+        CURRENT.set(recording);
+        return recording;
+    }
+
+    static void stop() {
+        CURRENT.remove();
+    }
+
+    static void completed(String label, List<String> recorded) {
+        REQUESTS.add(new SqlStatements(label, recorded));
+    }
+}
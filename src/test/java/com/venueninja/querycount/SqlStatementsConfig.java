@@ -0,0 +1,63 @@
+package com.venueninja.querycount;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Import into a {@code @SpringBootTest} to record SQL statements per request and per block
+ * of test code through {@link SqlStatements}.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class SqlStatementsConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    // Only the application-facing DataSource; wrapping pools behind it as well would count twice
+    @Bean
+    static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource && DATA_SOURCE_BEAN.equals(beanName)
+                        ? new StatementCountingDataSource(dataSource)
+                        : bean;
+            }
+        };
+    }
+
+    @Bean
+    FilterRegistrationBean<RequestRecordingFilter> sqlStatementsRequestFilter() {
+        FilterRegistrationBean<RequestRecordingFilter> registration = new FilterRegistrationBean<>(new RequestRecordingFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    static class RequestRecordingFilter extends OncePerRequestFilter {
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                throws ServletException, IOException {
+            String query = request.getQueryString();
+            String label = request.getMethod() + " " + request.getRequestURI() + (query != null ? "?" + query : "");
+            List<String> recorded = SqlStatements.start();
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                SqlStatements.stop();
+                SqlStatements.completed(label, recorded);
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.venueninja.querycount;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reports every statement executed through the wrapped DataSource to {@link SqlStatements}.
+ * Counting happens at the JDBC level, so Hibernate, Spring Data and JdbcTemplate are all seen;
+ * a JDBC batch counts once, as the single round trip it is.
+ */
+class StatementCountingDataSource extends DelegatingDataSource {
+
+    StatementCountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return countingConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return countingConnection(super.getConnection(username, password));
+    }
+
+    private static Connection countingConnection(Connection connection) {
+        return proxy(Connection.class, connection, (method, args, result) -> switch (method.getName()) {
+            case "createStatement" -> countingStatement(Statement.class, (Statement) result, null);
+            case "prepareStatement" -> countingStatement(PreparedStatement.class, (Statement) result, (String) args[0]);
+            case "prepareCall" -> countingStatement(CallableStatement.class, (Statement) result, (String) args[0]);
+            default -> result;
+        });
+    }
+
+    private static <S extends Statement> S countingStatement(Class<S> type, Statement statement, String preparedSql) {
+        List<String> batch = new ArrayList<>();
+        return proxy(type, statement, (method, args, result) -> {
+            String name = method.getName();
+            if (name.equals("addBatch") && args != null && args.length == 1) {
+                batch.add((String) args[0]);
+            } else if (name.endsWith("Batch") && name.startsWith("execute")) {
+                SqlStatements.record("[batch] " + (preparedSql != null ? preparedSql : String.join("; ", batch)));
+                batch.clear();
+            } else if (name.startsWith("execute")) {
+                SqlStatements.record(args != null && args.length > 0 ? (String) args[0] : preparedSql);
+            }
+            return result;
+        });
+    }
+
+    @FunctionalInterface
+    private interface AfterInvocation {
+
+        Object apply(Method method, Object[] args, Object result) throws Throwable;
+    }
+
+    /**
+     * Delegates every call to {@code target}, then lets {@code after} record it or wrap the result.
+     * Statements are recorded after they ran, so a failing statement is not counted.
+     */
+    private static <T> T proxy(Class<T> type, Object target, AfterInvocation after) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getTargetException();
+            }
+            return after.apply(method, args, result);
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+}
@@ -2,6 +2,8 @@ package com.venueninja.regression;
 
 import com.venueninja.model.Venue;
 import com.venueninja.model.SeatRecommendation;
+import com.venueninja.querycount.SqlStatements;
+import com.venueninja.querycount.SqlStatementsConfig;
 import com.venueninja.repository.VenueRepository;
 import com.venueninja.testdata.TestDataBuilder;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,6 +13,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ActiveProfiles;
@@ -29,6 +33,7 @@ import static org.assertj.core.api.Assertions.assertThat;
  */
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @ActiveProfiles("test")
+@Import(SqlStatementsConfig.class)
 @DisplayName("Regression Test Suite")
 class RegressionTestSuite {
 
@@ -41,6 +46,9 @@ class RegressionTestSuite {
     @Autowired
     private VenueRepository venueRepository;
 
+    @Autowired
+    private CacheManager cacheManager;
+
     private String baseUrl;
 
     @BeforeEach
@@ -363,4 +371,28 @@ class RegressionTestSuite {
         assertThat(retrievedVenue).isNotNull();
         assertThat(retrievedVenue.getId()).isEqualTo("msg");
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("Venue reads should not issue more SQL as the catalog grows (N+1 guard)")
+    void venueReads_ShouldNotScaleQueriesWithCatalogSize() {
+        // Arrange
+        venueRepository.save(TestDataBuilder.createMadisonSquareGarden());
+        SqlStatements small = listAndLookUp();
+        venueRepository.saveAll(TestDataBuilder.createGeneratedVenues(40, 4));
+
+        // Act
+        SqlStatements large = listAndLookUp();
+
+        // Assert
+        large.assertSameCountAs(small).assertAtMost(4);
+    }
+
+    // Statements for a full listing plus a single-venue lookup, caches cleared so both reach the database
+    private SqlStatements listAndLookUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        SqlStatements.clearRequests();
+        restTemplate.getForEntity(baseUrl + "/venues", String.class);
+        restTemplate.getForEntity(baseUrl + "/venues/msg", String.class);
+        return SqlStatements.forRequest("GET /venues").and(SqlStatements.forRequest("GET /venues/msg"));
+    }
+}
@@ -0,0 +1,99 @@
+package com.venueninja.repository;
+
+import com.venueninja.config.CatalogSeedLoader;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.MigrationState;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the application against a database built only by the Flyway migrations, the way it
+ * boots outside tests. Context startup already proves that the entities validate against them.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:migrations;DB_CLOSE_DELAY=-1",
+    "spring.flyway.enabled=true",
+    "spring.flyway.locations=classpath:db/migration,classpath:db/migration-{vendor}",
+    "spring.jpa.hibernate.ddl-auto=validate",
+    "venueninja.catalog.seed.mode=changed"
+})
+@ActiveProfiles("test")
+@DisplayName("Catalog Migration Tests")
+class CatalogMigrationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private VenueRepository venueRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CatalogSeedLoader seedLoader;
+
+    @Test
+    @DisplayName("Migrations should create the schema with its indexes and the seed should load once")
+    void migrate_ShouldApplySchemaAndSeed() {
+        // Act
+        MigrationInfo[] applied = flyway.info().applied();
+        int rerun = flyway.migrate().migrationsExecuted;
+        boolean seedReapplied = seedLoader.load();
+
+        // Assert
+        assertThat(applied).extracting(MigrationInfo::getScript).containsExactly("V1__create_catalog.sql",
+                "V2__index_recommendation_venue.sql", "V3__catalog_seed_state.sql", "V5__venue_currency.sql");
+        assertThat(applied).extracting(MigrationInfo::getState).containsOnly(MigrationState.SUCCESS);
+        assertThat(rerun).isZero();
+        assertThat(seedReapplied).isFalse();
+        assertThat(jdbcTemplate.queryForObject("select sha256 from catalog_seed_state", String.class)).hasSize(64);
+        assertThat(venueRepository.count()).isEqualTo(10);
+        assertThat(recommendationIndexes())
+                .contains("IDX_SEAT_RECOMMENDATION_VENUE", "IDX_SEAT_RECOMMENDATION_PRICE");
+    }
+
+    @Test
+    @DisplayName("Seed loader should normalize every seeded display price in the venue's currency")
+    void seed_ShouldNormalizePricesInVenueCurrency() {
+        // Act
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "select r.venue_id, r.estimated_price, r.price_minor, r.currency, v.currency venue_currency "
+                        + "from seat_recommendation r join venue v on v.id = r.venue_id");
+
+        // Assert
+        assertThat(rows).hasSize(30).allSatisfy(row -> {
+            assertThat(row.get("price_minor")).isEqualTo(
+                    Long.parseLong(((String) row.get("estimated_price")).substring(1)) * 100);
+            assertThat(row.get("currency")).isEqualTo(row.get("venue_currency"));
+            assertThat(row.get("venue_currency"))
+                    .isEqualTo(List.of("scg", "marvel").contains(row.get("venue_id")) ? "AUD" : "USD");
+        });
+    }
+
+    private List<String> recommendationIndexes() {
+        return jdbcTemplate.execute((ConnectionCallback<List<String>>) connection -> {
+            List<String> names = new ArrayList<>();
+            try (ResultSet indexes = connection.getMetaData()
+                    .getIndexInfo(null, null, "SEAT_RECOMMENDATION", false, false)) {
+                while (indexes.next()) {
+                    names.add(indexes.getString("INDEX_NAME").toUpperCase());
+                }
+            }
+            return names;
+        });
+    }
+}
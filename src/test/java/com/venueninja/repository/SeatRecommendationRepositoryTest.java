@@ -0,0 +1,176 @@
+package com.venueninja.repository;
+
+import com.venueninja.model.PricedRecommendation;
+import com.venueninja.model.SeatRecommendation;
+import com.venueninja.model.Venue;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("SeatRecommendationRepository Integration Tests")
+class SeatRecommendationRepositoryTest {
+
+    @Autowired
+    private SeatRecommendationRepository recommendationRepository;
+
+    @Autowired
+    private VenueRepository venueRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        venueRepository.deleteAll();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Persisting should read a bare dollar sign in the venue's currency")
+    void persist_ShouldDeriveCurrencyFromVenue() {
+        // Arrange
+        SeatRecommendation bare = recommendation("$50");
+        SeatRecommendation australian = recommendation("A$1,200.50");
+        SeatRecommendation british = recommendation("£40");
+        Venue venue = new Venue("scg", "Sydney Cricket Ground", new ArrayList<>(List.of(bare, australian, british)));
+        venue.setCurrency("AUD");
+
+        // Act
+        entityManager.persistAndFlush(venue);
+
+        // Assert
+        assertThat(bare.getPriceMinor()).isEqualTo(5000L);
+        assertThat(bare.getCurrency()).isEqualTo("AUD");
+        assertThat(australian.getPriceMinor()).isEqualTo(120050L);
+        assertThat(australian.getCurrency()).isEqualTo("AUD");
+        assertThat(british.getCurrency()).isEqualTo("GBP");
+    }
+
+    @Test
+    @DisplayName("Persisting should derive minor units and currency from the display price")
+    void persist_ShouldDeriveNormalizedPrice() {
+        // Arrange
+        SeatRecommendation plain = recommendation("$250");
+        SeatRecommendation withCents = recommendation("$1,250.5");
+        SeatRecommendation range = recommendation("$100-$200");
+        SeatRecommendation australian = recommendation("A$80");
+        SeatRecommendation explicitCurrency = recommendation("$60");
+        explicitCurrency.setCurrency("AUD");
+        SeatRecommendation unpriced = recommendation("Contact box office");
+
+        // Act
+        entityManager.persistAndFlush(new Venue("msg", "Madison Square Garden",
+                new ArrayList<>(List.of(plain, withCents, range, australian, explicitCurrency, unpriced))));
+
+        // Assert
+        assertThat(plain.getPriceMinor()).isEqualTo(25000L);
+        assertThat(plain.getCurrency()).isEqualTo("USD");
+        assertThat(withCents.getPriceMinor()).isEqualTo(125050L);
+        assertThat(range.getPriceMinor()).isEqualTo(10000L);
+        assertThat(australian.getPriceMinor()).isEqualTo(8000L);
+        assertThat(australian.getCurrency()).isEqualTo("AUD");
+        assertThat(explicitCurrency.getCurrency()).isEqualTo("AUD");
+        assertThat(unpriced.getPriceMinor()).isNull();
+        assertThat(unpriced.getCurrency()).isNull();
+    }
+
+    @Test
+    @DisplayName("Changing the display price should re-derive the normalized price")
+    void updateDisplayPrice_ShouldRederiveNormalizedPrice() {
+        // Arrange
+        SeatRecommendation recommendation = recommendation("$250");
+        entityManager.persistAndFlush(new Venue("msg", "Madison Square Garden", new ArrayList<>(List.of(recommendation))));
+
+        // Act
+        recommendation.setEstimatedPrice("$199.99");
+        entityManager.flush();
+        entityManager.clear();
+
+        // Assert
+        assertThat(recommendationRepository.findById(recommendation.getId()))
+                .get().extracting(SeatRecommendation::getPriceMinor).isEqualTo(19999L);
+    }
+
+    @Test
+    @DisplayName("Price range query should return the cheapest matches in one statement")
+    void findByPriceAscending_ShouldReturnCheapestInRangeWithOneStatement() {
+        // Arrange
+        persistVenue("msg", "$250", "$75", "$120");
+        persistVenue("citi", "$40", "$65", "$280");
+        SeatRecommendation australian = recommendation("$50");
+        australian.setCurrency("AUD");
+        entityManager.persistAndFlush(new Venue("scg", "Sydney Cricket Ground", new ArrayList<>(List.of(australian))));
+        entityManager.clear();
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        // Act
+        List<PricedRecommendation> cheapest = recommendationRepository
+                .findByPriceAscending("USD", 0, 10000, Limit.of(3));
+
+        // Assert
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(cheapest).extracting(PricedRecommendation::priceMinor).containsExactly(4000L, 6500L, 7500L);
+        assertThat(cheapest).extracting(PricedRecommendation::venueId).containsExactly("citi", "citi", "msg");
+    }
+
+    @Test
+    @DisplayName("Descending price query should return the most expensive matches first")
+    void findByPriceDescending_ShouldReturnMostExpensiveFirst() {
+        // Arrange
+        persistVenue("msg", "$250", "$75", "$120");
+        entityManager.clear();
+
+        // Act
+        List<PricedRecommendation> results = recommendationRepository
+                .findByPriceDescending("USD", 7500, 20000, Limit.of(10));
+
+        // Assert
+        assertThat(results).extracting(PricedRecommendation::estimatedPrice).containsExactly("$120", "$75");
+    }
+
+    @Test
+    @DisplayName("Price range query should be answered from the currency/price index")
+    void priceRangeQuery_ShouldUsePriceIndex() {
+        // Act
+        Object plan = entityManager.getEntityManager().createNativeQuery(
+                "EXPLAIN SELECT id FROM seat_recommendation WHERE currency = 'USD' "
+                        + "AND price_minor BETWEEN 0 AND 10000 ORDER BY price_minor").getSingleResult();
+
+        // Assert
+        assertThat(plan.toString()).containsIgnoringCase("idx_seat_recommendation_price");
+    }
+
+    private void persistVenue(String id, String... prices) {
+        List<SeatRecommendation> recommendations = new ArrayList<>();
+        for (String price : prices) {
+            recommendations.add(recommendation(price));
+        }
+        entityManager.persistAndFlush(new Venue(id, "Venue " + id, recommendations));
+    }
+
+    private static SeatRecommendation recommendation(String price) {
+        return new SeatRecommendation("Section", "Category", "Reason", price, "Tip");
+    }
+
+    private Statistics statistics() {
+        return entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -2,14 +2,18 @@ package com.venueninja.repository;
 
 import com.venueninja.model.Venue;
 import com.venueninja.model.SeatRecommendation;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -252,4 +256,112 @@ class VenueRepositoryTest {
         assertThat(savedVenue).isNotNull();
         assertThat(savedVenue.getName()).isEqualTo("This is a very long venue name that might exceed normal expectations for venue naming conventions");
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should load venues with recommendations in a constant number of queries")
+    void findAllWithRecommendations_ShouldNotIssueQueryPerVenue() {
+        // Arrange & Act
+        long fewVenuesStatements = countStatementsLoadingAllVenues(2);
+        long manyVenuesStatements = countStatementsLoadingAllVenues(25);
+
+        // Assert
+        assertThat(fewVenuesStatements).isEqualTo(1);
+        assertThat(manyVenuesStatements).isEqualTo(fewVenuesStatements);
+    }
+
+    @Test
+    @DisplayName("Should load single venue with recommendations in one query")
+    void findWithRecommendationsById_ShouldLoadRecommendationsEagerly() {
+        // Arrange
+        madisonSquareGarden.setRecommendations(Arrays.asList(msgRecommendation1, msgRecommendation2));
+        entityManager.persistAndFlush(madisonSquareGarden);
+        entityManager.clear();
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        // Act
+        Optional<Venue> found = venueRepository.findWithRecommendationsById("msg");
+
+        // Assert
+        assertThat(found).isPresent();
+        assertThat(found.get().getRecommendations()).extracting("section").containsExactly("104", "200");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should return empty when fetching missing venue with recommendations")
+    void findWithRecommendationsById_WhenVenueNotExists_ShouldReturnEmpty() {
+        // Act
+        Optional<Venue> found = venueRepository.findWithRecommendationsById("nonexistent");
+
+        // Assert
+        assertThat(found).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return venue ids in keyset order after a given id")
+    void findIdsAfter_ShouldReturnNextKeysetPage() {
+        // Arrange
+        entityManager.persist(madisonSquareGarden);
+        entityManager.persist(yankeeStadium);
+        entityManager.persist(new Venue("barclays", "Barclays Center", null));
+        entityManager.flush();
+
+        // Act
+        List<String> firstPage = venueRepository.findIds(Limit.of(2));
+        List<String> secondPage = venueRepository.findIdsAfter("msg", Limit.of(2));
+
+        // Assert
+        assertThat(firstPage).containsExactly("barclays", "msg");
+        assertThat(secondPage).containsExactly("yankee");
+    }
+
+    @Test
+    @DisplayName("Should batch load a page of venues with recommendations in one query")
+    void findAllWithRecommendationsByIdIn_ShouldLoadPageInOneQuery() {
+        // Arrange
+        madisonSquareGarden.setRecommendations(Arrays.asList(msgRecommendation1, msgRecommendation2));
+        entityManager.persist(madisonSquareGarden);
+        entityManager.persist(yankeeStadium);
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        // Act
+        List<Venue> page = venueRepository.findAllWithRecommendationsByIdIn(List.of("yankee", "msg"));
+        page.forEach(venue -> venue.getRecommendations().size());
+
+        // Assert
+        assertThat(page).extracting("id").containsExactly("msg", "yankee");
+        assertThat(page.get(0).getRecommendations()).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private long countStatementsLoadingAllVenues(int venueCount) {
+        venueRepository.deleteAll();
+        for (int i = 0; i < venueCount; i++) {
+            List<SeatRecommendation> recommendations = new ArrayList<>();
+            for (int j = 0; j < 3; j++) {
+                recommendations.add(new SeatRecommendation("S" + j, "Category " + j, "Reason", "$" + (50 + j), "Tip"));
+            }
+            entityManager.persist(new Venue("venue-" + i, "Venue " + i, recommendations));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        List<Venue> venues = venueRepository.findAllWithRecommendations();
+        venues.forEach(venue -> assertThat(venue.getRecommendations()).hasSize(3));
+
+        assertThat(venues).hasSize(venueCount);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Statistics statistics() {
+        return entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -0,0 +1,92 @@
+package com.venueninja.search;
+
+import com.venueninja.model.FacetCounts;
+import com.venueninja.model.SeatRecommendation;
+import com.venueninja.model.Venue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+@DisplayName("FacetIndex Tests")
+class FacetIndexTest {
+
+    private FacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new FacetIndex();
+        index.index(venue("msg", recommendation("Lower Bowl", 25_000L), recommendation("Upper Bowl", 7_500L),
+                recommendation("Upper Bowl", 6_000L)));
+        index.index(venue("citi", recommendation("Budget", 4_000L), recommendation("Lower Bowl", 12_000L),
+                recommendation("Premium", null)));
+        SeatRecommendation australian = recommendation("Budget", 5_000L);
+        australian.setCurrency("AUD");
+        index.index(venue("scg", australian));
+    }
+
+    @Test
+    @DisplayName("Unfiltered counts should cover every facet in the currency")
+    void count_WithoutFilters_ShouldCountAllFacets() {
+        // Act
+        FacetCounts counts = index.count(new FacetQuery("USD", null, null, null, null));
+
+        // Assert
+        assertThat(counts.total()).isEqualTo(6);
+        assertThat(counts.categories()).containsExactly(entry("Lower Bowl", 2), entry("Upper Bowl", 2),
+                entry("Budget", 1), entry("Premium", 1));
+        assertThat(counts.priceBuckets()).containsExactly(entry("0-50", 1), entry("50-100", 2),
+                entry("100-200", 1), entry("200-500", 1), entry("unpriced", 1));
+        assertThat(counts.venues()).containsExactly(entry("citi", 3), entry("msg", 3));
+    }
+
+    @Test
+    @DisplayName("Price, category and venue filters should narrow every facet")
+    void count_WithFilters_ShouldNarrowCounts() {
+        // Act
+        FacetCounts underHundred = index.count(new FacetQuery("USD", null, 10_000L, null, null));
+        FacetCounts lowerBowl = index.count(new FacetQuery("USD", null, null, "Lower Bowl", "citi"));
+        FacetCounts australian = index.count(new FacetQuery("AUD", null, null, null, null));
+
+        // Assert
+        assertThat(underHundred.total()).isEqualTo(3);
+        assertThat(underHundred.categories()).containsExactly(entry("Upper Bowl", 2), entry("Budget", 1));
+        assertThat(underHundred.venues()).containsExactly(entry("msg", 2), entry("citi", 1));
+        assertThat(lowerBowl.total()).isEqualTo(1);
+        assertThat(lowerBowl.priceBuckets()).containsExactly(entry("100-200", 1));
+        assertThat(australian.venues()).containsExactly(entry("scg", 1));
+    }
+
+    @Test
+    @DisplayName("Re-indexing a venue should replace its counts and reuse freed slots")
+    void index_WhenVenueChanges_ShouldUpdateCounts() {
+        // Act
+        index.index(venue("msg", recommendation("Club", 30_000L)));
+        index.remove("citi");
+        FacetCounts counts = index.count(new FacetQuery("USD", null, null, null, null));
+
+        // Assert
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(counts.categories()).containsExactly(entry("Club", 1));
+        assertThat(counts.venues()).containsOnlyKeys("msg");
+        assertThat(index.count(new FacetQuery("USD", null, null, "Lower Bowl", null)).total()).isZero();
+        assertThat(counts.priceBuckets()).isEqualTo(Map.of("200-500", 1));
+    }
+
+    private static Venue venue(String id, SeatRecommendation... recommendations) {
+        return new Venue(id, id.toUpperCase(), new ArrayList<>(List.of(recommendations)));
+    }
+
+    private static SeatRecommendation recommendation(String category, Long priceMinor) {
+        SeatRecommendation recommendation = new SeatRecommendation("101", category, "Reason", null, "Tip");
+        recommendation.setPriceMinor(priceMinor);
+        recommendation.setCurrency("USD");
+        return recommendation;
+    }
+}
@@ -0,0 +1,125 @@
+package com.venueninja.search;
+
+import com.venueninja.model.SeatRecommendation;
+import com.venueninja.model.Venue;
+import com.venueninja.testdata.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InvertedIndex Tests")
+class InvertedIndexTest {
+
+    private InvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIndex();
+        TestDataBuilder.createAllTestVenues().forEach(index::index);
+    }
+
+    @Test
+    @DisplayName("Search should match venue names and recommendation text")
+    void search_ShouldMatchNamesAndRecommendationText() {
+        // Act
+        List<SearchHit> byName = index.search("Yankee", 10);
+        List<SearchHit> byTip = index.search("binoculars", 10);
+
+        // Assert
+        assertThat(byName).extracting(SearchHit::venueId).containsOnly("yankee");
+        assertThat(byName.get(0).recommendationId()).isNull();
+        assertThat(byTip).singleElement().satisfies(hit -> {
+            assertThat(hit.venueId()).isEqualTo("msg");
+            assertThat(hit.section()).isEqualTo("200");
+        });
+    }
+
+    @Test
+    @DisplayName("Search should ignore case, accents and punctuation")
+    void search_ShouldNormalizeTerms() {
+        // Arrange
+        index.index(venue("cafe", "Café Olé Hall", recommendation("Row-A", "Front", "Up close", "Arrive early")));
+
+        // Act & Assert
+        assertThat(index.search("CAFE ole", 10)).extracting(SearchHit::venueId).contains("cafe");
+        assertThat(index.search("row a", 10)).extracting(SearchHit::section).contains("Row-A");
+    }
+
+    @Test
+    @DisplayName("Documents matching more query terms should rank higher")
+    void search_ShouldRankByRelevance() {
+        // Act
+        List<SearchHit> hits = index.search("upper bowl binoculars", 10);
+
+        // Assert
+        assertThat(hits.get(0).section()).isEqualTo("200");
+        assertThat(hits).extracting(SearchHit::score).isSortedAccordingTo((a, b) -> Double.compare(b, a));
+    }
+
+    @Test
+    @DisplayName("Search should return only the top K results")
+    void search_ShouldLimitResults() {
+        // Act & Assert
+        assertThat(index.search("stadium center garden", 2)).hasSize(2);
+        assertThat(index.search("nomatch", 10)).isEmpty();
+        assertThat(index.search("  ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Re-indexing a venue should replace its documents")
+    void index_WhenVenueChanges_ShouldReplaceDocuments() {
+        // Arrange
+        Venue msg = venue("msg", "Madison Square Garden", recommendation("Loge", "Club", "Quiet seats", "Ask for aisle"));
+
+        // Act
+        index.index(msg);
+
+        // Assert
+        assertThat(index.search("binoculars", 10)).isEmpty();
+        assertThat(index.search("aisle", 10)).extracting(SearchHit::venueId).containsExactly("msg");
+        assertThat(index.deletedDocuments()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Removing a venue should drop it from results")
+    void remove_ShouldDropVenue() {
+        // Act
+        index.remove("yankee");
+
+        // Assert
+        assertThat(index.search("yankee", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Compaction should keep results and drop tombstones")
+    void compact_ShouldPreserveResults() {
+        // Arrange
+        index.remove("yankee");
+        List<SearchHit> before = index.search("bowl view premium", 20);
+
+        // Act
+        InvertedIndex compacted = index.compact();
+
+        // Assert
+        assertThat(compacted.deletedDocuments()).isZero();
+        assertThat(compacted.liveDocuments()).isEqualTo(index.liveDocuments());
+        assertThat(compacted.search("bowl view premium", 20))
+                .extracting(SearchHit::venueId, SearchHit::section, SearchHit::score)
+                .containsExactlyInAnyOrderElementsOf(before.stream()
+                        .map(hit -> org.assertj.core.groups.Tuple.tuple(hit.venueId(), hit.section(), hit.score()))
+                        .toList());
+    }
+
+    private static Venue venue(String id, String name, SeatRecommendation... recommendations) {
+        return new Venue(id, name, new ArrayList<>(List.of(recommendations)));
+    }
+
+    private static SeatRecommendation recommendation(String section, String category, String reason, String tip) {
+        return new SeatRecommendation(section, category, reason, "$100", tip);
+    }
+}
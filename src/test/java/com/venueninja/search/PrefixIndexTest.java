@@ -0,0 +1,91 @@
+package com.venueninja.search;
+
+import com.venueninja.model.VenueSuggestion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PrefixIndex Tests")
+class PrefixIndexTest {
+
+    private final PrefixIndex index = new PrefixIndex(List.of(
+            new VenueSuggestion("msg", "Madison Square Garden"),
+            new VenueSuggestion("mercedes", "Mercedes-Benz Stadium"),
+            new VenueSuggestion("metlife", "MetLife Stadium"),
+            new VenueSuggestion("bernabeu", "Estadio Santiago Bernabéu"),
+            new VenueSuggestion("garden-tx", "Gardena Arena")));
+
+    @Test
+    @DisplayName("Lookup should match name prefixes ignoring case")
+    void lookup_ShouldMatchNamePrefix() {
+        // Act & Assert
+        assertThat(index.lookup("MAD", 10)).extracting(VenueSuggestion::id).containsExactly("msg");
+        assertThat(index.lookup("me", 10)).extracting(VenueSuggestion::id).containsExactly("mercedes", "metlife");
+        assertThat(index.lookup("xyz", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Lookup should match ids and later words, listing name-start matches first")
+    void lookup_ShouldRankPrimaryMatchesFirst() {
+        // Act
+        List<VenueSuggestion> garden = index.lookup("garden", 10);
+        List<VenueSuggestion> stadium = index.lookup("stadium", 10);
+
+        // Assert
+        assertThat(garden).extracting(VenueSuggestion::id).containsExactly("garden-tx", "msg");
+        assertThat(stadium).extracting(VenueSuggestion::id).containsExactly("mercedes", "metlife");
+        assertThat(index.lookup("msg", 10)).extracting(VenueSuggestion::name).containsExactly("Madison Square Garden");
+    }
+
+    @Test
+    @DisplayName("Lookup should fold accents, punctuation and spacing")
+    void lookup_ShouldFoldInput() {
+        // Act & Assert
+        assertThat(index.lookup("bernabe", 10)).extracting(VenueSuggestion::id).containsExactly("bernabeu");
+        assertThat(index.lookup("Bernabéu", 10)).extracting(VenueSuggestion::id).containsExactly("bernabeu");
+        assertThat(index.lookup("mercedes benz", 10)).extracting(VenueSuggestion::id).containsExactly("mercedes");
+        assertThat(index.lookup("  madison   sq", 10)).extracting(VenueSuggestion::id).containsExactly("msg");
+        assertThat(index.lookup("square ", 10)).extracting(VenueSuggestion::id).containsExactly("msg");
+        assertThat(index.lookup("stadium ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Lookup should return each venue once and respect the limit")
+    void lookup_ShouldDeduplicateAndLimit() {
+        // Act & Assert
+        assertThat(index.lookup("m", 10)).extracting(VenueSuggestion::id)
+                .containsExactly("msg", "mercedes", "metlife");
+        assertThat(index.lookup("m", 2)).hasSize(2);
+        assertThat(index.lookup("", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Lookup of already-folded input should allocate almost nothing")
+    void lookup_ShouldAllocateLittle() {
+        // Arrange
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        List<VenueSuggestion> catalog = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            catalog.add(new VenueSuggestion("venue-" + i, "Venue Number " + i + " Arena"));
+        }
+        PrefixIndex large = new PrefixIndex(catalog);
+        for (int i = 0; i < 20_000; i++) {
+            large.lookup("venue number 12", 5);
+        }
+
+        // Act
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < 1_000; i++) {
+            large.lookup("venue number 12", 5);
+        }
+        long perLookup = (threads.getCurrentThreadAllocatedBytes() - before) / 1_000;
+
+        // Assert: just the result list and its backing array
+        assertThat(perLookup).isLessThan(128);
+    }
+}
@@ -0,0 +1,203 @@
+package com.venueninja.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.venueninja.config.StreamProperties;
+import com.venueninja.event.CatalogChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("CatalogChangeFeed Tests")
+class CatalogChangeFeedTest {
+
+    private StreamProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private CatalogChangeFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        properties = new StreamProperties();
+        properties.setReplaySize(16);
+        properties.setSenderThreads(2);
+        properties.setSendTimeout(Duration.ofMillis(200));
+        meterRegistry = new SimpleMeterRegistry();
+        feed = new CatalogChangeFeed(new ObjectMapper(), properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        feed.shutdown();
+    }
+
+    @Test
+    @DisplayName("Changes should get consecutive versions and reach every subscriber")
+    void onCatalogChanged_ShouldPushVersionedChanges() {
+        // Arrange
+        RecordingEmitter first = new RecordingEmitter();
+        RecordingEmitter second = new RecordingEmitter();
+        feed.subscribe(first, null);
+        feed.subscribe(second, null);
+
+        // Act
+        feed.onCatalogChanged(new CatalogChangedEvent(Set.of("yankee", "msg")));
+        feed.onCatalogChanged(CatalogChangedEvent.fullRefresh());
+
+        // Assert
+        List<String> expected = List.of(
+                "id:" + feed.eventId(0) + "\nevent:catalog-version\ndata:{\"version\":0}\n\n",
+                "id:" + feed.eventId(1) + "\nevent:catalog-change\n"
+                        + "data:{\"version\":1,\"venueIds\":[\"msg\",\"yankee\"],\"fullRefresh\":false}\n\n",
+                "id:" + feed.eventId(2) + "\nevent:catalog-change\n"
+                        + "data:{\"version\":2,\"venueIds\":[],\"fullRefresh\":true}\n\n");
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            assertThat(first.events).containsExactlyElementsOf(expected);
+            assertThat(second.events).containsExactlyElementsOf(expected);
+        });
+        assertThat(feed.currentVersion()).isEqualTo(2);
+        assertThat(feed.eventId(2)).matches("[0-9a-z]+-2");
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID should replay missed changes, or reset when they left the replay window or "
+            + "the id is from another process")
+    void subscribe_WithLastEventId_ShouldReplayOrReset() {
+        // Arrange
+        for (int i = 0; i < 20; i++) {
+            feed.onCatalogChanged(new CatalogChangedEvent(Set.of("venue-" + i)));
+        }
+        CatalogChangeFeed restarted = new CatalogChangeFeed(new ObjectMapper(), properties, new SimpleMeterRegistry());
+        RecordingEmitter recent = new RecordingEmitter();
+        RecordingEmitter stale = new RecordingEmitter();
+        RecordingEmitter future = new RecordingEmitter();
+        RecordingEmitter otherProcess = new RecordingEmitter();
+        RecordingEmitter malformed = new RecordingEmitter();
+
+        // Act
+        feed.subscribe(recent, feed.eventId(17));
+        feed.subscribe(stale, feed.eventId(1));
+        feed.subscribe(future, feed.eventId(99));
+        feed.subscribe(otherProcess, restarted.eventId(17));
+        feed.subscribe(malformed, "17");
+        restarted.shutdown();
+
+        // Assert
+        String reset = "id:" + feed.eventId(20) + "\nevent:catalog-reset\ndata:{\"version\":20}\n\n";
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            assertThat(recent.events).hasSize(3);
+            assertThat(stale.events).containsExactly(reset);
+            assertThat(future.events).containsExactly(reset);
+            assertThat(otherProcess.events).containsExactly(reset);
+            assertThat(malformed.events).containsExactly(reset);
+        });
+        assertThat(recent.events).extracting(event -> event.substring(0, event.indexOf('\n')))
+                .containsExactly("id:" + feed.eventId(18), "id:" + feed.eventId(19), "id:" + feed.eventId(20));
+    }
+
+    @Test
+    @DisplayName("A subscriber that falls behind the replay window should be reset, not disconnected")
+    void burstLargerThanReplayWindow_ShouldResetLaggingSubscriber() {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter lagging = new RecordingEmitter(release);
+        feed.subscribe(lagging, null);
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            feed.onCatalogChanged(new CatalogChangedEvent(Set.of("venue-" + i)));
+        }
+        release.countDown();
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(lagging.events).hasSize(2));
+        feed.onCatalogChanged(new CatalogChangedEvent(Set.of("after-reset")));
+
+        // Assert
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(lagging.events).hasSize(3));
+        assertThat(lagging.events).extracting(event -> event.substring(0, event.indexOf("\ndata:")))
+                .containsExactly(
+                        "id:" + feed.eventId(0) + "\nevent:catalog-version",
+                        "id:" + feed.eventId(20) + "\nevent:catalog-reset",
+                        "id:" + feed.eventId(21) + "\nevent:catalog-change");
+        assertThat(feed.subscriberCount()).isEqualTo(1);
+        assertThat(lagging.completed).isFalse();
+    }
+
+    @Test
+    @DisplayName("Stalled subscribers should be disconnected without taking the sender threads of the others")
+    void slowSubscriber_ShouldNotBlockOthers() {
+        // Arrange: one stalled client per sender thread
+        CountDownLatch release = new CountDownLatch(1);
+        List<RecordingEmitter> stalled = List.of(new RecordingEmitter(release), new RecordingEmitter(release));
+        stalled.forEach(emitter -> feed.subscribe(emitter, null));
+        RecordingEmitter healthy = new RecordingEmitter();
+        feed.subscribe(healthy, null);
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            feed.onCatalogChanged(new CatalogChangedEvent(Set.of("venue-" + i)));
+        }
+
+        // Assert
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            feed.disconnectStalledSubscribers();
+            assertThat(healthy.events).hasSize(11);
+            assertThat(feed.subscriberCount()).isEqualTo(1);
+        });
+        // The stuck writes were interrupted and their streams completed without the clients reading
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> stalled.stream().allMatch(emitter -> emitter.completed));
+        assertThat(stalled).allSatisfy(emitter -> assertThat(emitter.events).isEmpty());
+        assertThat(meterRegistry.get("venueninja.catalog.stream.dropped").counter().count()).isEqualTo(2);
+
+        feed.onCatalogChanged(new CatalogChangedEvent(Set.of("after-stall")));
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(healthy.events).hasSize(12));
+    }
+
+    /**
+     * Captures frames as sent; optionally blocks the first write like a client that stopped reading.
+     */
+    static final class RecordingEmitter extends SseEmitter {
+
+        final List<String> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch release;
+        volatile boolean completed;
+
+        RecordingEmitter() {
+            this(new CountDownLatch(0));
+        }
+
+        RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IOException(ex);
+            }
+            StringBuilder event = new StringBuilder();
+            items.forEach(item -> event.append(item.getData()));
+            events.add(event.toString());
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+            super.complete();
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.venueninja.service;
+
+import com.venueninja.actuator.CatalogSnapshotEndpoint;
+import com.venueninja.model.SeatRecommendation;
+import com.venueninja.model.SeatRecommendationView;
+import com.venueninja.model.Venue;
+import com.venueninja.model.VenuePage;
+import com.venueninja.model.VenueView;
+import com.venueninja.repository.VenueRepository;
+import com.venueninja.testdata.TestDataBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+@SpringBootTest(properties = "venueninja.catalog.snapshot.enabled=true")
+@ActiveProfiles("test")
+@DisplayName("Catalog Snapshot Tests")
+class VenueCatalogSnapshotServiceTest {
+
+    @Autowired
+    private VenueService venueService;
+
+    @Autowired
+    private VenueCatalogSnapshotService snapshotService;
+
+    @Autowired
+    private CatalogSnapshotEndpoint snapshotEndpoint;
+
+    @Autowired
+    private VenueRepository venueRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ThreadPoolTaskScheduler taskScheduler;
+
+    @BeforeEach
+    void setUp() {
+        venueRepository.deleteAll();
+        venueRepository.saveAll(TestDataBuilder.createAllTestVenues());
+        snapshotService.refresh();
+        awaitBackgroundIndexing();
+    }
+
+    @Test
+    @DisplayName("Reads should be served from the snapshot with zero SQL statements")
+    void reads_WhenSnapshotServing_ShouldNotQueryDatabase() {
+        // Arrange
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        List<VenueView> venues = venueService.getAllVenues();
+        VenueView msg = venueService.getVenue("msg");
+
+        // Assert
+        assertThat(snapshotService.isServing()).isTrue();
+        assertThat(venues).extracting("id").containsExactly("barclays", "msg", "yankee");
+        assertThat(msg.recommendations()).hasSize(3);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Missing venues should still raise the not-found error")
+    void getVenue_WhenMissingFromSnapshot_ShouldThrow() {
+        assertThatThrownBy(() -> venueService.getVenue("nonexistent"))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessageContaining("Venue not found with id: nonexistent");
+    }
+
+    @Test
+    @DisplayName("Snapshot contents should be immutable")
+    void snapshot_ShouldBeImmutable() {
+        // Arrange
+        VenueView msg = venueService.getVenue("msg");
+        SeatRecommendationView extra = SeatRecommendationView.of(new SeatRecommendation());
+
+        // Act & Assert
+        assertThatThrownBy(() -> msg.recommendations().add(extra))
+            .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> venueService.getAllVenues().clear())
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Committed catalog changes should trigger a background refresh")
+    void catalogChange_ShouldSwapInNewSnapshot() {
+        // Act
+        venueRepository.save(TestDataBuilder.createVenueWithLongName());
+
+        // Assert
+        await().atMost(Duration.ofSeconds(5))
+            .until(() -> snapshotService.current().venue("long").isPresent());
+        assertThat(venueService.getVenue("long").name()).startsWith("This is a very long venue name");
+    }
+
+    @Test
+    @DisplayName("Actuator endpoint should report status and force a refresh")
+    void endpoint_ShouldReportAndRefresh() {
+        // Arrange
+        VenueCatalogSnapshot before = snapshotService.current();
+
+        // Act
+        Map<String, Object> status = snapshotEndpoint.refresh();
+
+        // Assert
+        assertThat(snapshotService.current()).isNotSameAs(before);
+        assertThat(status).containsEntry("enabled", true).containsEntry("serving", true).containsEntry("venueCount", 3);
+    }
+
+    @Test
+    @DisplayName("Snapshot age should be published as a gauge")
+    void snapshotAge_ShouldBePublished() {
+        TimeGauge age = meterRegistry.find("venueninja.catalog.snapshot.age").timeGauge();
+
+        assertThat(age).isNotNull();
+        assertThat(age.value()).isGreaterThanOrEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("Snapshot pages should follow keyset order and be reused")
+    void getVenuePage_WhenSnapshotServing_ShouldPageInMemory() {
+        // Act
+        VenuePage first = venueService.getVenuePage(null, 2);
+        VenuePage second = venueService.getVenuePage(first.nextAfterId(), 2);
+
+        // Assert
+        assertThat(first.venues()).extracting("id").containsExactly("barclays", "msg");
+        assertThat(second.venues()).extracting("id").containsExactly("yankee");
+        assertThat(second.hasNext()).isFalse();
+        assertThat(venueService.getVenuePage(null, 2)).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("A refresh after a change should not queue behind other background work")
+    void refreshAfterChange_WhileSchedulerBusy_ShouldStillRun() throws InterruptedException {
+        // Arrange - a long-running task holds one scheduler thread
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        taskScheduler.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        VenueCatalogSnapshot before = snapshotService.current();
+
+        try {
+            // Act
+            venueRepository.save(new Venue("arena", "New Arena", new ArrayList<>()));
+
+            // Assert
+            await().atMost(Duration.ofSeconds(5)).until(() -> snapshotService.current() != before);
+            assertThat(snapshotService.current().venue("arena")).isPresent();
+        } finally {
+            release.countDown();
+        }
+    }
+
+    // Index rebuilds scheduled by the setUp commit query on their own; wait so they stay out of statistics
+    private void awaitBackgroundIndexing() {
+        ScheduledThreadPoolExecutor executor = taskScheduler.getScheduledThreadPoolExecutor();
+        // Periodic @Scheduled jobs stay queued, so only tasks that are already due count
+        await().atMost(Duration.ofSeconds(5)).until(() -> executor.getActiveCount() == 0
+                && executor.getQueue().stream().allMatch(task -> ((Delayed) task).getDelay(TimeUnit.MILLISECONDS) > 0));
+    }
+}
@@ -0,0 +1,197 @@
+package com.venueninja.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.venueninja.config.ExportProperties;
+import com.venueninja.model.SeatRecommendation;
+import com.venueninja.model.Venue;
+import com.venueninja.model.VenueView;
+import com.venueninja.repository.VenueRepository;
+import com.venueninja.testdata.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("VenueExportService Tests")
+class VenueExportServiceTest {
+
+    @Autowired
+    private VenueExportService exportService;
+
+    @Autowired
+    private VenueImportService importService;
+
+    @Autowired
+    private VenueRepository venueRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        venueRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Export should write every venue with its recommendations in id order")
+    void export_ShouldWriteOneLinePerVenue() throws Exception {
+        // Arrange
+        venueRepository.saveAll(TestDataBuilder.createAllTestVenues());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long exported = exportService.export(out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(exported).isEqualTo(lines.length).isEqualTo(venueRepository.count());
+        List<String> ids = new ArrayList<>();
+        for (String line : lines) {
+            Venue venue = objectMapper.readValue(line, Venue.class);
+            Venue stored = venueRepository.findWithRecommendationsById(venue.getId()).orElseThrow();
+            assertThat(venue.getName()).isEqualTo(stored.getName());
+            assertThat(venue.getRecommendations()).extracting("section")
+                    .containsExactlyElementsOf(stored.getRecommendations().stream().map(SeatRecommendation::getSection).toList());
+            ids.add(venue.getId());
+        }
+        assertThat(ids).isSorted();
+    }
+
+    @Test
+    @DisplayName("Export lines should match GET /venues and re-import without losing the venue currency")
+    void export_ShouldRoundTripThroughImport() throws Exception {
+        // Arrange
+        Venue scg = new Venue("scg", "Sydney Cricket Ground", new ArrayList<>(List.of(
+                new SeatRecommendation("The Hill", "GA Lawn", "Chill out", "$50", "Bring a blanket"))));
+        scg.setCurrency("AUD");
+        venueRepository.save(scg);
+        VenueView before = venueRepository.findViewById("scg").orElseThrow();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        exportService.export(out);
+        String line = out.toString(StandardCharsets.UTF_8).strip();
+        venueRepository.deleteAll();
+        importService.importJson(new ByteArrayInputStream(("[" + line + "]").getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        assertThat(objectMapper.readValue(line, VenueView.class)).isEqualTo(before);
+        assertThat(before.currency()).isEqualTo("AUD");
+        VenueView after = venueRepository.findViewById("scg").orElseThrow();
+        assertThat(after.currency()).isEqualTo("AUD");
+        assertThat(after.recommendations()).singleElement()
+                .satisfies(recommendation -> {
+                    assertThat(recommendation.priceMinor()).isEqualTo(5000L);
+                    assertThat(recommendation.currency()).isEqualTo("AUD");
+                });
+    }
+
+    @Test
+    @DisplayName("Export of an empty catalog should write nothing")
+    void export_WhenCatalogEmpty_ShouldWriteNothing() {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long exported = exportService.export(out);
+
+        // Assert
+        assertThat(exported).isZero();
+        assertThat(out.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Export should stop reading rows as soon as the client disconnects")
+    void export_WhenClientDisconnects_ShouldAbort() {
+        // Arrange
+        List<Venue> venues = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            List<SeatRecommendation> recommendations = new ArrayList<>();
+            for (int j = 0; j < 5; j++) {
+                recommendations.add(new SeatRecommendation("S" + j, "Category", "Reason", "$" + j, "Tip"));
+            }
+            venues.add(new Venue(String.format("venue-%04d", i), "Venue " + i, recommendations));
+        }
+        venueRepository.saveAll(venues);
+        DisconnectingOutputStream out = new DisconnectingOutputStream(4096);
+
+        // Act & Assert
+        assertThatThrownBy(() -> exportService.export(out))
+                .isInstanceOf(UncheckedIOException.class);
+        assertThat(out.writesAfterDisconnect).isZero();
+        assertThat(out.accepted).isLessThan(4096 + 1024);
+
+        // The connection is released, so later exports still work
+        assertThat(exportService.export(new ByteArrayOutputStream())).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("Export settings should reject a flush interval or fetch size below one")
+    void exportProperties_ShouldRejectNonPositiveValues() {
+        // Arrange
+        ApplicationContextRunner runner = new ApplicationContextRunner()
+                .withUserConfiguration(ExportPropertiesConfiguration.class);
+
+        // Act & Assert
+        runner.withPropertyValues("venueninja.export.flush-every=0")
+                .run(context -> assertThat(context).hasFailed());
+        runner.withPropertyValues("venueninja.export.fetch-size=0")
+                .run(context -> assertThat(context).hasFailed());
+        runner.withPropertyValues("venueninja.export.flush-every=1", "venueninja.export.timeout=PT1H")
+                .run(context -> assertThat(context).hasNotFailed());
+    }
+
+    @EnableConfigurationProperties(ExportProperties.class)
+    static class ExportPropertiesConfiguration {
+    }
+
+    /**
+     * Accepts a fixed number of bytes, then fails like a socket whose peer has gone away.
+     */
+    private static final class DisconnectingOutputStream extends OutputStream {
+
+        private final int capacity;
+        private int accepted;
+        private boolean disconnected;
+        private int writesAfterDisconnect;
+
+        DisconnectingOutputStream(int capacity) {
+            this.capacity = capacity;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (disconnected) {
+                writesAfterDisconnect++;
+            }
+            if (accepted + len > capacity) {
+                disconnected = true;
+                throw new IOException("Broken pipe");
+            }
+            accepted += len;
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.venueninja.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.venueninja.exception.BadRequestException;
+import com.venueninja.model.ImportResult;
+import com.venueninja.model.SeatRecommendation;
+import com.venueninja.model.Venue;
+import com.venueninja.repository.VenueRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(properties = "venueninja.import.chunk-size=50")
+@ActiveProfiles("test")
+@DisplayName("VenueImportService Tests")
+class VenueImportServiceTest {
+
+    @Autowired
+    private VenueImportService importService;
+
+    @Autowired
+    private VenueRepository venueRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        venueRepository.deleteAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("JSON import should write chunks with batched inserts and no follow-up updates")
+    void importJson_ShouldBatchInserts() throws Exception {
+        // Arrange
+        List<Venue> venues = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            List<SeatRecommendation> recommendations = new ArrayList<>();
+            for (int j = 0; j < 5; j++) {
+                recommendations.add(new SeatRecommendation("S" + j, "Category " + j, "Reason " + j, "$" + (50 + j), "Tip"));
+            }
+            venues.add(new Venue(String.format("bulk-%03d", i), "Bulk Venue " + i, recommendations));
+        }
+        byte[] json = objectMapper.writeValueAsBytes(venues);
+        statistics.clear();
+
+        // Act
+        ImportResult result = importService.importJson(new ByteArrayInputStream(json));
+
+        // Assert
+        assertThat(result.venues()).isEqualTo(120);
+        assertThat(result.recommendations()).isEqualTo(600);
+        assertThat(result.chunks()).isEqualTo(3);
+        assertThat(result.loader()).isEqualTo(VenueImportService.JDBC_BATCH);
+        assertThat(result.rowsPerSecond()).isPositive();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(720);
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+        // Batches of 50 plus one sequence call per 50 ids and two deletes per chunk, instead of 720+ statements
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(60);
+        Venue stored = venueRepository.findWithRecommendationsById("bulk-007").orElseThrow();
+        assertThat(stored.getRecommendations()).extracting(SeatRecommendation::getSection)
+                .containsExactly("S0", "S1", "S2", "S3", "S4");
+        assertThat(stored.getRecommendations().get(0).getPriceMinor()).isEqualTo(5_000L);
+    }
+
+    @Test
+    @DisplayName("Imported prices should read a bare dollar sign in the venue's currency")
+    void importJson_ShouldPriceInVenueCurrency() {
+        // Arrange
+        String json = """
+                [{"id": "scg", "name": "Sydney Cricket Ground", "currency": "AUD",
+                  "recommendations": [{"section": "The Hill", "estimatedPrice": "$50"},
+                                      {"section": "Members", "estimatedPrice": "A$1,200.50"}]}]
+                """;
+
+        // Act
+        importService.importJson(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        Venue stored = venueRepository.findWithRecommendationsById("scg").orElseThrow();
+        assertThat(stored.getCurrency()).isEqualTo("AUD");
+        assertThat(stored.getRecommendations()).extracting(SeatRecommendation::getPriceMinor, SeatRecommendation::getCurrency)
+                .containsExactlyInAnyOrder(tuple(5000L, "AUD"), tuple(120050L, "AUD"));
+    }
+
+    @Test
+    @DisplayName("A price too large for minor units should be rejected as a bad request")
+    void importJson_WithOverflowingPrice_ShouldReject() {
+        // Arrange
+        String json = """
+                [{"id": "huge", "name": "Huge Arena",
+                  "recommendations": [{"section": "1", "estimatedPrice": "$99999999999999999999"}]}]
+                """;
+
+        // Act & Assert
+        assertThatThrownBy(() -> importService.importJson(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageStartingWith("Venue huge has an invalid price");
+        assertThat(venueRepository.existsById("huge")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Imported venues should replace existing venues with the same id")
+    void importJson_ShouldReplaceExistingVenue() {
+        // Arrange
+        venueRepository.save(new Venue("msg", "Old Name", new ArrayList<>(List.of(
+                new SeatRecommendation("1", "Old", "Old", "$1", "Old"),
+                new SeatRecommendation("2", "Old", "Old", "$2", "Old")))));
+        String json = """
+                [{"id": "msg", "name": "Madison Square Garden",
+                  "recommendations": [{"id": 999, "section": "104", "category": "Lower Bowl", "estimatedPrice": "$250"}]}]
+                """;
+
+        // Act
+        importService.importJson(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        Venue stored = venueRepository.findWithRecommendationsById("msg").orElseThrow();
+        assertThat(stored.getName()).isEqualTo("Madison Square Garden");
+        assertThat(stored.getRecommendations()).extracting(SeatRecommendation::getSection).containsExactly("104");
+    }
+
+    @Test
+    @DisplayName("CSV import should group consecutive rows and handle quoted fields")
+    void importCsv_ShouldParseQuotedFields() {
+        // Arrange
+        String csv = "venue_id,venue_name,section,category,reason,estimated_price,tip\r\n"
+                + "msg,Madison Square Garden,104,Lower Bowl,\"Great view, close to stage\",$250,\"Say \"\"hi\"\"\"\r\n"
+                + "msg,Madison Square Garden,212,Budget,\"Two\nlines\",$120,\r\n"
+                + "\r\n"
+                + "empty,Empty Venue,,,,,\n";
+
+        // Act
+        ImportResult result = importService.importCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        assertThat(result.venues()).isEqualTo(2);
+        assertThat(result.recommendations()).isEqualTo(2);
+        Venue msg = venueRepository.findWithRecommendationsById("msg").orElseThrow();
+        assertThat(msg.getRecommendations()).extracting(SeatRecommendation::getReason)
+                .containsExactly("Great view, close to stage", "Two\nlines");
+        assertThat(msg.getRecommendations().get(0).getTip()).isEqualTo("Say \"hi\"");
+        assertThat(msg.getRecommendations().get(1).getTip()).isNull();
+        assertThat(venueRepository.findWithRecommendationsById("empty").orElseThrow().getRecommendations()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Invalid input should be rejected, keeping chunks committed before the error")
+    void importCsv_WithInvalidInput_ShouldReject() {
+        // Arrange
+        StringBuilder csv = new StringBuilder("venue_id,venue_name,section,category,reason,estimated_price,tip\n");
+        for (int i = 0; i < 50; i++) {
+            csv.append("v").append(i).append(",Venue ").append(i).append(",1,A,B,$10,C\n");
+        }
+        csv.append("late,Late Venue,1,A,B,$10,C\n").append("v3,Venue 3 again,1,A,B,$10,C\n");
+
+        // Act & Assert
+        assertThatThrownBy(() -> importService.importCsv(
+                new ByteArrayInputStream("id,name\nmsg,MSG\n".getBytes(StandardCharsets.UTF_8))))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageStartingWith("CSV header must be");
+        assertThatThrownBy(() -> importService.importCsv(
+                new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8))))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Venue v3 appears more than once in the import (50 venues imported before the error were kept)");
+        assertThat(venueRepository.count()).isEqualTo(50);
+        assertThatThrownBy(() -> importService.importJson(
+                new ByteArrayInputStream("[{\"id\": \"x\"".getBytes(StandardCharsets.UTF_8))))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageStartingWith("Malformed venue JSON");
+    }
+
+    @Test
+    @DisplayName("COPY rows should quote every value, double embedded quotes and leave NULL unquoted")
+    void appendRow_ShouldWriteCopyCsv() {
+        // Arrange
+        StringBuilder rows = new StringBuilder();
+
+        // Act
+        VenueImportService.appendRow(rows, 7L, "Best view, close to stage", "Say \"hi\"", null, "", "two\nlines");
+        VenueImportService.appendRow(rows, 8L, null);
+
+        // Assert
+        assertThat(rows.toString()).isEqualTo(
+                "\"7\",\"Best view, close to stage\",\"Say \"\"hi\"\"\",,\"\",\"two\nlines\"\n"
+                        + "\"8\",\n");
+    }
+
+    @Test
+    @DisplayName("COPY id allocation should follow the pooled scheme from a fresh sequence")
+    void allocateIds_FromFreshSequence_ShouldFollowPooledScheme() throws SQLException {
+        // Arrange
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:allocate-ids;DB_CLOSE_DELAY=-1");
+             Statement ddl = connection.createStatement()) {
+            ddl.execute("create sequence seat_recommendation_seq start with 1 increment by 50");
+
+            // Act: the first value reserves only itself, so three ids take two sequence values
+            List<Long> first = new ArrayList<>();
+            VenueImportService.allocateIds(connection, 3).forEachRemaining(first::add);
+            List<Long> second = new ArrayList<>();
+            VenueImportService.allocateIds(connection, 60).forEachRemaining(second::add);
+
+            // Assert
+            assertThat(first).containsExactly(1L, 2L, 3L);
+            assertThat(second).hasSize(60).doesNotHaveDuplicates().startsWith(52L).endsWith(111L);
+        }
+    }
+
+    @Test
+    @DisplayName("COPY id allocation should never hand out ids Hibernate's pooled optimizer uses")
+    void allocateIds_InterleavedWithHibernate_ShouldNotCollide() throws SQLException {
+        // Arrange
+        venueRepository.save(new Venue("before", "Before", recommendations(3)));
+
+        // Act
+        List<Long> copied = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            VenueImportService.allocateIds(connection, 120).forEachRemaining(copied::add);
+        }
+        venueRepository.save(new Venue("after", "After", recommendations(120)));
+
+        // Assert
+        Set<Long> hibernateIds = new HashSet<>();
+        for (String id : List.of("before", "after")) {
+            venueRepository.findWithRecommendationsById(id).orElseThrow().getRecommendations()
+                    .forEach(recommendation -> hibernateIds.add(recommendation.getId()));
+        }
+        assertThat(hibernateIds).hasSize(123);
+        assertThat(copied).hasSize(120).doesNotHaveDuplicates().doesNotContainAnyElementsOf(hibernateIds);
+    }
+
+    private static List<SeatRecommendation> recommendations(int count) {
+        List<SeatRecommendation> recommendations = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            recommendations.add(new SeatRecommendation("S" + i, "Category", "Reason", "$" + (50 + i), "Tip"));
+        }
+        return recommendations;
+    }
+}
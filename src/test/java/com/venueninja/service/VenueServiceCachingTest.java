@@ -0,0 +1,138 @@
+package com.venueninja.service;
+
+import com.venueninja.config.CacheConfig;
+import com.venueninja.model.Venue;
+import com.venueninja.model.VenueView;
+import com.venueninja.repository.VenueRepository;
+import com.venueninja.testdata.TestDataBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("VenueService Caching Tests")
+class VenueServiceCachingTest {
+
+    @Autowired
+    private VenueService venueService;
+
+    @Autowired
+    private VenueRepository venueRepository;
+
+    @Autowired
+    private VenueCacheInvalidator cacheInvalidator;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        venueRepository.deleteAll();
+        venueRepository.saveAll(TestDataBuilder.createAllTestVenues());
+        cacheInvalidator.evictAll();
+    }
+
+    @Test
+    @DisplayName("Repeated getVenue calls should be served from the cache")
+    void getVenue_WhenCalledTwice_ShouldHitCache() {
+        // Arrange
+        double hitsBefore = cacheGets(CacheConfig.VENUE_CACHE, "hit");
+
+        // Act
+        VenueView first = venueService.getVenue("msg");
+        VenueView second = venueService.getVenue("msg");
+
+        // Assert
+        assertThat(second).isSameAs(first);
+        assertThat(second.recommendations()).hasSize(3);
+        assertThat(cacheGets(CacheConfig.VENUE_CACHE, "hit") - hitsBefore).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Repeated getAllVenues calls should be served from the cache")
+    void getAllVenues_WhenCalledTwice_ShouldHitCache() {
+        // Act
+        List<VenueView> first = venueService.getAllVenues();
+        List<VenueView> second = venueService.getAllVenues();
+
+        // Assert
+        assertThat(second).isSameAs(first);
+        assertThat(second).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Saving a venue should evict its cached entry after commit")
+    void save_ShouldInvalidateCachedVenue() {
+        // Arrange
+        venueService.getVenue("msg");
+        venueService.getAllVenues();
+        Venue updated = venueRepository.findById("msg").orElseThrow();
+        updated.setName("Renamed Garden");
+
+        // Act
+        venueRepository.save(updated);
+
+        // Assert
+        assertThat(venueService.getVenue("msg").name()).isEqualTo("Renamed Garden");
+        assertThat(venueService.getAllVenues()).extracting("name").contains("Renamed Garden");
+    }
+
+    @Test
+    @DisplayName("Deleting all venues should clear the list cache")
+    void deleteAll_ShouldInvalidateListCache() {
+        // Arrange
+        assertThat(venueService.getAllVenues()).hasSize(3);
+
+        // Act
+        venueRepository.deleteAll();
+
+        // Assert
+        assertThat(venueService.getAllVenues()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Explicit per-key invalidation should only drop that venue")
+    void evictVenue_ShouldDropOnlyThatEntry() {
+        // Arrange
+        venueService.getVenue("msg");
+        venueService.getVenue("yankee");
+
+        // Act
+        cacheInvalidator.evictVenue("msg");
+
+        // Assert
+        var venueCache = cacheManager.getCache(CacheConfig.VENUE_CACHE);
+        assertThat(venueCache).isNotNull();
+        assertThat(venueCache.get("msg")).isNull();
+        assertThat(venueCache.get("yankee")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Cache metrics should be registered with the meter registry")
+    void cacheMetrics_ShouldBeExposed() {
+        // Act
+        venueService.getVenue("msg");
+
+        // Assert
+        assertThat(meterRegistry.find("cache.gets").tag("cache", CacheConfig.VENUE_CACHE).meters()).isNotEmpty();
+        assertThat(meterRegistry.find("cache.evictions").tag("cache", CacheConfig.VENUE_CACHE).meters()).isNotEmpty();
+    }
+
+    private double cacheGets(String cacheName, String result) {
+        var counter = meterRegistry.find("cache.gets").tag("cache", cacheName).tag("result", result).functionCounter();
+        return counter != null ? counter.count() : 0.0;
+    }
+}
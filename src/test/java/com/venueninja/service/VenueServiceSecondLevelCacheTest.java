@@ -0,0 +1,136 @@
+package com.venueninja.service;
+
+import com.venueninja.actuator.HibernateCacheEndpoint;
+import com.venueninja.model.SeatRecommendation;
+import com.venueninja.model.SeatRecommendationView;
+import com.venueninja.model.Venue;
+import com.venueninja.model.VenueView;
+import com.venueninja.repository.VenueRepository;
+import com.venueninja.testdata.TestDataBuilder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+// Own database: other contexts writing to the shared one would leave this cache stale
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:second-level-cache;DB_CLOSE_DELAY=-1",
+    "spring.cache.type=none"
+})
+@ActiveProfiles({"test", "second-level-cache"})
+@DisplayName("VenueService Second-Level Cache Tests")
+class VenueServiceSecondLevelCacheTest {
+
+    private static final String VENUE_REGION = Venue.class.getName();
+    private static final String RECOMMENDATIONS_REGION = Venue.class.getName() + ".recommendations";
+
+    @Autowired
+    private VenueService venueService;
+
+    @Autowired
+    private VenueRepository venueRepository;
+
+    @Autowired
+    private HibernateCacheEndpoint cacheEndpoint;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ThreadPoolTaskScheduler taskScheduler;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        venueRepository.deleteAll();
+        venueRepository.saveAll(TestDataBuilder.createAllTestVenues());
+        awaitBackgroundIndexing();
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Repeated getVenue calls should execute no SQL once the venue is cached")
+    void getVenue_AfterWarmUp_ShouldExecuteNoSql() {
+        // Arrange
+        venueService.getVenue("msg");
+        statistics.clear();
+
+        // Act
+        VenueView first = venueService.getVenue("msg");
+        VenueView second = venueService.getVenue("msg");
+
+        // Assert
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.recommendations()).extracting(SeatRecommendationView::section)
+                .containsExactlyElementsOf(first.recommendations().stream().map(SeatRecommendationView::section).toList())
+                .hasSize(3);
+        assertThat(statistics.getCacheRegionStatistics(VENUE_REGION).getHitCount()).isEqualTo(2);
+        assertThat(statistics.getCacheRegionStatistics(RECOMMENDATIONS_REGION).getHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Committed changes should be visible through the cache")
+    void getVenue_AfterUpdate_ShouldReturnNewState() {
+        // Arrange
+        venueService.getVenue("msg");
+        Venue venue = venueRepository.findWithRecommendationsById("msg").orElseThrow();
+        venue.setName("The Garden");
+        venue.getRecommendations().get(0).setTip("Use the 8th Avenue entrance");
+
+        // Act
+        venueRepository.save(venue);
+        VenueView reloaded = venueService.getVenue("msg");
+
+        // Assert
+        assertThat(reloaded.name()).isEqualTo("The Garden");
+        assertThat(reloaded.recommendations()).hasSize(3);
+        assertThat(reloaded.recommendations().get(0).tip()).isEqualTo("Use the 8th Avenue entrance");
+    }
+
+    @Test
+    @DisplayName("Actuator endpoint should report hit ratios per region")
+    @SuppressWarnings("unchecked")
+    void endpoint_ShouldReportRegionHitRatios() {
+        // Arrange
+        statistics.clear();
+        venueService.getVenue("msg");
+        venueService.getVenue("msg");
+        venueService.getVenue("msg");
+
+        // Act
+        Map<String, Object> status = cacheEndpoint.status();
+
+        // Assert
+        assertThat(status).containsEntry("enabled", true).containsEntry("statisticsEnabled", true);
+        Map<String, Map<String, Object>> regions = (Map<String, Map<String, Object>>) status.get("regions");
+        assertThat(regions).containsKeys(VENUE_REGION, RECOMMENDATIONS_REGION, SeatRecommendation.class.getName());
+        assertThat(regions.get(VENUE_REGION)).containsEntry("hits", 2L).containsEntry("misses", 1L);
+        assertThat((double) regions.get(VENUE_REGION).get("hitRatio")).isEqualTo(2.0 / 3);
+    }
+
+    // Index rebuilds after the setup writes load venues through the regions; let them finish first
+    private void awaitBackgroundIndexing() {
+        ScheduledThreadPoolExecutor executor = taskScheduler.getScheduledThreadPoolExecutor();
+        // Periodic @Scheduled jobs stay queued, so only tasks that are already due count
+        await().atMost(Duration.ofSeconds(5)).until(() -> executor.getActiveCount() == 0
+                && executor.getQueue().stream().allMatch(task -> ((Delayed) task).getDelay(TimeUnit.MILLISECONDS) > 0));
+    }
+}
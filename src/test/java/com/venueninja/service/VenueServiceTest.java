@@ -2,6 +2,11 @@ package com.venueninja.service;
 
 import com.venueninja.model.Venue;
 import com.venueninja.model.SeatRecommendation;
+import com.venueninja.model.VenueLookup;
+import com.venueninja.model.VenuePage;
+import com.venueninja.model.VenueSummary;
+import com.venueninja.model.VenueSummaryPage;
+import com.venueninja.model.VenueView;
 import com.venueninja.repository.VenueRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -10,8 +15,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Limit;
 
+import java.time.Instant;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,12 +35,18 @@ class VenueServiceTest {
     @Mock
     private VenueRepository venueRepository;
 
+    @Mock
+    private VenueCatalogSnapshotService snapshotService;
+
+    @Mock
+    private CacheManager cacheManager;
+
     @InjectMocks
     private VenueService venueService;
 
-    private Venue madisonSquareGarden;
-    private Venue yankeeStadium;
-    private List<Venue> allVenues;
+    private VenueView madisonSquareGarden;
+    private VenueView yankeeStadium;
+    private List<VenueView> allVenues;
 
     @BeforeEach
     void setUp() {
@@ -50,15 +65,17 @@ class VenueServiceTest {
         msgRecommendation2.setEstimatedPrice("$75");
         msgRecommendation2.setTip("Bring binoculars for optimal viewing");
 
-        madisonSquareGarden = new Venue();
-        madisonSquareGarden.setId("msg");
-        madisonSquareGarden.setName("Madison Square Garden");
-        madisonSquareGarden.setRecommendations(Arrays.asList(msgRecommendation1, msgRecommendation2));
+        Venue msg = new Venue();
+        msg.setId("msg");
+        msg.setName("Madison Square Garden");
+        msg.setRecommendations(Arrays.asList(msgRecommendation1, msgRecommendation2));
+        madisonSquareGarden = VenueView.of(msg);
 
-        yankeeStadium = new Venue();
-        yankeeStadium.setId("yankee");
-        yankeeStadium.setName("Yankee Stadium");
-        yankeeStadium.setRecommendations(Arrays.asList());
+        Venue yankee = new Venue();
+        yankee.setId("yankee");
+        yankee.setName("Yankee Stadium");
+        yankee.setRecommendations(Arrays.asList());
+        yankeeStadium = VenueView.of(yankee);
 
         allVenues = Arrays.asList(madisonSquareGarden, yankeeStadium);
     }
@@ -67,16 +84,16 @@ class VenueServiceTest {
     @DisplayName("Should return all venues when repository has data")
     void getAllVenues_WhenVenuesExist_ShouldReturnAllVenues() {
         // Arrange
-        when(venueRepository.findAll()).thenReturn(allVenues);
+        when(venueRepository.findAllViews()).thenReturn(allVenues);
 
         // Act
-        List<Venue> result = venueService.getAllVenues();
+        List<VenueView> result = venueService.getAllVenues();
 
         // Assert
         assertThat(result).isNotNull();
         assertThat(result).hasSize(2);
         assertThat(result).containsExactlyInAnyOrder(madisonSquareGarden, yankeeStadium);
-        verify(venueRepository).findAll();
+        verify(venueRepository).findAllViews();
         verifyNoMoreInteractions(venueRepository);
     }
 
@@ -84,15 +101,15 @@ class VenueServiceTest {
     @DisplayName("Should return empty list when repository has no data")
     void getAllVenues_WhenNoVenuesExist_ShouldReturnEmptyList() {
         // Arrange
-        when(venueRepository.findAll()).thenReturn(Arrays.asList());
+        when(venueRepository.findAllViews()).thenReturn(Arrays.asList());
 
         // Act
-        List<Venue> result = venueService.getAllVenues();
+        List<VenueView> result = venueService.getAllVenues();
 
         // Assert
         assertThat(result).isNotNull();
         assertThat(result).isEmpty();
-        verify(venueRepository).findAll();
+        verify(venueRepository).findAllViews();
         verifyNoMoreInteractions(venueRepository);
     }
 
@@ -101,17 +118,17 @@ class VenueServiceTest {
     void getVenue_WhenVenueExists_ShouldReturnVenue() {
         // Arrange
         String venueId = "msg";
-        when(venueRepository.findById(venueId)).thenReturn(Optional.of(madisonSquareGarden));
+        when(venueRepository.findViewById(venueId)).thenReturn(Optional.of(madisonSquareGarden));
 
         // Act
-        Venue result = venueService.getVenue(venueId);
+        VenueView result = venueService.getVenue(venueId);
 
         // Assert
         assertThat(result).isNotNull();
-        assertThat(result.getId()).isEqualTo("msg");
-        assertThat(result.getName()).isEqualTo("Madison Square Garden");
-        assertThat(result.getRecommendations()).hasSize(2);
-        verify(venueRepository).findById(venueId);
+        assertThat(result.id()).isEqualTo("msg");
+        assertThat(result.name()).isEqualTo("Madison Square Garden");
+        assertThat(result.recommendations()).hasSize(2);
+        verify(venueRepository).findViewById(venueId);
         verifyNoMoreInteractions(venueRepository);
     }
 
@@ -120,14 +137,14 @@ class VenueServiceTest {
     void getVenue_WhenVenueDoesNotExist_ShouldThrowException() {
         // Arrange
         String venueId = "nonexistent";
-        when(venueRepository.findById(venueId)).thenReturn(Optional.empty());
+        when(venueRepository.findViewById(venueId)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThatThrownBy(() -> venueService.getVenue(venueId))
             .isInstanceOf(RuntimeException.class)
             .hasMessageContaining("Venue not found with id: " + venueId);
         
-        verify(venueRepository).findById(venueId);
+        verify(venueRepository).findViewById(venueId);
         verifyNoMoreInteractions(venueRepository);
     }
 
@@ -138,14 +155,14 @@ class VenueServiceTest {
         // Arrange
         @SuppressWarnings("all")
         String venueId = null;
-        when(venueRepository.findById(null)).thenReturn(Optional.empty());
+        when(venueRepository.findViewById(null)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThatThrownBy(() -> venueService.getVenue(venueId))
             .isInstanceOf(RuntimeException.class)
             .hasMessageContaining("Venue not found with id: null");
         
-        verify(venueRepository).findById(null);
+        verify(venueRepository).findViewById(null);
         verifyNoMoreInteractions(venueRepository);
     }
 
@@ -154,14 +171,14 @@ class VenueServiceTest {
     void getVenue_WhenVenueIdIsEmpty_ShouldThrowException() {
         // Arrange
         String venueId = "";
-        when(venueRepository.findById("")).thenReturn(Optional.empty());
+        when(venueRepository.findViewById("")).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThatThrownBy(() -> venueService.getVenue(venueId))
             .isInstanceOf(RuntimeException.class)
             .hasMessageContaining("Venue not found with id: ");
         
-        verify(venueRepository).findById("");
+        verify(venueRepository).findViewById("");
         verifyNoMoreInteractions(venueRepository);
     }
 
@@ -170,17 +187,17 @@ class VenueServiceTest {
     void getVenue_WhenVenueHasNoRecommendations_ShouldReturnVenue() {
         // Arrange
         String venueId = "yankee";
-        when(venueRepository.findById(venueId)).thenReturn(Optional.of(yankeeStadium));
+        when(venueRepository.findViewById(venueId)).thenReturn(Optional.of(yankeeStadium));
 
         // Act
-        Venue result = venueService.getVenue(venueId);
+        VenueView result = venueService.getVenue(venueId);
 
         // Assert
         assertThat(result).isNotNull();
-        assertThat(result.getId()).isEqualTo("yankee");
-        assertThat(result.getName()).isEqualTo("Yankee Stadium");
-        assertThat(result.getRecommendations()).isEmpty();
-        verify(venueRepository).findById(venueId);
+        assertThat(result.id()).isEqualTo("yankee");
+        assertThat(result.name()).isEqualTo("Yankee Stadium");
+        assertThat(result.recommendations()).isEmpty();
+        verify(venueRepository).findViewById(venueId);
         verifyNoMoreInteractions(venueRepository);
     }
 
@@ -189,14 +206,14 @@ class VenueServiceTest {
     void getAllVenues_WhenRepositoryThrowsException_ShouldPropagateException() {
         // Arrange
         RuntimeException repositoryException = new RuntimeException("Database connection failed");
-        when(venueRepository.findAll()).thenThrow(repositoryException);
+        when(venueRepository.findAllViews()).thenThrow(repositoryException);
 
         // Act & Assert
         assertThatThrownBy(() -> venueService.getAllVenues())
             .isInstanceOf(RuntimeException.class)
             .isEqualTo(repositoryException);
         
-        verify(venueRepository).findAll();
+        verify(venueRepository).findAllViews();
         verifyNoMoreInteractions(venueRepository);
     }
 
@@ -206,14 +223,115 @@ class VenueServiceTest {
         // Arrange
         String venueId = "msg";
         RuntimeException repositoryException = new RuntimeException("Database connection failed");
-        when(venueRepository.findById(venueId)).thenThrow(repositoryException);
+        when(venueRepository.findViewById(venueId)).thenThrow(repositoryException);
 
         // Act & Assert
         assertThatThrownBy(() -> venueService.getVenue(venueId))
             .isInstanceOf(RuntimeException.class)
             .isEqualTo(repositoryException);
         
-        verify(venueRepository).findById(venueId);
+        verify(venueRepository).findViewById(venueId);
+        verifyNoMoreInteractions(venueRepository);
+    }
+
+    @Test
+    @DisplayName("Should serve venues from the catalog snapshot without touching the repository")
+    void getAllVenues_WhenSnapshotServing_ShouldNotQueryRepository() {
+        // Arrange
+        VenueCatalogSnapshot snapshot = VenueCatalogSnapshot.of(allVenues, Instant.now());
+        when(snapshotService.isServing()).thenReturn(true);
+        when(snapshotService.current()).thenReturn(snapshot);
+
+        // Act
+        List<VenueView> result = venueService.getAllVenues();
+        VenueView venue = venueService.getVenue("msg");
+
+        // Assert
+        assertThat(result).extracting("id").containsExactly("msg", "yankee");
+        assertThat(venue.recommendations()).hasSize(2);
+        assertThatThrownBy(() -> venueService.getVenue("nonexistent"))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessageContaining("Venue not found with id: nonexistent");
+        verifyNoInteractions(venueRepository);
+    }
+
+    @Test
+    @DisplayName("Should return a keyset page with a next cursor when more venues follow")
+    void getVenuePage_WhenMoreVenuesFollow_ShouldReturnNextAfterId() {
+        // Arrange
+        when(venueRepository.findIds(Limit.of(2))).thenReturn(List.of("msg", "yankee"));
+        when(venueRepository.findViewsByIdIn(List.of("msg"))).thenReturn(List.of(madisonSquareGarden));
+
+        // Act
+        VenuePage page = venueService.getVenuePage(null, 1);
+
+        // Assert
+        assertThat(page.venues()).containsExactly(madisonSquareGarden);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.nextAfterId()).isEqualTo("msg");
+    }
+
+    @Test
+    @DisplayName("Should return the last keyset page without a next cursor")
+    void getVenuePage_WhenLastPage_ShouldHaveNoNext() {
+        // Arrange
+        when(venueRepository.findIdsAfter("msg", Limit.of(3))).thenReturn(List.of("yankee"));
+        when(venueRepository.findViewsByIdIn(List.of("yankee"))).thenReturn(List.of(yankeeStadium));
+
+        // Act
+        VenuePage page = venueService.getVenuePage("msg", 2);
+
+        // Assert
+        assertThat(page.venues()).containsExactly(yankeeStadium);
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should not fetch venues when the keyset page is empty")
+    void getVenuePage_WhenNoVenuesAfterCursor_ShouldSkipFetch() {
+        // Arrange
+        when(venueRepository.findIdsAfter("zzz", Limit.of(3))).thenReturn(List.of());
+
+        // Act
+        VenuePage page = venueService.getVenuePage("zzz", 2);
+
+        // Assert
+        assertThat(page.venues()).isEmpty();
+        assertThat(page.hasNext()).isFalse();
+        verify(venueRepository).findIdsAfter("zzz", Limit.of(3));
+        verifyNoMoreInteractions(venueRepository);
+    }
+
+    @Test
+    @DisplayName("Should resolve several venues with one query, in request order, reporting missing ids")
+    void getVenues_ShouldKeepRequestOrderAndReportMissing() {
+        // Arrange
+        when(venueRepository.findViewsByIdIn(new LinkedHashSet<>(List.of("yankee", "nope", "msg"))))
+                .thenReturn(List.of(madisonSquareGarden, yankeeStadium));
+
+        // Act
+        VenueLookup lookup = venueService.getVenues(List.of("yankee", "nope", "msg", "yankee"));
+
+        // Assert
+        assertThat(lookup.venues()).containsExactly(yankeeStadium, madisonSquareGarden);
+        assertThat(lookup.missingIds()).containsExactly("nope");
+        verify(venueRepository, times(1)).findViewsByIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should build summary pages from the id/name projection only")
+    void getVenueSummaryPage_ShouldUseProjection() {
+        // Arrange
+        when(venueRepository.findSummaries(Limit.of(2))).thenReturn(List.of(
+                new VenueSummary("msg", "Madison Square Garden"), new VenueSummary("yankee", "Yankee Stadium")));
+
+        // Act
+        VenueSummaryPage page = venueService.getVenueSummaryPage(null, 1);
+
+        // Assert
+        assertThat(page.venues()).extracting(VenueSummary::id).containsExactly("msg");
+        assertThat(page.nextAfterId()).isEqualTo("msg");
+        verify(venueRepository).findSummaries(Limit.of(2));
         verifyNoMoreInteractions(venueRepository);
     }
-} 
\ No newline at end of file
+}
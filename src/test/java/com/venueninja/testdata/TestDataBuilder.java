@@ -3,6 +3,7 @@ package com.venueninja.testdata;
 import com.venueninja.model.Venue;
 import com.venueninja.model.SeatRecommendation;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -219,6 +220,21 @@ public class TestDataBuilder {
         );
     }
 
+    /**
+     * Creates {@code count} venues with ids venue-0000, venue-0001, ... and sample recommendations
+     */
+    public static List<Venue> createGeneratedVenues(int count, int recommendationsPerVenue) {
+        List<Venue> venues = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            List<SeatRecommendation> recommendations = new ArrayList<>(recommendationsPerVenue);
+            for (int j = 0; j < recommendationsPerVenue; j++) {
+                recommendations.add(createSampleSeatRecommendation());
+            }
+            venues.add(new Venue(String.format("venue-%04d", i), "Generated Venue " + i, recommendations));
+        }
+        return venues;
+    }
+
     /**
      * Creates a single seat recommendation
      */